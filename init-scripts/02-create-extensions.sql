@@ -0,0 +1,7 @@
+-- =====================================================
+-- SCRIPT 2: EXTENSIONES (requieren superusuario)
+-- =====================================================
+
+-- Búsqueda por trigramas y sin acentos
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -48,9 +49,9 @@ public interface AuthRepository extends JpaRepository<Auth, Long> {
     @Query("UPDATE Auth a SET a.recuperationTkn = null, a.recuperationTknExp = null WHERE a.recuperationTknExp < :now")
     void clearExpiredRecuperationTokens(@Param("now") LocalDateTime now);
 
-    @Query("SELECT COUNT(a) FROM Auth a WHERE a.enabled = true")
-    Long countEnabledUsers();
-
-    @Query("SELECT COUNT(a) FROM Auth a WHERE a.loginAttempts >= :maxAttempts")
-    Long countLockedAccounts(@Param("maxAttempts") Integer maxAttempts);
+    // Estadísticas en una sola pasada: total, habilitadas y bloqueadas por intentos fallidos
+    @Query("SELECT COUNT(a), COUNT(a) FILTER (WHERE a.enabled = true), " +
+            "COUNT(a) FILTER (WHERE a.loginAttempts >= :maxAttempts) " +
+            "FROM Auth a")
+    List<Object[]> getStatsSnapshot(@Param("maxAttempts") Integer maxAttempts);
 }
@@ -13,6 +13,8 @@ import com.isaiiapp.backend.auth.v1.exception.InvalidTokenException;
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
 import com.isaiiapp.backend.auth.v1.users.model.Users;
 import com.isaiiapp.backend.auth.v1.users.repository.UsersRepository;
+import com.isaiiapp.backend.stats.v1.service.StatsSnapshotService;
+import com.isaiiapp.backend.stats.v1.service.StatsValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,6 +37,7 @@ public class AuthServiceImpl implements AuthService {
     private final AuthMapper authMapper;
     private final PasswordEncoder passwordEncoder;
     private final TokenGenerator tokenGenerator;
+    private final StatsSnapshotService statsSnapshotService;
 
     private static final int RECUPERATION_TOKEN_EXPIRY_HOURS = 24;
 
@@ -309,11 +312,17 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional(readOnly = true)
     public AuthStatsResponse getAuthStats() {
-        Long totalAccounts = authRepository.count();
-        Long enabledAccounts = authRepository.countEnabledUsers();
-        Long disabledAccounts = totalAccounts - enabledAccounts;
-        Long lockedAccounts = authRepository.countLockedAccounts(5); // Assuming max 5 attempts
-
-        return new AuthStatsResponse(totalAccounts, enabledAccounts, disabledAccounts, lockedAccounts);
+        return statsSnapshotService.getSnapshot("auth", () -> {
+            Object[] row = authRepository.getStatsSnapshot(5).get(0); // Assuming max 5 attempts
+            long totalAccounts = StatsValues.toLong(row[0]);
+            long enabledAccounts = StatsValues.toLong(row[1]);
+
+            return new AuthStatsResponse(
+                    totalAccounts,
+                    enabledAccounts,
+                    totalAccounts - enabledAccounts,
+                    StatsValues.toLong(row[2])
+            );
+        });
     }
 }
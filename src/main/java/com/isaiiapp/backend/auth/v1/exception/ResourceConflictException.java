@@ -0,0 +1,8 @@
+package com.isaiiapp.backend.auth.v1.exception;
+
+public class ResourceConflictException extends RuntimeException {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+}
@@ -8,8 +8,12 @@ import com.isaiiapp.backend.auth.v1.permission.dto.response.PermissionResponse;
 import com.isaiiapp.backend.auth.v1.permission.mapper.PermissionMapper;
 import com.isaiiapp.backend.auth.v1.permission.model.Permission;
 import com.isaiiapp.backend.auth.v1.permission.repository.PermissionRepository;
+import com.isaiiapp.backend.auth.v1.rbac.event.RbacDefinitionsChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacGraph;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +30,8 @@ public class PermissionServiceImpl implements PermissionService {
 
     private final PermissionRepository permissionRepository;
     private final PermissionMapper permissionMapper;
+    private final RbacService rbacService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public PermissionResponse createPermission(CreatePermissionRequest request) {
@@ -38,6 +44,7 @@ public class PermissionServiceImpl implements PermissionService {
 
         Permission permission = permissionMapper.toEntity(request);
         Permission savedPermission = permissionRepository.save(permission);
+        eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
 
         log.info("Permission created successfully with id: {}", savedPermission.getId());
         return permissionMapper.toResponse(savedPermission);
@@ -74,8 +81,9 @@ public class PermissionServiceImpl implements PermissionService {
         }
 
         // Actualizar campos solo si no son null
-        if (request.getName() != null) {
+        if (request.getName() != null && !existingPermission.getName().equals(request.getName())) {
             existingPermission.setName(request.getName());
+            eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
         }
         if (request.getDescription() != null) {
             existingPermission.setDescription(request.getDescription());
@@ -101,6 +109,7 @@ public class PermissionServiceImpl implements PermissionService {
         }
 
         permissionRepository.delete(permission);
+        eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
         log.info("Permission deleted successfully with id: {}", id);
     }
 
@@ -206,34 +215,28 @@ public class PermissionServiceImpl implements PermissionService {
     @Transactional(readOnly = true)
     public boolean userHasPermission(Long userId, String permissionName) {
         log.info("Checking if user {} has permission: {}", userId, permissionName);
-        List<Permission> userPermissions = permissionRepository.findPermissionsByUserIdList(userId);
-        return userPermissions.stream()
-                .anyMatch(permission -> permission.getName().equals(permissionName));
+        return rbacService.getGraph().userHasPermission(userId, permissionName);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean userHasAnyPermission(Long userId, List<String> permissionNames) {
         log.info("Checking if user {} has any of permissions: {}", userId, permissionNames);
-        List<Permission> userPermissions = permissionRepository.findPermissionsByUserIdList(userId);
-        List<String> userPermissionNames = userPermissions.stream()
-                .map(Permission::getName)
-                .toList();
-
-        return permissionNames.stream()
-                .anyMatch(userPermissionNames::contains);
+        RbacGraph graph = rbacService.getGraph();
+        return graph.userHasAnyPermission(userId, graph.permissionMask(permissionNames));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean userHasAllPermissions(Long userId, List<String> permissionNames) {
         log.info("Checking if user {} has all permissions: {}", userId, permissionNames);
-        List<Permission> userPermissions = permissionRepository.findPermissionsByUserIdList(userId);
-        List<String> userPermissionNames = userPermissions.stream()
-                .map(Permission::getName)
-                .toList();
+        RbacGraph graph = rbacService.getGraph();
 
-        return userPermissionNames.containsAll(permissionNames);
+        // Un permiso que no existe nunca está concedido
+        if (!permissionNames.stream().allMatch(graph::containsPermissionName)) {
+            return false;
+        }
+        return graph.userHasAllPermissions(userId, graph.permissionMask(permissionNames));
     }
 
     @Override
@@ -253,6 +256,7 @@ public class PermissionServiceImpl implements PermissionService {
                 permission.setName(permissionName);
                 permission.setDescription("Default system permission: " + permissionName);
                 permissionRepository.save(permission);
+                eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
                 log.info("Created default permission: {}", permissionName);
             }
         }
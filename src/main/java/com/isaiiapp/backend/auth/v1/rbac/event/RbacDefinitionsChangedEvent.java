@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.auth.v1.rbac.event;
+
+/**
+ * Evento publicado cuando se crean, renombran o eliminan roles o permisos (cambian los índices de bits)
+ */
+public record RbacDefinitionsChangedEvent() {
+}
@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.auth.v1.rbac.event;
+
+/**
+ * Evento publicado cuando cambian en bloque los usuarios que tienen un rol
+ */
+public record RoleMembersChangedEvent(Long roleId) {
+}
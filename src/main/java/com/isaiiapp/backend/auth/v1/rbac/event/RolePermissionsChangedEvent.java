@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.auth.v1.rbac.event;
+
+/**
+ * Evento publicado cuando cambian los permisos asignados a un rol
+ */
+public record RolePermissionsChangedEvent(Long roleId) {
+}
@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.auth.v1.rbac.event;
+
+/**
+ * Evento publicado cuando cambian los roles asignados a un usuario (o se elimina el usuario)
+ */
+public record UserRolesChangedEvent(Long userId) {
+}
@@ -0,0 +1,326 @@
+package com.isaiiapp.backend.auth.v1.rbac.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot inmutable del modelo RBAC: cada rol es un bitset de permisos y cada usuario un bitset de roles
+ * (más el bitset de permisos efectivos ya combinado), así toda verificación es trabajo de bits sin consultas.
+ * Nunca se modifica: cada cambio construye uno nuevo con una versión mayor, reutilizando lo que no cambió.
+ * Los BitSet internos no se exponen ni se modifican después de construidos.
+ */
+public final class RbacGraph {
+
+    private final long version;
+    private final Map<Long, Integer> roleIndexById;
+    private final Map<String, Integer> roleIndexByName;
+    private final Map<Long, Integer> permissionIndexById;
+    private final Map<String, Integer> permissionIndexByName;
+    private final List<String> permissionNames;
+    private final BitSet[] rolePermissions;
+    private final Map<Long, UserGrants> users;
+
+    private RbacGraph(long version,
+                      Map<Long, Integer> roleIndexById,
+                      Map<String, Integer> roleIndexByName,
+                      Map<Long, Integer> permissionIndexById,
+                      Map<String, Integer> permissionIndexByName,
+                      List<String> permissionNames,
+                      BitSet[] rolePermissions,
+                      Map<Long, UserGrants> users) {
+        this.version = version;
+        this.roleIndexById = roleIndexById;
+        this.roleIndexByName = roleIndexByName;
+        this.permissionIndexById = permissionIndexById;
+        this.permissionIndexByName = permissionIndexByName;
+        this.permissionNames = permissionNames;
+        this.rolePermissions = rolePermissions;
+        this.users = users;
+    }
+
+    public static RbacGraph empty() {
+        return build(0L, List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Construcción completa: asigna un bit por rol y por permiso (ordenados por id)
+     */
+    public static RbacGraph build(long version,
+                                  Collection<Definition> roles,
+                                  Collection<Definition> permissions,
+                                  Collection<Long[]> rolePermissionIds,
+                                  Collection<Long[]> userRoleIds) {
+        Map<Long, Integer> roleIndexById = new HashMap<>();
+        Map<String, Integer> roleIndexByName = new HashMap<>();
+        List<Definition> sortedRoles = roles.stream().sorted(Comparator.comparing(Definition::id)).toList();
+        for (int i = 0; i < sortedRoles.size(); i++) {
+            roleIndexById.put(sortedRoles.get(i).id(), i);
+            roleIndexByName.put(sortedRoles.get(i).name(), i);
+        }
+
+        Map<Long, Integer> permissionIndexById = new HashMap<>();
+        Map<String, Integer> permissionIndexByName = new HashMap<>();
+        List<Definition> sortedPermissions = permissions.stream().sorted(Comparator.comparing(Definition::id)).toList();
+        for (int i = 0; i < sortedPermissions.size(); i++) {
+            permissionIndexById.put(sortedPermissions.get(i).id(), i);
+            permissionIndexByName.put(sortedPermissions.get(i).name(), i);
+        }
+
+        BitSet[] rolePermissions = new BitSet[sortedRoles.size()];
+        for (int i = 0; i < rolePermissions.length; i++) {
+            rolePermissions[i] = new BitSet();
+        }
+        for (Long[] pair : rolePermissionIds) {
+            Integer role = roleIndexById.get(pair[0]);
+            Integer permission = permissionIndexById.get(pair[1]);
+            if (role != null && permission != null) {
+                rolePermissions[role].set(permission);
+            }
+        }
+
+        Map<Long, BitSet> userRoles = new HashMap<>();
+        for (Long[] pair : userRoleIds) {
+            Integer role = roleIndexById.get(pair[1]);
+            if (role != null) {
+                userRoles.computeIfAbsent(pair[0], id -> new BitSet()).set(role);
+            }
+        }
+
+        RbacGraph base = new RbacGraph(version, Map.copyOf(roleIndexById), Map.copyOf(roleIndexByName),
+                Map.copyOf(permissionIndexById), Map.copyOf(permissionIndexByName),
+                sortedPermissions.stream().map(Definition::name).toList(), rolePermissions, Map.of());
+
+        Map<Long, UserGrants> users = new HashMap<>();
+        userRoles.forEach((userId, bits) -> users.put(userId, base.grantsFor(bits)));
+        return base.withUsers(version, users);
+    }
+
+    /**
+     * Reemplazar los roles de un usuario (sin roles se elimina del grafo)
+     */
+    public RbacGraph withUserRoles(long newVersion, Long userId, Collection<Long> roleIds) {
+        BitSet roles = toRoleBits(roleIds);
+        Map<Long, UserGrants> updated = new HashMap<>(users);
+        if (roles.isEmpty()) {
+            updated.remove(userId);
+        } else {
+            updated.put(userId, grantsFor(roles));
+        }
+        return withUsers(newVersion, updated);
+    }
+
+    /**
+     * Reemplazar los permisos de un rol y recombinar solo los usuarios que lo tienen
+     */
+    public RbacGraph withRolePermissions(long newVersion, Long roleId, Collection<Long> permissionIds) {
+        Integer role = roleIndexById.get(roleId);
+        if (role == null) {
+            return this;
+        }
+
+        BitSet permissions = new BitSet();
+        for (Long permissionId : permissionIds) {
+            Integer permission = permissionIndexById.get(permissionId);
+            if (permission != null) {
+                permissions.set(permission);
+            }
+        }
+
+        BitSet[] updatedRolePermissions = rolePermissions.clone();
+        updatedRolePermissions[role] = permissions;
+        RbacGraph base = new RbacGraph(newVersion, roleIndexById, roleIndexByName, permissionIndexById,
+                permissionIndexByName, permissionNames, updatedRolePermissions, users);
+
+        Map<Long, UserGrants> updated = new HashMap<>(users);
+        users.forEach((userId, grants) -> {
+            if (grants.roles().get(role)) {
+                updated.put(userId, base.grantsFor(grants.roles()));
+            }
+        });
+        return base.withUsers(newVersion, updated);
+    }
+
+    /**
+     * Reemplazar el conjunto de usuarios que tienen un rol (cambios en bloque)
+     */
+    public RbacGraph withRoleMembers(long newVersion, Long roleId, Set<Long> userIds) {
+        Integer role = roleIndexById.get(roleId);
+        if (role == null) {
+            return this;
+        }
+
+        Map<Long, UserGrants> updated = new HashMap<>(users);
+        users.forEach((userId, grants) -> {
+            if (grants.roles().get(role) != userIds.contains(userId)) {
+                BitSet roles = (BitSet) grants.roles().clone();
+                roles.flip(role);
+                if (roles.isEmpty()) {
+                    updated.remove(userId);
+                } else {
+                    updated.put(userId, grantsFor(roles));
+                }
+            }
+        });
+        for (Long userId : userIds) {
+            if (!users.containsKey(userId)) {
+                BitSet roles = new BitSet();
+                roles.set(role);
+                updated.put(userId, grantsFor(roles));
+            }
+        }
+        return withUsers(newVersion, updated);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean containsRole(Long roleId) {
+        return roleId != null && roleIndexById.containsKey(roleId);
+    }
+
+    public boolean containsRoleName(String roleName) {
+        return roleName != null && roleIndexByName.containsKey(roleName);
+    }
+
+    public boolean containsPermissionName(String permissionName) {
+        return permissionName != null && permissionIndexByName.containsKey(permissionName);
+    }
+
+    /**
+     * Usuarios con al menos un rol (los demás pueden existir, pero no tienen permisos)
+     */
+    public boolean containsUser(Long userId) {
+        return userId != null && users.containsKey(userId);
+    }
+
+    /**
+     * Máscara de roles para los nombres conocidos (los desconocidos se ignoran)
+     */
+    public BitSet roleMask(Collection<String> roleNames) {
+        return toBits(roleNames, roleIndexByName);
+    }
+
+    /**
+     * Máscara de permisos para los nombres conocidos (los desconocidos se ignoran)
+     */
+    public BitSet permissionMask(Collection<String> permissionNames) {
+        return toBits(permissionNames, permissionIndexByName);
+    }
+
+    public boolean userHasRole(Long userId, Long roleId) {
+        Integer role = roleIndexById.get(roleId);
+        UserGrants grants = users.get(userId);
+        return role != null && grants != null && grants.roles().get(role);
+    }
+
+    public boolean userHasRole(Long userId, String roleName) {
+        Integer role = roleIndexByName.get(roleName);
+        UserGrants grants = users.get(userId);
+        return role != null && grants != null && grants.roles().get(role);
+    }
+
+    public boolean userHasAnyRole(Long userId, BitSet roleMask) {
+        UserGrants grants = users.get(userId);
+        return grants != null && grants.roles().intersects(roleMask);
+    }
+
+    public boolean userHasAllRoles(Long userId, BitSet roleMask) {
+        UserGrants grants = users.get(userId);
+        return containsAll(grants != null ? grants.roles() : null, roleMask);
+    }
+
+    public boolean userHasPermission(Long userId, String permissionName) {
+        Integer permission = permissionIndexByName.get(permissionName);
+        UserGrants grants = users.get(userId);
+        return permission != null && grants != null && grants.permissions().get(permission);
+    }
+
+    public boolean userHasAnyPermission(Long userId, BitSet permissionMask) {
+        UserGrants grants = users.get(userId);
+        return grants != null && grants.permissions().intersects(permissionMask);
+    }
+
+    public boolean userHasAllPermissions(Long userId, BitSet permissionMask) {
+        UserGrants grants = users.get(userId);
+        return containsAll(grants != null ? grants.permissions() : null, permissionMask);
+    }
+
+    public boolean roleHasPermission(Long roleId, Long permissionId) {
+        Integer role = roleIndexById.get(roleId);
+        Integer permission = permissionIndexById.get(permissionId);
+        return role != null && permission != null && rolePermissions[role].get(permission);
+    }
+
+    public boolean roleHasPermission(Long roleId, String permissionName) {
+        Integer role = roleIndexById.get(roleId);
+        Integer permission = permissionIndexByName.get(permissionName);
+        return role != null && permission != null && rolePermissions[role].get(permission);
+    }
+
+    /**
+     * Nombres de los permisos efectivos del usuario (precalculados; lista inmutable)
+     */
+    public List<String> getPermissionNames(Long userId) {
+        UserGrants grants = users.get(userId);
+        return grants != null ? grants.permissionNames() : List.of();
+    }
+
+    private RbacGraph withUsers(long newVersion, Map<Long, UserGrants> updatedUsers) {
+        return new RbacGraph(newVersion, roleIndexById, roleIndexByName, permissionIndexById,
+                permissionIndexByName, permissionNames, rolePermissions, Map.copyOf(updatedUsers));
+    }
+
+    private UserGrants grantsFor(BitSet roles) {
+        BitSet permissions = new BitSet();
+        for (int role = roles.nextSetBit(0); role >= 0; role = roles.nextSetBit(role + 1)) {
+            permissions.or(rolePermissions[role]);
+        }
+        return new UserGrants(roles, permissions, permissions.stream().mapToObj(permissionNames::get).toList());
+    }
+
+    private BitSet toRoleBits(Collection<Long> roleIds) {
+        BitSet bits = new BitSet();
+        for (Long roleId : roleIds) {
+            Integer role = roleIndexById.get(roleId);
+            if (role != null) {
+                bits.set(role);
+            }
+        }
+        return bits;
+    }
+
+    private static BitSet toBits(Collection<String> names, Map<String, Integer> index) {
+        BitSet bits = new BitSet();
+        for (String name : names) {
+            Integer bit = name != null ? index.get(name) : null;
+            if (bit != null) {
+                bits.set(bit);
+            }
+        }
+        return bits;
+    }
+
+    private static boolean containsAll(BitSet granted, BitSet mask) {
+        if (mask.isEmpty()) {
+            return true;
+        }
+        if (granted == null) {
+            return false;
+        }
+        BitSet missing = (BitSet) mask.clone();
+        missing.andNot(granted);
+        return missing.isEmpty();
+    }
+
+    public record Definition(Long id, String name) {
+    }
+
+    private record UserGrants(BitSet roles, BitSet permissions, List<String> permissionNames) {
+    }
+}
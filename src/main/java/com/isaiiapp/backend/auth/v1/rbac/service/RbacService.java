@@ -0,0 +1,17 @@
+package com.isaiiapp.backend.auth.v1.rbac.service;
+
+/**
+ * Modelo RBAC en memoria (roles → bitset de permisos, usuarios → bitset de roles) versionado y con copia en escritura
+ */
+public interface RbacService {
+
+    /**
+     * Obtener el snapshot vigente (inmutable; capturarlo una vez por operación)
+     */
+    RbacGraph getGraph();
+
+    /**
+     * Reconstruir el grafo completo desde la base de datos y reemplazarlo de forma atómica
+     */
+    void rebuild();
+}
@@ -0,0 +1,100 @@
+package com.isaiiapp.backend.auth.v1.rbac.service;
+
+import com.isaiiapp.backend.auth.v1.permission.repository.PermissionRepository;
+import com.isaiiapp.backend.auth.v1.rbac.event.RbacDefinitionsChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.event.RoleMembersChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.event.RolePermissionsChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.event.UserRolesChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacGraph.Definition;
+import com.isaiiapp.backend.auth.v1.roles.repository.RolesRepository;
+import com.isaiiapp.backend.auth.v1.rolespermission.repository.RolesPermissionRepository;
+import com.isaiiapp.backend.auth.v1.usersroles.repository.UsersRolesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RbacServiceImpl implements RbacService {
+
+    private final RolesRepository rolesRepository;
+    private final PermissionRepository permissionRepository;
+    private final RolesPermissionRepository rolesPermissionRepository;
+    private final UsersRolesRepository usersRolesRepository;
+
+    // Se reemplaza completo en cada cambio; los lectores nunca ven un grafo a medio actualizar
+    private volatile RbacGraph graph = RbacGraph.empty();
+
+    @Override
+    public RbacGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        List<Definition> roles = rolesRepository.findAll().stream()
+                .map(role -> new Definition(role.getId(), role.getName()))
+                .toList();
+        List<Definition> permissions = permissionRepository.findAll().stream()
+                .map(permission -> new Definition(permission.getId(), permission.getName()))
+                .toList();
+        List<Long[]> rolePermissions = rolesPermissionRepository.findAllRolePermissionIds().stream()
+                .map(row -> new Long[]{(Long) row[0], (Long) row[1]})
+                .toList();
+        List<Long[]> userRoles = usersRolesRepository.findAllUserRoleIds().stream()
+                .map(row -> new Long[]{(Long) row[0], (Long) row[1]})
+                .toList();
+
+        graph = RbacGraph.build(nextVersion(), roles, permissions, rolePermissions, userRoles);
+        log.debug("RBAC graph rebuilt with version {}: {} roles, {} permissions, {} user-role assignments",
+                graph.getVersion(), roles.size(), permissions.size(), userRoles.size());
+    }
+
+    // Después de los CommandLineRunner, así incluye roles, permisos y asignaciones iniciales
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        log.info("RBAC graph loaded with version {}", graph.getVersion());
+    }
+
+    // Solo después del commit, para no aplicar cambios que luego se revierten
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserRolesChanged(UserRolesChangedEvent event) {
+        List<Long> roleIds = usersRolesRepository.findRoleIdsByUserId(event.userId());
+        graph = graph.withUserRoles(nextVersion(), event.userId(), roleIds);
+        log.debug("RBAC graph updated to version {} for user ID: {}", graph.getVersion(), event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRolePermissionsChanged(RolePermissionsChangedEvent event) {
+        List<Long> permissionIds = rolesPermissionRepository.findPermissionIdsByRoleId(event.roleId());
+        graph = graph.withRolePermissions(nextVersion(), event.roleId(), permissionIds);
+        log.debug("RBAC graph updated to version {} for role ID: {}", graph.getVersion(), event.roleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRoleMembersChanged(RoleMembersChangedEvent event) {
+        List<Long> userIds = usersRolesRepository.findUserIdsByRoleId(event.roleId());
+        graph = graph.withRoleMembers(nextVersion(), event.roleId(), new HashSet<>(userIds));
+        log.debug("RBAC graph updated to version {} for members of role ID: {}", graph.getVersion(), event.roleId());
+    }
+
+    // Roles o permisos nuevos/eliminados cambian los índices de bits: reconstrucción completa
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDefinitionsChanged(RbacDefinitionsChangedEvent event) {
+        log.debug("RBAC definitions changed, rebuilding graph");
+        rebuild();
+    }
+
+    private long nextVersion() {
+        // Versión basada en el reloj para que siga creciendo entre reinicios
+        return Math.max(graph.getVersion() + 1, System.currentTimeMillis());
+    }
+}
@@ -6,6 +6,7 @@ import com.isaiiapp.backend.auth.v1.permission.dto.response.PermissionResponse;
 import com.isaiiapp.backend.auth.v1.permission.mapper.PermissionMapper;
 import com.isaiiapp.backend.auth.v1.permission.model.Permission;
 import com.isaiiapp.backend.auth.v1.permission.repository.PermissionRepository;
+import com.isaiiapp.backend.auth.v1.rbac.event.RbacDefinitionsChangedEvent;
 import com.isaiiapp.backend.auth.v1.roles.dto.request.CreateRolesRequest;
 import com.isaiiapp.backend.auth.v1.roles.dto.request.UpdateRolesRequest;
 import com.isaiiapp.backend.auth.v1.roles.dto.response.RolesResponse;
@@ -16,6 +17,7 @@ import com.isaiiapp.backend.auth.v1.rolespermission.repository.RolesPermissionRe
 import com.isaiiapp.backend.auth.v1.usersroles.repository.UsersRolesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,6 +38,7 @@ public class RolesServiceImpl implements RolesService {
     private final PermissionMapper permissionMapper;
     private final RolesPermissionRepository rolesPermissionRepository;
     private final UsersRolesRepository usersRolesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RolesResponse createRole(CreateRolesRequest request) {
@@ -48,6 +51,7 @@ public class RolesServiceImpl implements RolesService {
 
         Roles role = rolesMapper.toEntity(request);
         Roles savedRole = rolesRepository.save(role);
+        eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
 
         log.info("Role created successfully with id: {}", savedRole.getId());
         return rolesMapper.toResponse(savedRole);
@@ -84,8 +88,9 @@ public class RolesServiceImpl implements RolesService {
         }
 
         // Actualizar campos solo si no son null
-        if (request.getName() != null) {
+        if (request.getName() != null && !existingRole.getName().equals(request.getName())) {
             existingRole.setName(request.getName());
+            eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
         }
         if (request.getDescription() != null) {
             existingRole.setDescription(request.getDescription());
@@ -114,6 +119,7 @@ public class RolesServiceImpl implements RolesService {
         rolesPermissionRepository.deleteByRoleId(id);
 
         rolesRepository.delete(role);
+        eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
         log.info("Role deleted successfully with id: {}", id);
     }
 
@@ -242,6 +248,7 @@ public class RolesServiceImpl implements RolesService {
                 role.setName(roleName);
                 role.setDescription(roleDescription);
                 rolesRepository.save(role);
+                eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
                 log.info("Created default role: {}", roleName);
             }
         }
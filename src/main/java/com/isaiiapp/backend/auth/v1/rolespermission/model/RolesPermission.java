@@ -7,7 +7,10 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(schema = "auth", name = "roles_permission",
@@ -22,7 +25,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
-public class RolesPermission {
+public class RolesPermission implements Persistable<RolesPermissionId> {
 
     @EmbeddedId
     @NotNull(message = "Id should not be null")
@@ -42,4 +45,21 @@ public class RolesPermission {
     @JoinColumn(name = "permission_id", nullable = false,
                 foreignKey = @ForeignKey(name = "fk_roles_permission_permission"))
     private Permission permission;
+
+    // Llave asignada: marca de entidad nueva para que save() haga persist() sin SELECT
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 }
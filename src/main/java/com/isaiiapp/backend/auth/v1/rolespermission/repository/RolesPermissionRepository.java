@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -46,4 +47,11 @@ public interface RolesPermissionRepository extends JpaRepository<RolesPermission
 
     @Query("SELECT COUNT(rp) FROM RolesPermission rp WHERE rp.permission.id = :permissionId")
     Long countByPermissionId(@Param("permissionId") Long permissionId);
+
+    // Filas (rol, permiso) para construir el grafo RBAC en memoria
+    @Query("SELECT rp.role.id, rp.permission.id FROM RolesPermission rp")
+    List<Object[]> findAllRolePermissionIds();
+
+    @Query("SELECT rp.permission.id FROM RolesPermission rp WHERE rp.role.id = :roleId")
+    List<Long> findPermissionIdsByRoleId(@Param("roleId") Long roleId);
 }
@@ -5,6 +5,10 @@ import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
 import com.isaiiapp.backend.auth.v1.permission.mapper.PermissionMapper;
 import com.isaiiapp.backend.auth.v1.permission.model.Permission;
 import com.isaiiapp.backend.auth.v1.permission.repository.PermissionRepository;
+import com.isaiiapp.backend.auth.v1.rbac.event.RbacDefinitionsChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.event.RolePermissionsChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacGraph;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacService;
 import com.isaiiapp.backend.auth.v1.roles.mapper.RolesMapper;
 import com.isaiiapp.backend.auth.v1.roles.model.Roles;
 import com.isaiiapp.backend.auth.v1.roles.repository.RolesRepository;
@@ -15,6 +19,7 @@ import com.isaiiapp.backend.auth.v1.rolespermission.model.RolesPermissionId;
 import com.isaiiapp.backend.auth.v1.rolespermission.repository.RolesPermissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +39,8 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
     private final PermissionRepository permissionRepository;
     private final RolesMapper rolesMapper;
     private final PermissionMapper permissionMapper;
+    private final RbacService rbacService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RolesPermissionResponse assignPermissionToRole(AssignRolePermissionRequest request) {
@@ -60,6 +67,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
         rolesPermission.setPermission(permission);
 
         RolesPermission savedRolesPermission = rolesPermissionRepository.save(rolesPermission);
+        eventPublisher.publishEvent(new RolePermissionsChangedEvent(request.getRoleId()));
         log.info("Permission assigned successfully to role. Role: {}, Permission: {}",
                 request.getRoleId(), request.getPermissionId());
 
@@ -74,6 +82,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role-Permission assignment not found"));
 
         rolesPermissionRepository.delete(rolesPermission);
+        eventPublisher.publishEvent(new RolePermissionsChangedEvent(roleId));
         log.info("Permission removed successfully from role. Role: {}, Permission: {}", roleId, permissionId);
     }
 
@@ -132,7 +141,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
     @Override
     @Transactional(readOnly = true)
     public boolean roleHasPermission(Long roleId, Long permissionId) {
-        return rolesPermissionRepository.existsByRoleIdAndPermissionId(roleId, permissionId);
+        return rbacService.getGraph().roleHasPermission(roleId, permissionId);
     }
 
     @Override
@@ -140,16 +149,19 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
     public boolean roleHasPermissionByName(Long roleId, String permissionName) {
         log.info("Checking if role {} has permission: {}", roleId, permissionName);
 
+        RbacGraph graph = rbacService.getGraph();
+
         // Verificar que el rol existe
-        if (!rolesRepository.existsById(roleId)) {
+        if (!graph.containsRole(roleId)) {
             throw new ResourceNotFoundException("Role not found with id: " + roleId);
         }
 
-        // Buscar el permiso por nombre
-        Permission permission = permissionRepository.findByName(permissionName)
-                .orElseThrow(() -> new ResourceNotFoundException("Permission not found with name: " + permissionName));
+        // Verificar que el permiso existe
+        if (!graph.containsPermissionName(permissionName)) {
+            throw new ResourceNotFoundException("Permission not found with name: " + permissionName);
+        }
 
-        return rolesPermissionRepository.existsByRoleIdAndPermissionId(roleId, permission.getId());
+        return graph.roleHasPermission(roleId, permissionName);
     }
 
     @Override
@@ -160,7 +172,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
         Roles role = rolesRepository.findById(roleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Role not found with id: " + roleId));
 
-        List<RolesPermissionResponse> responses = new ArrayList<>();
+        List<RolesPermission> assignments = new ArrayList<>();
 
         for (Long permissionId : permissionIds) {
             // Verificar que el permiso existe
@@ -175,14 +187,19 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
                 rolesPermission.setRole(role);
                 rolesPermission.setPermission(permission);
 
-                RolesPermission savedRolesPermission = rolesPermissionRepository.save(rolesPermission);
-                responses.add(mapToResponse(savedRolesPermission));
+                assignments.add(rolesPermission);
                 log.info("Permission {} assigned to role {}", permissionId, roleId);
             } else {
                 log.warn("Permission {} already assigned to role {}", permissionId, roleId);
             }
         }
 
+        // Una sola escritura en lote para todas las asignaciones nuevas
+        List<RolesPermissionResponse> responses = rolesPermissionRepository.saveAll(assignments).stream()
+                .map(this::mapToResponse)
+                .toList();
+        eventPublisher.publishEvent(new RolePermissionsChangedEvent(roleId));
+
         log.info("Multiple permissions assignment completed for role: {}", roleId);
         return responses;
     }
@@ -197,6 +214,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
         }
 
         rolesPermissionRepository.deleteByRoleId(roleId);
+        eventPublisher.publishEvent(new RolePermissionsChangedEvent(roleId));
         log.info("All permissions removed successfully from role: {}", roleId);
     }
 
@@ -210,6 +228,7 @@ public class RolesPermissionServiceImpl implements RolesPermissionService {
         }
 
         rolesPermissionRepository.deleteByPermissionId(permissionId);
+        eventPublisher.publishEvent(new RbacDefinitionsChangedEvent());
         log.info("Permission removed successfully from all roles: {}", permissionId);
     }
 
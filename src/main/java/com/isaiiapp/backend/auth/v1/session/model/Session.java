@@ -26,7 +26,8 @@ import java.time.temporal.ChronoUnit;
 public class Session {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "session_seq_gen")
+    @SequenceGenerator(name = "session_seq_gen", schema = "auth", sequenceName = "session_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
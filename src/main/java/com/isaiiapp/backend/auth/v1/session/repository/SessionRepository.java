@@ -79,4 +79,13 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
 
     @Query("SELECT COUNT(s) FROM Session s WHERE s.accessTokenExpiresAt < :now OR s.refreshTokenExpiresAt < :now")
     Long countExpiredSessions(@Param("now") LocalDateTime now);
+
+    // Estadísticas en una sola pasada: total, activas, expiradas y creadas en el rango del día
+    @Query("SELECT COUNT(s), COUNT(s) FILTER (WHERE s.isActive = true), " +
+            "COUNT(s) FILTER (WHERE s.accessTokenExpiresAt < :now OR s.refreshTokenExpiresAt < :now), " +
+            "COUNT(s) FILTER (WHERE s.createdAt >= :startOfDay AND s.createdAt < :endOfDay) " +
+            "FROM Session s")
+    List<Object[]> getStatsSnapshot(@Param("now") LocalDateTime now,
+                                    @Param("startOfDay") LocalDateTime startOfDay,
+                                    @Param("endOfDay") LocalDateTime endOfDay);
 }
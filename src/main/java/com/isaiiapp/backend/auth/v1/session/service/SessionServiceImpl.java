@@ -8,6 +8,8 @@ import com.isaiiapp.backend.auth.v1.session.model.Session;
 import com.isaiiapp.backend.auth.v1.session.repository.SessionRepository;
 import com.isaiiapp.backend.auth.v1.users.model.Users;
 import com.isaiiapp.backend.auth.v1.users.repository.UsersRepository;
+import com.isaiiapp.backend.stats.v1.service.StatsSnapshotService;
+import com.isaiiapp.backend.stats.v1.service.StatsValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +30,7 @@ public class SessionServiceImpl implements SessionService {
     private final SessionRepository sessionRepository;
     private final UsersRepository usersRepository;
     private final SessionMapper sessionMapper;
+    private final StatsSnapshotService statsSnapshotService;
 
     @Override
     public SessionResponse createSession(Long userId, String accessToken, String refreshToken) {
@@ -248,16 +251,18 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional(readOnly = true)
     public SessionStatsResponse getSessionStats() {
-        Long totalSessions = sessionRepository.count();
-        Long activeSessions = sessionRepository.countAllActiveSessions();
-        Long expiredSessions = sessionRepository.countExpiredSessions(LocalDateTime.now());
-
-        // Sesiones de hoy
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-        Long sessionsToday = sessionRepository.findSessionsByCreatedAtBetween(startOfDay, endOfDay, Pageable.unpaged()).getTotalElements();
-
-        return new SessionStatsResponse(totalSessions, activeSessions, expiredSessions, sessionsToday);
+        return statsSnapshotService.getSnapshot("sessions", () -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+            Object[] row = sessionRepository.getStatsSnapshot(now, startOfDay, startOfDay.plusDays(1)).get(0);
+
+            return new SessionStatsResponse(
+                    StatsValues.toLong(row[0]),
+                    StatsValues.toLong(row[1]),
+                    StatsValues.toLong(row[2]),
+                    StatsValues.toLong(row[3])
+            );
+        });
     }
 
     @Override
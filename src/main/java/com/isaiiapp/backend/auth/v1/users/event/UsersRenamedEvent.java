@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.auth.v1.users.event;
+
+/**
+ * Evento publicado cuando cambia el nombre de un usuario (para modelos de lectura desnormalizados)
+ */
+public record UsersRenamedEvent(Long userId) {
+}
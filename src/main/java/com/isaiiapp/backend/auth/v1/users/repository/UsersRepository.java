@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -41,9 +42,8 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     @Query("SELECT u FROM Users u WHERE u.employeeId LIKE CONCAT('%', :employeeId, '%')")
     Page<Users> findByEmployeeIdContaining(@Param("employeeId") String employeeId, Pageable pageable);
 
-    @Query("SELECT COUNT(u) FROM Users u WHERE u.isActive = true")
-    Long countActiveUsers();
-
-    @Query("SELECT COUNT(u) FROM Users u WHERE u.isActive = false")
-    Long countInactiveUsers();
+    // Estadísticas en una sola pasada: total, activos e inactivos
+    @Query("SELECT COUNT(u), COUNT(u) FILTER (WHERE u.isActive = true), COUNT(u) FILTER (WHERE u.isActive = false) " +
+            "FROM Users u")
+    List<Object[]> getStatsSnapshot();
 }
@@ -2,6 +2,7 @@ package com.isaiiapp.backend.auth.v1.users.service;
 
 import com.isaiiapp.backend.auth.v1.exception.DuplicateResourceException;
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.auth.v1.rbac.event.UserRolesChangedEvent;
 import com.isaiiapp.backend.auth.v1.roles.dto.response.RolesResponse;
 import com.isaiiapp.backend.auth.v1.roles.mapper.RolesMapper;
 import com.isaiiapp.backend.auth.v1.roles.model.Roles;
@@ -9,11 +10,15 @@ import com.isaiiapp.backend.auth.v1.roles.repository.RolesRepository;
 import com.isaiiapp.backend.auth.v1.users.dto.request.CreateUsersRequest;
 import com.isaiiapp.backend.auth.v1.users.dto.request.UpdateUsersRequest;
 import com.isaiiapp.backend.auth.v1.users.dto.response.UsersResponse;
+import com.isaiiapp.backend.auth.v1.users.event.UsersRenamedEvent;
 import com.isaiiapp.backend.auth.v1.users.mapper.UsersMapper;
 import com.isaiiapp.backend.auth.v1.users.model.Users;
 import com.isaiiapp.backend.auth.v1.users.repository.UsersRepository;
+import com.isaiiapp.backend.stats.v1.service.StatsSnapshotService;
+import com.isaiiapp.backend.stats.v1.service.StatsValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,8 @@ public class UsersServiceImpl implements UsersService {
     private final RolesRepository rolesRepository;
     private final UsersMapper usersMapper;
     private final RolesMapper rolesMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatsSnapshotService statsSnapshotService;
 
     @Override
     public UsersResponse createUser(CreateUsersRequest request) {
@@ -69,6 +76,7 @@ public class UsersServiceImpl implements UsersService {
 
         Users user = usersRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        String previousName = user.getFirstName() + " " + user.getLastName();
 
         if (request.getFirstName() != null) {
             user.setFirstName(request.getFirstName());
@@ -83,6 +91,9 @@ public class UsersServiceImpl implements UsersService {
         }
 
         Users updatedUser = usersRepository.save(user);
+        if (!previousName.equals(updatedUser.getFirstName() + " " + updatedUser.getLastName())) {
+            eventPublisher.publishEvent(new UsersRenamedEvent(id));
+        }
         log.info("User updated successfully with ID: {}", id);
 
         return usersMapper.toResponse(updatedUser);
@@ -97,6 +108,7 @@ public class UsersServiceImpl implements UsersService {
         }
 
         usersRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(id));
         log.info("User deleted successfully with ID: {}", id);
     }
 
@@ -185,11 +197,14 @@ public class UsersServiceImpl implements UsersService {
     @Override
     @Transactional(readOnly = true)
     public UserStatsResponse getUserStats() {
-        Long totalUsers = usersRepository.count();
-        Long activeUsers = usersRepository.countActiveUsers();
-        Long inactiveUsers = usersRepository.countInactiveUsers();
-
-        return new UserStatsResponse(totalUsers, activeUsers, inactiveUsers);
+        return statsSnapshotService.getSnapshot("users", () -> {
+            Object[] row = usersRepository.getStatsSnapshot().get(0);
+            return new UserStatsResponse(
+                    StatsValues.toLong(row[0]),
+                    StatsValues.toLong(row[1]),
+                    StatsValues.toLong(row[2])
+            );
+        });
     }
 
     @Override
@@ -6,14 +6,17 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(schema = "auth", name = "users_roles")
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
-public class UsersRoles {
+public class UsersRoles implements Persistable<UsersRolesId> {
 
     @EmbeddedId
     @NotNull(message = "Users Roles id should not be null")
@@ -32,4 +35,21 @@ public class UsersRoles {
     @JoinColumn(name = "roles_id", nullable = false,
                 foreignKey = @ForeignKey(name = "fk_users_roles_roles"))
     private Roles role;
+
+    // Llave asignada: marca de entidad nueva para que save() haga persist() sin SELECT
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -55,4 +56,14 @@ public interface UsersRolesRepository extends JpaRepository<UsersRoles, UsersRol
     
     @Query("SELECT COUNT(ur) FROM UsersRoles ur WHERE ur.user.id = :userId")
     Long countRolesByUserId(@Param("userId") Long userId);
+
+    // Filas (usuario, rol) para construir el grafo RBAC en memoria
+    @Query("SELECT ur.user.id, ur.role.id FROM UsersRoles ur")
+    List<Object[]> findAllUserRoleIds();
+
+    @Query("SELECT ur.role.id FROM UsersRoles ur WHERE ur.user.id = :userId")
+    List<Long> findRoleIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ur.user.id FROM UsersRoles ur WHERE ur.role.id = :roleId")
+    List<Long> findUserIdsByRoleId(@Param("roleId") Long roleId);
 }
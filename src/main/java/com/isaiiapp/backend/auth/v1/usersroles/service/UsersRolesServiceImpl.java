@@ -2,6 +2,10 @@ package com.isaiiapp.backend.auth.v1.usersroles.service;
 
 import com.isaiiapp.backend.auth.v1.exception.DuplicateResourceException;
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.auth.v1.rbac.event.RoleMembersChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.event.UserRolesChangedEvent;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacGraph;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacService;
 import com.isaiiapp.backend.auth.v1.roles.mapper.RolesMapper;
 import com.isaiiapp.backend.auth.v1.roles.model.Roles;
 import com.isaiiapp.backend.auth.v1.roles.repository.RolesRepository;
@@ -15,6 +19,7 @@ import com.isaiiapp.backend.auth.v1.usersroles.model.UsersRolesId;
 import com.isaiiapp.backend.auth.v1.usersroles.repository.UsersRolesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +39,8 @@ public class UsersRolesServiceImpl implements UsersRolesService {
     private final RolesRepository rolesRepository;
     private final UsersMapper usersMapper;
     private final RolesMapper rolesMapper;
+    private final RbacService rbacService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UsersRolesResponse assignRoleToUser(AssignUserRoleRequest request) {
@@ -60,6 +67,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
         usersRoles.setRole(role);
 
         UsersRoles savedUsersRoles = usersRolesRepository.save(usersRoles);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(request.getUserId()));
         log.info("Role assigned successfully to user. User: {}, Role: {}",
                 request.getUserId(), request.getRoleId());
 
@@ -74,6 +82,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
                 .orElseThrow(() -> new ResourceNotFoundException("User-Role assignment not found"));
 
         usersRolesRepository.delete(usersRoles);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(userId));
         log.info("Role removed successfully from user. User: {}, Role: {}", userId, roleId);
     }
 
@@ -154,7 +163,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
     @Override
     @Transactional(readOnly = true)
     public boolean userHasRole(Long userId, Long roleId) {
-        return usersRolesRepository.existsByUserIdAndRoleId(userId, roleId);
+        return rbacService.getGraph().userHasRole(userId, roleId);
     }
 
     @Override
@@ -162,16 +171,14 @@ public class UsersRolesServiceImpl implements UsersRolesService {
     public boolean userHasRoleByName(Long userId, String roleName) {
         log.info("Checking if user {} has role: {}", userId, roleName);
 
-        // Verificar que el usuario existe
-        if (!usersRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
+        RbacGraph graph = rbacService.getGraph();
+        requireUser(graph, userId);
 
-        // Buscar el rol por nombre
-        Roles role = rolesRepository.findByName(roleName)
-                .orElseThrow(() -> new ResourceNotFoundException("Role not found with name: " + roleName));
+        if (!graph.containsRoleName(roleName)) {
+            throw new ResourceNotFoundException("Role not found with name: " + roleName);
+        }
 
-        return usersRolesRepository.existsByUserIdAndRoleId(userId, role.getId());
+        return graph.userHasRole(userId, roleName);
     }
 
     @Override
@@ -179,22 +186,15 @@ public class UsersRolesServiceImpl implements UsersRolesService {
     public boolean userHasAnyRole(Long userId, List<String> roleNames) {
         log.info("Checking if user {} has any of roles: {}", userId, roleNames);
 
-        // Verificar que el usuario existe
-        if (!usersRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
+        RbacGraph graph = rbacService.getGraph();
+        requireUser(graph, userId);
 
-        for (String roleName : roleNames) {
-            try {
-                if (userHasRoleByName(userId, roleName)) {
-                    return true;
-                }
-            } catch (ResourceNotFoundException e) {
-                // Continuar si el rol no existe
-                log.warn("Role not found: {}", roleName);
-            }
-        }
-        return false;
+        // Los roles que no existen se ignoran
+        roleNames.stream()
+                .filter(roleName -> !graph.containsRoleName(roleName))
+                .forEach(roleName -> log.warn("Role not found: {}", roleName));
+
+        return graph.userHasAnyRole(userId, graph.roleMask(roleNames));
     }
 
     @Override
@@ -202,17 +202,23 @@ public class UsersRolesServiceImpl implements UsersRolesService {
     public boolean userHasAllRoles(Long userId, List<String> roleNames) {
         log.info("Checking if user {} has all roles: {}", userId, roleNames);
 
-        // Verificar que el usuario existe
-        if (!usersRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
+        RbacGraph graph = rbacService.getGraph();
+        requireUser(graph, userId);
 
         for (String roleName : roleNames) {
-            if (!userHasRoleByName(userId, roleName)) {
-                return false;
+            if (!graph.containsRoleName(roleName)) {
+                throw new ResourceNotFoundException("Role not found with name: " + roleName);
             }
         }
-        return true;
+
+        return graph.userHasAllRoles(userId, graph.roleMask(roleNames));
+    }
+
+    // Los usuarios con roles están en el grafo; solo los demás requieren verificar existencia en BD
+    private void requireUser(RbacGraph graph, Long userId) {
+        if (!graph.containsUser(userId) && !usersRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
     }
 
     @Override
@@ -223,7 +229,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
         Users user = usersRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-        List<UsersRolesResponse> responses = new ArrayList<>();
+        List<UsersRoles> assignments = new ArrayList<>();
 
         for (Long roleId : roleIds) {
             // Verificar que el rol existe
@@ -238,14 +244,19 @@ public class UsersRolesServiceImpl implements UsersRolesService {
                 usersRoles.setUser(user);
                 usersRoles.setRole(role);
 
-                UsersRoles savedUsersRoles = usersRolesRepository.save(usersRoles);
-                responses.add(mapToResponse(savedUsersRoles));
+                assignments.add(usersRoles);
                 log.info("Role {} assigned to user {}", roleId, userId);
             } else {
                 log.warn("Role {} already assigned to user {}", roleId, userId);
             }
         }
 
+        // Una sola escritura en lote para todas las asignaciones nuevas
+        List<UsersRolesResponse> responses = usersRolesRepository.saveAll(assignments).stream()
+                .map(this::mapToResponse)
+                .toList();
+        eventPublisher.publishEvent(new UserRolesChangedEvent(userId));
+
         log.info("Multiple roles assignment completed for user: {}", userId);
         return responses;
     }
@@ -260,6 +271,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
         }
 
         usersRolesRepository.deleteByUserId(userId);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(userId));
         log.info("All roles removed successfully from user: {}", userId);
     }
 
@@ -273,6 +285,7 @@ public class UsersRolesServiceImpl implements UsersRolesService {
         }
 
         usersRolesRepository.deleteByRoleId(roleId);
+        eventPublisher.publishEvent(new RoleMembersChangedEvent(roleId));
         log.info("Role removed successfully from all users: {}", roleId);
     }
 
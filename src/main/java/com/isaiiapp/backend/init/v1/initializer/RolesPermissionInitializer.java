@@ -13,6 +13,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -71,6 +72,8 @@ public class RolesPermissionInitializer implements CommandLineRunner {
     }
 
     private void assignPermissionsToRole(Roles role, List<Permission> permissions) {
+        List<RolesPermission> assignments = new ArrayList<>();
+
         for (Permission permission : permissions) {
             RolesPermissionId id = new RolesPermissionId(role.getId(), permission.getId());
 
@@ -79,11 +82,13 @@ public class RolesPermissionInitializer implements CommandLineRunner {
                 rp.setId(id);
                 rp.setRole(role);         // ✅ NECESARIO
                 rp.setPermission(permission); // ✅ NECESARIO
-                rolesPermissionRepository.save(rp);
+                assignments.add(rp);
 
                 log.info("Asignado permiso '{}' al rol '{}'", permission.getName(), role.getName());
             }
         }
+
+        rolesPermissionRepository.saveAll(assignments);
     }
 
     private void initializeAuthControllerPermissions() {
@@ -1,5 +1,6 @@
 package com.isaiiapp.backend.init.v1.initializer;
 
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
 import com.isaiiapp.backend.tables.v1.tables.model.Tables;
 import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
 import jakarta.annotation.PostConstruct;
@@ -21,14 +22,14 @@ public class TablesDataInitializer {
         if (tablesRepository.count() > 0) return;
 
         List<Tables> mesas = List.of(
-                new Tables(null, "0", 0, true, "free"),
-                new Tables(null, "1", 4, true, "free"),
-                new Tables(null, "2", 6, true, "free"),
-                new Tables(null, "3", 4, true,"free"),
-                new Tables(null, "4", 4, true, "free"),
-                new Tables(null, "5", 4, true, "free"),
-                new Tables(null, "6", 6, true, "free"),
-                new Tables(null, "7", 4, true, "free")
+                new Tables(null, "0", 0, true, TableStatus.FREE),
+                new Tables(null, "1", 4, true, TableStatus.FREE),
+                new Tables(null, "2", 6, true, TableStatus.FREE),
+                new Tables(null, "3", 4, true, TableStatus.FREE),
+                new Tables(null, "4", 4, true, TableStatus.FREE),
+                new Tables(null, "5", 4, true, TableStatus.FREE),
+                new Tables(null, "6", 6, true, TableStatus.FREE),
+                new Tables(null, "7", 4, true, TableStatus.FREE)
         );
 
         tablesRepository.saveAll(mesas);
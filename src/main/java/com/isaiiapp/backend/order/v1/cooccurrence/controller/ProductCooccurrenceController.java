@@ -0,0 +1,32 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.controller;
+
+import com.isaiiapp.backend.order.v1.cooccurrence.service.ProductCooccurrenceService;
+import com.isaiiapp.backend.order.v1.cooccurrence.service.ProductCooccurrenceService.FrequentlyOrderedWithResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/product/product")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ProductCooccurrenceController {
+
+    private final ProductCooccurrenceService productCooccurrenceService;
+
+    /**
+     * Obtener los productos que más se piden junto al producto dado (órdenes pagadas)
+     */
+    @GetMapping("/{id}/frequently-with")
+    public ResponseEntity<List<FrequentlyOrderedWithResponse>> getFrequentlyOrderedWith(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to get top {} products frequently ordered with product: {}", limit, id);
+
+        return ResponseEntity.ok(productCooccurrenceService.getFrequentlyOrderedWith(id, limit));
+    }
+}
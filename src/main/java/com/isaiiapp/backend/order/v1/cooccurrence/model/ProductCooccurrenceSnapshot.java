@@ -0,0 +1,51 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot binario de la matriz de co-ocurrencia de productos (solo se conserva el último)
+ */
+@Entity
+@Table(schema = "orders", name = "product_cooccurrence_snapshot")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ProductCooccurrenceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Mayor paid_at incluido en la matriz; al arrancar se reprocesan las órdenes pagadas después
+    @Column(name = "covered_until")
+    private LocalDateTime coveredUntil;
+
+    @NotNull(message = "Order count should not be null")
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @NotNull(message = "Product count should not be null")
+    @Column(name = "product_count", nullable = false)
+    private Integer productCount;
+
+    // Varints con claves codificadas como delta (ver CooccurrenceMatrix#encode)
+    @NotNull(message = "Data should not be null")
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] data;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
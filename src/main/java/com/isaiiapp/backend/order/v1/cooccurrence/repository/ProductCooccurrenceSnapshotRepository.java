@@ -0,0 +1,20 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.repository;
+
+import com.isaiiapp.backend.order.v1.cooccurrence.model.ProductCooccurrenceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductCooccurrenceSnapshotRepository extends JpaRepository<ProductCooccurrenceSnapshot, Long> {
+
+    Optional<ProductCooccurrenceSnapshot> findTopByOrderByIdDesc();
+
+    @Modifying
+    @Query("DELETE FROM ProductCooccurrenceSnapshot s WHERE s.id <> :id")
+    int deleteAllExcept(@Param("id") Long id);
+}
@@ -0,0 +1,172 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Matriz dispersa de co-ocurrencia producto × producto indexada por un {@link LongObjectHashMap}.
+ * Cada fila es un {@link LongLongHashMap}
+ * con las veces que otro producto apareció en la misma orden; además se cuenta en cuántas
+ * órdenes aparece cada producto para poder calcular la confianza (co / órdenes(a)).
+ */
+public final class CooccurrenceMatrix {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final LongObjectHashMap<LongLongHashMap> rows = new LongObjectHashMap<>();
+    private final LongLongHashMap orderCounts = new LongLongHashMap();
+    private long totalOrders;
+
+    /**
+     * Suma una orden; los ids deben venir sin duplicados
+     */
+    public synchronized void addOrder(long[] productIds) {
+        totalOrders++;
+        for (long productId : productIds) {
+            orderCounts.addTo(productId, 1);
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            for (int j = i + 1; j < productIds.length; j++) {
+                row(productIds[i]).addTo(productIds[j], 1);
+                row(productIds[j]).addTo(productIds[i], 1);
+            }
+        }
+    }
+
+    public synchronized List<Entry> top(long productId, int limit) {
+        LongLongHashMap row = rows.get(productId);
+        if (row == null || limit <= 0) {
+            return List.of();
+        }
+        // Min-heap de tamaño limit: O(n log k) sobre la fila
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1,
+                Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> -e[0]));
+        row.forEach((otherId, count) -> {
+            heap.offer(new long[]{otherId, count});
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        long baseOrders = orderCounts.get(productId);
+        List<Entry> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            long[] e = heap.poll();
+            double confidence = baseOrders > 0 ? (double) e[1] / baseOrders : 0.0;
+            result.add(new Entry(e[0], e[1], confidence));
+        }
+        result.sort(Comparator.comparingLong(Entry::count).reversed()
+                .thenComparingLong(Entry::productId));
+        return result;
+    }
+
+    public synchronized long getTotalOrders() {
+        return totalOrders;
+    }
+
+    public synchronized int getProductCount() {
+        return orderCounts.size();
+    }
+
+    /**
+     * Serializa la matriz en binario compacto: enteros varint y claves ordenadas codificadas
+     * como delta respecto a la anterior.
+     */
+    public synchronized byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeVarLong(out, totalOrders);
+            writeRow(out, orderCounts);
+
+            long[] rowIds = rows.sortedKeys();
+            writeVarLong(out, rowIds.length);
+            long previous = 0;
+            for (long rowId : rowIds) {
+                writeVarLong(out, rowId - previous);
+                previous = rowId;
+                writeRow(out, rows.get(rowId));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static CooccurrenceMatrix decode(byte[] data) {
+        CooccurrenceMatrix matrix = new CooccurrenceMatrix();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported co-occurrence snapshot version: " + version);
+            }
+            matrix.totalOrders = readVarLong(in);
+            readRow(in, matrix.orderCounts);
+
+            long rowCount = readVarLong(in);
+            long rowId = 0;
+            for (long i = 0; i < rowCount; i++) {
+                rowId += readVarLong(in);
+                readRow(in, matrix.row(rowId));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return matrix;
+    }
+
+    private LongLongHashMap row(long productId) {
+        return rows.computeIfAbsent(productId, id -> new LongLongHashMap());
+    }
+
+    private static void writeRow(DataOutputStream out, LongLongHashMap row) throws IOException {
+        long[] keys = row.sortedKeys();
+        writeVarLong(out, keys.length);
+        long previous = 0;
+        for (long key : keys) {
+            writeVarLong(out, key - previous);
+            writeVarLong(out, row.get(key));
+            previous = key;
+        }
+    }
+
+    private static void readRow(DataInputStream in, LongLongHashMap row) throws IOException {
+        long size = readVarLong(in);
+        long key = 0;
+        for (long i = 0; i < size; i++) {
+            key += readVarLong(in);
+            row.addTo(key, readVarLong(in));
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    public record Entry(long productId, long count, double confidence) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.service;
+
+import java.util.Arrays;
+
+/**
+ * Mapa long → long con direccionamiento abierto (sondeo lineal) sobre arreglos primitivos:
+ * sin objetos por entrada, por lo que una fila de la matriz ocupa ~16 bytes por producto.
+ * No es seguro para hilos; la sincronización la hace {@link CooccurrenceMatrix}.
+ */
+public final class LongLongHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap() {
+        this(8);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public long get(long key) {
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : 0L;
+    }
+
+    public void addTo(long key, long delta) {
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(LongLongConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Claves en orden ascendente (para codificar deltas en los snapshots)
+     */
+    public long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int position = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[position++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+}
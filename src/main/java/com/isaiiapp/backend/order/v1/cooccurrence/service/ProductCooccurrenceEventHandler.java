@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Suma a la matriz de co-ocurrencia cada orden que se paga por primera vez
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCooccurrenceEventHandler implements OrderEventHandler {
+
+    private final ProductCooccurrenceService productCooccurrenceService;
+    private final OrderEventPayloads orderEventPayloads;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return Set.of(OrderEventType.ORDER_PAID);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        if (orderEventPayloads.isFirstTransition(event)) {
+            productCooccurrenceService.recordPaidOrder(event.getOrderId());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.service;
+
+import java.util.List;
+
+/**
+ * Productos pedidos frecuentemente juntos, servidos desde una matriz de co-ocurrencia en memoria
+ */
+public interface ProductCooccurrenceService {
+
+    /**
+     * Sumar a la matriz los productos de una orden pagada
+     */
+    void recordPaidOrder(Long orderId);
+
+    /**
+     * Productos que más veces aparecen en las mismas órdenes que el producto dado
+     */
+    List<FrequentlyOrderedWithResponse> getFrequentlyOrderedWith(Long productId, int limit);
+
+    /**
+     * Persistir un snapshot binario de la matriz si cambió desde el último
+     */
+    void persistSnapshot();
+
+    /**
+     * Reconstruir la matriz completa desde las órdenes pagadas
+     */
+    void rebuild();
+
+    /**
+     * DTO de producto pedido junto a otro: confidence = órdenes con ambos / órdenes con el producto consultado
+     */
+    record FrequentlyOrderedWithResponse(
+            Long productId,
+            String productName,
+            Long timesOrderedTogether,
+            Double confidence
+    ) {}
+}
@@ -0,0 +1,290 @@
+package com.isaiiapp.backend.order.v1.cooccurrence.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.cooccurrence.model.ProductCooccurrenceSnapshot;
+import com.isaiiapp.backend.order.v1.cooccurrence.repository.ProductCooccurrenceSnapshotRepository;
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.orders.model.Order;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.service.TransactionEffects;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService.ProductPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductCooccurrenceServiceImpl implements ProductCooccurrenceService {
+
+    // Filas ordenadas por orden para agruparlas sin materializar el resultado
+    private static final String PAID_ORDER_PRODUCTS_SQL =
+            "SELECT oi.order_id, oi.product_id, o.paid_at " +
+            "FROM orders.order_item oi " +
+            "JOIN orders.orders o ON o.id = oi.order_id " +
+            "WHERE o.paid_at IS NOT NULL AND o.paid_at > ? " +
+            "ORDER BY oi.order_id";
+
+    private static final int MAX_LIMIT = 50;
+
+    private final ProductCooccurrenceSnapshotRepository snapshotRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductPriceSnapshotService productPriceSnapshotService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Órdenes reprocesadas en la última recarga; sus eventos pendientes en el outbox no se vuelven a contar
+    private final Set<Long> replayedOrderIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Object reloadLock = new Object();
+
+    // Órdenes aplicadas mientras una recarga recorre la base; se reaplican a la matriz nueva antes del cambio
+    private List<PaidOrder> appliedDuringReload;
+
+    private volatile CooccurrenceMatrix matrix = new CooccurrenceMatrix();
+    private volatile LocalDateTime coveredUntil;
+    private volatile LocalDateTime loadedCoveredUntil;
+
+    @Value("${app.cooccurrence.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public void recordPaidOrder(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getPaidAt() == null || replayedOrderIds.contains(orderId)) {
+            return;
+        }
+
+        long[] productIds = orderItemRepository.findDistinctProductIdsByOrderId(orderId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        if (productIds.length == 0) {
+            return;
+        }
+
+        // La matriz solo cambia al confirmar; un reintento del evento no vuelve a sumar la orden
+        LocalDateTime paidAt = order.getPaidAt();
+        TransactionEffects.afterCommit(() -> applyPaidOrder(orderId, paidAt, productIds));
+    }
+
+    @Override
+    public List<FrequentlyOrderedWithResponse> getFrequentlyOrderedWith(Long productId, int limit) {
+        log.debug("Fetching top {} products frequently ordered with product ID: {}", limit, productId);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (productPriceSnapshotService.findPrice(productId).isEmpty()) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+
+        return matrix.top(productId, limit).stream()
+                .map(entry -> new FrequentlyOrderedWithResponse(
+                        entry.productId(),
+                        productPriceSnapshotService.findPrice(entry.productId()).map(ProductPrice::name).orElse(null),
+                        entry.count(),
+                        entry.confidence()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.cooccurrence.snapshot-interval-ms:900000}",
+            initialDelayString = "${app.cooccurrence.snapshot-interval-ms:900000}")
+    public void persistSnapshot() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        CooccurrenceMatrix current = matrix;
+        ProductCooccurrenceSnapshot snapshot = new ProductCooccurrenceSnapshot();
+        snapshot.setCoveredUntil(coveredUntil);
+        snapshot.setOrderCount(current.getTotalOrders());
+        snapshot.setProductCount(current.getProductCount());
+        snapshot.setData(current.encode());
+
+        ProductCooccurrenceSnapshot saved = snapshotRepository.save(snapshot);
+        snapshotRepository.deleteAllExcept(saved.getId());
+        log.debug("Persisted product co-occurrence snapshot: {} orders, {} bytes",
+                saved.getOrderCount(), saved.getData().length);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.cooccurrence.rebuild-cron:0 45 4 * * *}")
+    public void rebuild() {
+        log.info("Rebuilding product co-occurrence matrix from paid orders");
+
+        CooccurrenceMatrix rebuilt = new CooccurrenceMatrix();
+        reload(rebuilt, null);
+        dirty.set(true);
+        persistSnapshot();
+
+        log.info("Product co-occurrence matrix rebuilt with {} orders and {} products",
+                rebuilt.getTotalOrders(), rebuilt.getProductCount());
+    }
+
+    /**
+     * Cargar el último snapshot y reprocesar las órdenes pagadas después de él (sin snapshot, reconstruir)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        ProductCooccurrenceSnapshot snapshot = snapshotRepository.findTopByOrderByIdDesc().orElse(null);
+        if (snapshot == null) {
+            rebuild();
+            return;
+        }
+
+        CooccurrenceMatrix loaded = CooccurrenceMatrix.decode(snapshot.getData());
+        LocalDateTime since = snapshot.getCoveredUntil();
+        long before = loaded.getTotalOrders();
+        reload(loaded, since);
+        dirty.set(loaded.getTotalOrders() > before);
+        log.info("Product co-occurrence matrix loaded with {} orders ({} replayed since snapshot)",
+                loaded.getTotalOrders(), loaded.getTotalOrders() - before);
+    }
+
+    /**
+     * Reprocesar en target las órdenes pagadas después de since y reemplazar la matriz actual.
+     * Los eventos que se aplican mientras tanto se guardan y, al cambiar de matriz, se suman a target
+     * si el recorrido no los incluyó; las órdenes recorridas cuyo evento sigue pendiente se omiten después.
+     */
+    private void reload(CooccurrenceMatrix target, LocalDateTime since) {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                appliedDuringReload = new ArrayList<>();
+            }
+
+            Set<Long> replayed = new HashSet<>();
+            LocalDateTime until = replay(target, since, replayed);
+
+            synchronized (this) {
+                for (PaidOrder paidOrder : appliedDuringReload) {
+                    if (replayed.remove(paidOrder.orderId())) {
+                        continue;
+                    }
+                    if (since != null && !paidOrder.paidAt().isAfter(since)) {
+                        continue;
+                    }
+                    target.addOrder(paidOrder.productIds());
+                    if (until == null || paidOrder.paidAt().isAfter(until)) {
+                        until = paidOrder.paidAt();
+                    }
+                }
+                appliedDuringReload = null;
+
+                matrix = target;
+                loadedCoveredUntil = since;
+                coveredUntil = until;
+                replayedOrderIds.clear();
+                replayedOrderIds.addAll(replayed);
+            }
+        }
+    }
+
+    /**
+     * Recorrer las órdenes pagadas después de since con un cursor de solo avance; devuelve el mayor paid_at visto
+     */
+    private LocalDateTime replay(CooccurrenceMatrix target, LocalDateTime since, Set<Long> replayedIds) {
+        OrderAccumulator accumulator = new OrderAccumulator(target, replayedIds, since);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    PAID_ORDER_PRODUCTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(since != null ? since : LocalDateTime.of(1970, 1, 1, 0, 0)));
+            return statement;
+        }, (ResultSet rs) -> {
+            accumulator.accept(rs.getLong(1), rs.getLong(2), rs.getTimestamp(3).toLocalDateTime());
+        });
+
+        accumulator.flush();
+        return accumulator.maxPaidAt;
+    }
+
+    private synchronized void applyPaidOrder(Long orderId, LocalDateTime paidAt, long[] productIds) {
+        if (appliedDuringReload != null) {
+            appliedDuringReload.add(new PaidOrder(orderId, paidAt, productIds));
+        }
+        if (replayedOrderIds.remove(orderId)) {
+            return;
+        }
+        if (loadedCoveredUntil != null && !paidAt.isAfter(loadedCoveredUntil)) {
+            return;
+        }
+
+        matrix.addOrder(productIds);
+        advanceCoveredUntil(paidAt);
+        dirty.set(true);
+    }
+
+    private synchronized void advanceCoveredUntil(LocalDateTime paidAt) {
+        if (coveredUntil == null || paidAt.isAfter(coveredUntil)) {
+            coveredUntil = paidAt;
+        }
+    }
+
+    private record PaidOrder(Long orderId, LocalDateTime paidAt, long[] productIds) {
+    }
+
+    /**
+     * Agrupa las filas consecutivas de una misma orden y las suma a la matriz como una orden
+     */
+    private static final class OrderAccumulator {
+
+        private final CooccurrenceMatrix target;
+        private final Set<Long> replayedIds;
+        private final List<Long> productIds = new ArrayList<>();
+        private long currentOrderId = -1;
+        private LocalDateTime maxPaidAt;
+
+        private OrderAccumulator(CooccurrenceMatrix target, Set<Long> replayedIds, LocalDateTime since) {
+            this.target = target;
+            this.replayedIds = replayedIds;
+            this.maxPaidAt = since;
+        }
+
+        private void accept(long orderId, long productId, LocalDateTime paidAt) {
+            if (orderId != currentOrderId) {
+                flush();
+                currentOrderId = orderId;
+                replayedIds.add(orderId);
+            }
+            if (!productIds.contains(productId)) {
+                productIds.add(productId);
+            }
+            if (maxPaidAt == null || paidAt.isAfter(maxPaidAt)) {
+                maxPaidAt = paidAt;
+            }
+        }
+
+        private void flush() {
+            if (!productIds.isEmpty()) {
+                target.addOrder(productIds.stream().mapToLong(Long::longValue).toArray());
+                productIds.clear();
+            }
+        }
+    }
+}
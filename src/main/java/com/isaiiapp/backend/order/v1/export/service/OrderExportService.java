@@ -0,0 +1,47 @@
+package com.isaiiapp.backend.order.v1.export.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface OrderExportService {
+
+    /**
+     * Exportar órdenes con sus items en streaming (memoria constante)
+     * Retorna la cantidad de filas escritas
+     */
+    long exportOrders(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Formatos de exportación soportados
+     */
+    enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat fromValue(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.isaiiapp.backend.order.v1.opencheck.controller;
+
+import com.isaiiapp.backend.order.v1.opencheck.service.OpenCheckService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/tables")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class OpenCheckController {
+
+    private final OpenCheckService openCheckService;
+
+    /**
+     * Obtener la cuenta abierta de una mesa con ítems, productos y total acumulado
+     * Responde 204 si la mesa no tiene una orden activa
+     */
+    @GetMapping("/{tableId}/open-check")
+    public ResponseEntity<OpenCheckService.OpenCheckResponse> getOpenCheck(@PathVariable Long tableId) {
+        log.debug("REST request to get open check for table: {}", tableId);
+
+        return openCheckService.getOpenCheck(tableId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,44 @@
+package com.isaiiapp.backend.order.v1.opencheck.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OpenCheckService {
+
+    /**
+     * Obtener la cuenta abierta (orden sin pagar ni cancelar) de una mesa con sus ítems
+     */
+    Optional<OpenCheckResponse> getOpenCheck(Long tableId);
+
+    /**
+     * DTO de la cuenta abierta de una mesa
+     */
+    record OpenCheckResponse(
+            Long orderId,
+            Long tableId,
+            String tableNumber,
+            String statusName,
+            String waiterName,
+            Boolean isTakeaway,
+            LocalDateTime createdAt,
+            String notes,
+            List<OpenCheckItemResponse> items,
+            Integer itemCount,
+            BigDecimal runningTotal
+    ) {}
+
+    /**
+     * DTO de un ítem de la cuenta abierta
+     */
+    record OpenCheckItemResponse(
+            Long orderItemId,
+            Long productId,
+            String productName,
+            Integer quantity,
+            BigDecimal unitPrice,
+            BigDecimal subtotal,
+            String specialInstructions
+    ) {}
+}
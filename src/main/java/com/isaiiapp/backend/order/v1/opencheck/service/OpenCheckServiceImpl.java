@@ -0,0 +1,76 @@
+package com.isaiiapp.backend.order.v1.opencheck.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository.OpenCheckRow;
+import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OpenCheckServiceImpl implements OpenCheckService {
+
+    private final OrderRepository orderRepository;
+    private final TablesRepository tablesRepository;
+
+    @Override
+    public Optional<OpenCheckResponse> getOpenCheck(Long tableId) {
+        log.debug("Fetching open check for table: {}", tableId);
+
+        List<OpenCheckRow> rows = orderRepository.findOpenCheckRowsByTableId(tableId);
+        if (rows.isEmpty()) {
+            // Solo en el caso vacío se distingue entre mesa inexistente y mesa sin cuenta abierta
+            if (!tablesRepository.existsById(tableId)) {
+                throw new ResourceNotFoundException("Table", "id", tableId);
+            }
+            return Optional.empty();
+        }
+
+        OpenCheckRow head = rows.get(0);
+        List<OpenCheckItemResponse> items = new ArrayList<>();
+        BigDecimal runningTotal = BigDecimal.ZERO;
+        int itemCount = 0;
+
+        for (OpenCheckRow row : rows) {
+            if (row.getOrderItemId() == null) {
+                continue; // Orden sin ítems (LEFT JOIN)
+            }
+            OpenCheckItemResponse item = new OpenCheckItemResponse(
+                    row.getOrderItemId(),
+                    row.getProductId(),
+                    row.getProductName(),
+                    row.getQuantity(),
+                    row.getUnitPrice(),
+                    row.getSubtotal(),
+                    row.getSpecialInstructions()
+            );
+            items.add(item);
+            itemCount += item.quantity();
+            runningTotal = runningTotal.add(item.subtotal());
+        }
+
+        return Optional.of(new OpenCheckResponse(
+                head.getOrderId(),
+                head.getTableId(),
+                head.getTableNumber(),
+                head.getStatusName(),
+                head.getWaiterName(),
+                head.getIsTakeaway(),
+                head.getCreatedAt(),
+                head.getNotes(),
+                items,
+                itemCount,
+                runningTotal
+        ));
+    }
+}
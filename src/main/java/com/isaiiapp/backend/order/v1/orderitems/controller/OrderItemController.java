@@ -1,6 +1,7 @@
 package com.isaiiapp.backend.order.v1.orderitems.controller;
 
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemBatchRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.UpdateOrderItemRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.response.OrderItemResponse;
@@ -42,6 +43,19 @@ public class OrderItemController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Crear varios items de una orden en una sola petición
+     * Si algún producto es inválido no se crea ningún item
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<OrderItemService.OrderItemBatchResponse> createOrderItems(
+            @Valid @RequestBody CreateOrderItemBatchRequest request) {
+        log.info("REST request to create {} order items for order ID: {}", request.getItems().size(), request.getOrderId());
+
+        OrderItemService.OrderItemBatchResponse response = orderItemService.createOrderItems(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     /**
      * Obtener item de orden por ID
      * Accesible para todos los usuarios autenticados
@@ -349,7 +363,8 @@ public class OrderItemController {
     }
 
     /**
-     * Actualizar precio unitario de item
+     * Sobrescribir precio unitario de item
+     * Solo administradores; el resto de las operaciones toma el precio vigente del producto
      */
     @PatchMapping("/{id}/unit-price")
     public ResponseEntity<OrderItemResponse> updateOrderItemUnitPrice(
@@ -433,10 +448,11 @@ public class OrderItemController {
      * Obtener productos más pedidos
      */
     @GetMapping("/most-ordered-products")
-    public ResponseEntity<List<OrderItemService.ProductOrderStatsResponse>> getMostOrderedProducts() {
-        log.debug("REST request to get most ordered products");
+    public ResponseEntity<List<OrderItemService.ProductOrderStatsResponse>> getMostOrderedProducts(
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to get top {} most ordered products", limit);
 
-        List<OrderItemService.ProductOrderStatsResponse> stats = orderItemService.getMostOrderedProducts();
+        List<OrderItemService.ProductOrderStatsResponse> stats = orderItemService.getMostOrderedProducts(limit);
         return ResponseEntity.ok(stats);
     }
 
@@ -444,10 +460,23 @@ public class OrderItemController {
      * Obtener productos más pedidos hoy
      */
     @GetMapping("/todays-most-ordered-products")
-    public ResponseEntity<List<OrderItemService.ProductOrderStatsResponse>> getTodaysMostOrderedProducts() {
-        log.debug("REST request to get today's most ordered products");
+    public ResponseEntity<List<OrderItemService.ProductOrderStatsResponse>> getTodaysMostOrderedProducts(
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to get today's top {} most ordered products", limit);
+
+        List<OrderItemService.ProductOrderStatsResponse> stats = orderItemService.getTodaysMostOrderedProducts(limit);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Obtener productos más pedidos en la última hora
+     */
+    @GetMapping("/last-hour-most-ordered-products")
+    public ResponseEntity<List<OrderItemService.ProductOrderStatsResponse>> getLastHourMostOrderedProducts(
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to get last hour top {} most ordered products", limit);
 
-        List<OrderItemService.ProductOrderStatsResponse> stats = orderItemService.getTodaysMostOrderedProducts();
+        List<OrderItemService.ProductOrderStatsResponse> stats = orderItemService.getLastHourMostOrderedProducts(limit);
         return ResponseEntity.ok(stats);
     }
 
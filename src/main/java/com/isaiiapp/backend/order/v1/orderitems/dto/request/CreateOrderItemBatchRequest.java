@@ -0,0 +1,24 @@
+package com.isaiiapp.backend.order.v1.orderitems.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CreateOrderItemBatchRequest {
+
+    @NotNull(message = "Order ID should not be null")
+    private Long orderId;
+
+    @NotEmpty(message = "Items should not be empty")
+    @Size(max = 200, message = "Items should not exceed 200 lines")
+    private List<@Valid @NotNull(message = "Item should not be null") OrderItemLineRequest> items;
+}
@@ -7,8 +7,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -24,9 +22,6 @@ public class CreateOrderItemRequest {
     @Min(value = 1, message = "Quantity must be at least 1")
     private Integer quantity;
 
-    @NotNull(message = "Unit price should not be null")
-    private BigDecimal unitPrice;
-
     @Size(max = 250, message = "Special instructions should not exceed 250 characters")
     private String specialInstructions;
 }
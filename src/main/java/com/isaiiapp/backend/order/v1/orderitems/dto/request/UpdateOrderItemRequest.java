@@ -6,8 +6,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -19,8 +17,6 @@ public class UpdateOrderItemRequest {
     @Min(value = 1, message = "Quantity must be at least 1")
     private Integer quantity;
 
-    private BigDecimal unitPrice;
-
     @Size(max = 250, message = "Special instructions should not exceed 250 characters")
     private String specialInstructions;
 }
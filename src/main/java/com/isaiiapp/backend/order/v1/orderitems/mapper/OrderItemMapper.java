@@ -1,12 +1,15 @@
 package com.isaiiapp.backend.order.v1.orderitems.mapper;
 
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemRequest;
+import com.isaiiapp.backend.order.v1.orderitems.dto.request.OrderItemLineRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.response.OrderItemResponse;
 import com.isaiiapp.backend.order.v1.orderitems.model.OrderItem;
 import com.isaiiapp.backend.order.v1.orders.mapper.OrderMapper;
 import com.isaiiapp.backend.order.v1.orders.model.Order;
 import com.isaiiapp.backend.product.v1.product.mapper.ProductMapper;
+import com.isaiiapp.backend.product.v1.product.dto.response.ProductResponse;
 import com.isaiiapp.backend.product.v1.product.model.Product;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService.ProductPrice;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -22,17 +25,31 @@ public class OrderItemMapper {
     private ProductMapper productMapper;
 
     /**
-     * Convertir CreateOrderItemRequest a OrderItem entity
+     * Convertir CreateOrderItemRequest a OrderItem entity (el precio unitario lo fija el servidor)
      */
-    public OrderItem toEntity(CreateOrderItemRequest request, Order order, Product product) {
+    public OrderItem toEntity(CreateOrderItemRequest request, Order order, Product product, BigDecimal unitPrice) {
         OrderItem orderItem = new OrderItem();
         orderItem.setOrder(order);
         orderItem.setProduct(product);
         orderItem.setQuantity(request.getQuantity());
-        orderItem.setUnitPrice(request.getUnitPrice());
+        orderItem.setUnitPrice(unitPrice);
         orderItem.setSpecialInstructions(request.getSpecialInstructions());
         // El subtotal se calcula automáticamente en @PrePersist
-        orderItem.setSubtotal(request.getUnitPrice().multiply(BigDecimal.valueOf(request.getQuantity())));
+        orderItem.setSubtotal(unitPrice.multiply(BigDecimal.valueOf(request.getQuantity())));
+        return orderItem;
+    }
+
+    /**
+     * Convertir una línea de OrderItemLineRequest a OrderItem entity
+     */
+    public OrderItem toEntity(OrderItemLineRequest line, Order order, Product product, BigDecimal unitPrice) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setProduct(product);
+        orderItem.setQuantity(line.getQuantity());
+        orderItem.setUnitPrice(unitPrice);
+        orderItem.setSpecialInstructions(line.getSpecialInstructions());
+        orderItem.setSubtotal(unitPrice.multiply(BigDecimal.valueOf(line.getQuantity())));
         return orderItem;
     }
 
@@ -65,4 +82,25 @@ public class OrderItemMapper {
         response.setSpecialInstructions(orderItem.getSpecialInstructions());
         return response;
     }
+
+    /**
+     * Convertir OrderItem entity a OrderItemResponse tomando el producto del snapshot de precios
+     * (evita cargar el producto, que solo está referenciado por su ID)
+     */
+    public OrderItemResponse toResponseWithoutRelations(OrderItem orderItem, ProductPrice productPrice) {
+        ProductResponse product = new ProductResponse();
+        product.setId(productPrice.productId());
+        product.setName(productPrice.name());
+        product.setPrice(productPrice.price());
+        product.setIsActive(productPrice.active());
+
+        OrderItemResponse response = new OrderItemResponse();
+        response.setId(orderItem.getId());
+        response.setProduct(product);
+        response.setQuantity(orderItem.getQuantity());
+        response.setUnitPrice(orderItem.getUnitPrice());
+        response.setSubtotal(orderItem.getSubtotal());
+        response.setSpecialInstructions(orderItem.getSpecialInstructions());
+        return response;
+    }
 }
@@ -24,7 +24,8 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq_gen")
+    @SequenceGenerator(name = "order_item_seq_gen", schema = "orders", sequenceName = "order_item_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
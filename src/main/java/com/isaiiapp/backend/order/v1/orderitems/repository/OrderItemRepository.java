@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,7 +24,8 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long>{
     @Query("SELECT oi FROM OrderItem oi WHERE oi.product.id = :productId")
     Page<OrderItem> findByProductId(@Param("productId") Long productId, Pageable pageable);
 
-    @Query("SELECT oi FROM OrderItem oi WHERE LOWER(oi.product.name) LIKE LOWER(CONCAT('%', :productName, '%'))")
+    // f_unaccent(lower(x)) coincide con los índices de trigramas de db/indexes.sql
+    @Query("SELECT oi FROM OrderItem oi WHERE f_unaccent(LOWER(oi.product.name)) LIKE f_unaccent(LOWER(CONCAT('%', :productName, '%')))")
     Page<OrderItem> findByProductNameContaining(@Param("productName") String productName, Pageable pageable);
 
     @Query("SELECT oi FROM OrderItem oi WHERE oi.product.category.id = :categoryId")
@@ -45,7 +47,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long>{
                                           @Param("maxSubtotal") BigDecimal maxSubtotal,
                                           Pageable pageable);
 
-    @Query("SELECT oi FROM OrderItem oi WHERE LOWER(oi.specialInstructions) LIKE LOWER(CONCAT('%', :instructions, '%'))")
+    @Query("SELECT oi FROM OrderItem oi WHERE f_unaccent(LOWER(oi.specialInstructions)) LIKE f_unaccent(LOWER(CONCAT('%', :instructions, '%')))")
     Page<OrderItem> findBySpecialInstructionsContaining(@Param("instructions") String instructions, Pageable pageable);
 
     @Query("SELECT oi FROM OrderItem oi WHERE oi.specialInstructions IS NOT NULL AND oi.specialInstructions != ''")
@@ -79,38 +81,42 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long>{
     @Query("SELECT SUM(oi.subtotal) FROM OrderItem oi WHERE oi.order.id = :orderId")
     BigDecimal getTotalAmountByOrderId(@Param("orderId") Long orderId);
 
-    @Query("SELECT AVG(oi.quantity) FROM OrderItem oi")
-    Double getAverageQuantity();
-
-    @Query("SELECT AVG(oi.unitPrice) FROM OrderItem oi")
-    BigDecimal getAverageUnitPrice();
-
-    @Query("SELECT AVG(oi.subtotal) FROM OrderItem oi")
-    BigDecimal getAverageSubtotal();
-
-    @Query("SELECT MAX(oi.quantity) FROM OrderItem oi")
-    Integer getMaxQuantity();
-
-    @Query("SELECT MIN(oi.quantity) FROM OrderItem oi")
-    Integer getMinQuantity();
-
-    @Query("SELECT MAX(oi.unitPrice) FROM OrderItem oi")
-    BigDecimal getMaxUnitPrice();
-
-    @Query("SELECT MIN(oi.unitPrice) FROM OrderItem oi")
-    BigDecimal getMinUnitPrice();
-
-    @Query("SELECT oi.product.id, oi.product.name, SUM(oi.quantity) as totalQuantity " +
-            "FROM OrderItem oi " +
-            "GROUP BY oi.product.id, oi.product.name " +
-            "ORDER BY totalQuantity DESC")
-    List<Object[]> findMostOrderedProducts();
-
-    // ✅ CORREGIDA: Query para productos más pedidos hoy
-    @Query("SELECT oi.product.id, oi.product.name, COUNT(oi) as orderCount " +
-            "FROM OrderItem oi " +
-            "WHERE CAST(oi.order.createdAt AS date) = CURRENT_DATE " +
-            "GROUP BY oi.product.id, oi.product.name " +
-            "ORDER BY orderCount DESC")
-    List<Object[]> findTodaysMostOrderedProducts();
+    @Query("SELECT DISTINCT oi.product.category.id FROM OrderItem oi WHERE oi.order.id = :orderId")
+    List<Long> findDistinctCategoryIdsByOrderId(@Param("orderId") Long orderId);
+
+    @Query("SELECT DISTINCT oi.product.id FROM OrderItem oi WHERE oi.order.id = :orderId")
+    List<Long> findDistinctProductIdsByOrderId(@Param("orderId") Long orderId);
+
+    // Búsqueda por similitud de palabras (operador <% de pg_trgm, usa el índice GIN de instrucciones)
+    @Query(value = "SELECT oi.id, oi.order_id, oi.special_instructions, " +
+            "word_similarity(public.f_unaccent(lower(:term)), public.f_unaccent(lower(oi.special_instructions))) AS score, " +
+            "o.created_at " +
+            "FROM orders.order_item oi " +
+            "JOIN orders.orders o ON o.id = oi.order_id " +
+            "WHERE public.f_unaccent(lower(:term)) <% public.f_unaccent(lower(oi.special_instructions)) " +
+            "ORDER BY score DESC, o.created_at DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchSpecialInstructionsBySimilarity(@Param("term") String term, @Param("limit") int limit);
+
+    // Estadísticas en una sola pasada sobre order_item
+    @Query("SELECT COUNT(oi), AVG(oi.quantity), MAX(oi.quantity), MIN(oi.quantity), " +
+            "AVG(oi.unitPrice), MAX(oi.unitPrice), MIN(oi.unitPrice), AVG(oi.subtotal) " +
+            "FROM OrderItem oi")
+    List<Object[]> getStatsSnapshot();
+
+    // Cantidades exactas por producto para recalcular los productos más pedidos
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi GROUP BY oi.product.id")
+    List<Object[]> sumQuantitiesByProduct();
+
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi " +
+            "WHERE oi.order.createdAt >= :startDate AND oi.order.createdAt < :endDate " +
+            "GROUP BY oi.product.id")
+    List<Object[]> sumQuantitiesByProductBetween(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT oi.product.id, o.createdAt, oi.quantity FROM OrderItem oi JOIN oi.order o WHERE o.createdAt >= :since")
+    List<Object[]> findOrderedItemsSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT oi.product.id, oi.quantity FROM OrderItem oi WHERE oi.id IN :ids")
+    List<Object[]> findProductQuantitiesByIds(@Param("ids") List<Long> ids);
 }
@@ -1,5 +1,6 @@
 package com.isaiiapp.backend.order.v1.orderitems.service;
 
+import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemBatchRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.UpdateOrderItemRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.response.OrderItemResponse;
@@ -17,6 +18,11 @@ public interface OrderItemService {
      */
     OrderItemResponse createOrderItem(CreateOrderItemRequest request);
 
+    /**
+     * Crear varios items de una orden en una sola operación atómica
+     */
+    OrderItemBatchResponse createOrderItems(CreateOrderItemBatchRequest request);
+
     /**
      * Obtener item de orden por ID
      */
@@ -123,7 +129,7 @@ public interface OrderItemService {
     OrderItemResponse updateOrderItemQuantity(Long id, Integer quantity);
 
     /**
-     * Actualizar precio unitario de item
+     * Sobrescribir el precio unitario de un item (ajuste manual, solo administradores)
      */
     OrderItemResponse updateOrderItemUnitPrice(Long id, BigDecimal unitPrice);
 
@@ -158,14 +164,19 @@ public interface OrderItemService {
     BigDecimal getTotalAmountByOrderId(Long orderId);
 
     /**
-     * Obtener productos más pedidos
+     * Obtener los productos más pedidos (top-K aproximado con cota de error)
+     */
+    List<ProductOrderStatsResponse> getMostOrderedProducts(int limit);
+
+    /**
+     * Obtener los productos más pedidos hoy (top-K aproximado con cota de error)
      */
-    List<ProductOrderStatsResponse> getMostOrderedProducts();
+    List<ProductOrderStatsResponse> getTodaysMostOrderedProducts(int limit);
 
     /**
-     * Obtener productos más pedidos hoy
+     * Obtener los productos más pedidos en la última hora (top-K aproximado con cota de error)
      */
-    List<ProductOrderStatsResponse> getTodaysMostOrderedProducts();
+    List<ProductOrderStatsResponse> getLastHourMostOrderedProducts(int limit);
 
     /**
      * Obtener estadísticas de items de orden
@@ -173,12 +184,24 @@ public interface OrderItemService {
     OrderItemStatsResponse getOrderItemStats();
 
     /**
-     * DTO para estadísticas de productos más pedidos
+     * DTO para el resultado de una creación por lotes (IDs en el orden de entrada)
+     */
+    record OrderItemBatchResponse(
+            Long orderId,
+            List<Long> orderItemIds,
+            BigDecimal addedAmount
+    ) {}
+
+    /**
+     * DTO para estadísticas de productos más pedidos: totalQuantity puede sobreestimar la real
+     * como máximo en maxOverestimate; guaranteed indica que su lugar en el top-K es seguro
      */
     record ProductOrderStatsResponse(
             Long productId,
             String productName,
-            Long totalQuantity
+            Long totalQuantity,
+            Long maxOverestimate,
+            boolean guaranteed
     ) {}
 
     /**
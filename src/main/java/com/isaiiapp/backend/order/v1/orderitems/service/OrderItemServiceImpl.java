@@ -1,7 +1,9 @@
 package com.isaiiapp.backend.order.v1.orderitems.service;
 
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemBatchRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.CreateOrderItemRequest;
+import com.isaiiapp.backend.order.v1.orderitems.dto.request.OrderItemLineRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.request.UpdateOrderItemRequest;
 import com.isaiiapp.backend.order.v1.orderitems.dto.response.OrderItemResponse;
 import com.isaiiapp.backend.order.v1.orderitems.mapper.OrderItemMapper;
@@ -9,9 +11,17 @@ import com.isaiiapp.backend.order.v1.orderitems.model.OrderItem;
 import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
 import com.isaiiapp.backend.order.v1.orders.model.Order;
 import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPublisher;
 import com.isaiiapp.backend.order.v1.orders.service.OrderService;
+import com.isaiiapp.backend.order.v1.topproducts.service.TopProductsService;
 import com.isaiiapp.backend.product.v1.product.model.Product;
 import com.isaiiapp.backend.product.v1.product.repository.ProductRepository;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService.ProductPrice;
+import com.isaiiapp.backend.stats.v1.service.StatsSnapshotService;
+import com.isaiiapp.backend.stats.v1.service.StatsValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,7 +30,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,6 +49,10 @@ public class OrderItemServiceImpl implements OrderItemService {
     private final ProductRepository productRepository;
     private final OrderItemMapper orderItemMapper;
     private final OrderService orderService;
+    private final TopProductsService topProductsService;
+    private final OrderEventPublisher orderEventPublisher;
+    private final ProductPriceSnapshotService productPriceSnapshotService;
+    private final StatsSnapshotService statsSnapshotService;
 
     @Override
     public OrderItemResponse createOrderItem(CreateOrderItemRequest request) {
@@ -43,16 +61,79 @@ public class OrderItemServiceImpl implements OrderItemService {
         // Verificar que la orden existe
         Order order = orderRepository.findById(request.getOrderId())
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", request.getOrderId()));
+        requireOpen(order);
 
-        // Verificar que el producto existe
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", request.getProductId()));
+        // Precio vigente desde el snapshot en memoria; el producto solo se referencia por su ID
+        ProductPrice productPrice = resolveActivePrice(request.getProductId());
+        Product product = productRepository.getReferenceById(productPrice.productId());
 
-        OrderItem orderItem = orderItemMapper.toEntity(request, order, product);
+        OrderItem orderItem = orderItemMapper.toEntity(request, order, product, productPrice.price());
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        orderEventPublisher.publish(order.getId(), OrderEventType.ORDER_ITEM_ADDED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_ID, savedOrderItem.getId()));
 
         log.info("Order item created successfully with ID: {}", savedOrderItem.getId());
-        return orderItemMapper.toResponseWithoutRelations(savedOrderItem);
+        return orderItemMapper.toResponseWithoutRelations(savedOrderItem, productPrice);
+    }
+
+    @Override
+    public OrderItemBatchResponse createOrderItems(CreateOrderItemBatchRequest request) {
+        List<OrderItemLineRequest> lines = request.getItems();
+        log.info("Creating {} order items for order ID: {}", lines.size(), request.getOrderId());
+
+        Order order = orderRepository.findById(request.getOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", request.getOrderId()));
+        requireOpen(order);
+
+        // Resolver todos los precios en memoria a un mismo instante, sin consultar productos
+        LocalDateTime pricedAt = LocalDateTime.now();
+        List<Long> productIds = lines.stream()
+                .map(OrderItemLineRequest::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, ProductPrice> prices = new HashMap<>();
+        for (Long productId : productIds) {
+            productPriceSnapshotService.findPriceAt(productId, pricedAt)
+                    .ifPresent(price -> prices.put(productId, price));
+        }
+
+        // Validar el lote completo antes de insertar: cualquier producto inválido rechaza todo
+        List<Long> missingIds = productIds.stream()
+                .filter(productId -> !prices.containsKey(productId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Product", "id", missingIds);
+        }
+        List<Long> inactiveIds = productIds.stream()
+                .filter(productId -> !prices.get(productId).active())
+                .toList();
+        if (!inactiveIds.isEmpty()) {
+            throw new IllegalArgumentException("Products are not active: " + inactiveIds);
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>(lines.size());
+        BigDecimal addedAmount = BigDecimal.ZERO;
+        for (OrderItemLineRequest line : lines) {
+            Product product = productRepository.getReferenceById(line.getProductId());
+            BigDecimal unitPrice = prices.get(line.getProductId()).price();
+            OrderItem orderItem = orderItemMapper.toEntity(line, order, product, unitPrice);
+            orderItems.add(orderItem);
+            addedAmount = addedAmount.add(orderItem.getSubtotal());
+        }
+
+        // saveAll conserva el orden de entrada; los INSERT salen como un lote JDBC
+        List<Long> orderItemIds = orderItemRepository.saveAll(orderItems).stream()
+                .map(OrderItem::getId)
+                .toList();
+
+        orderRepository.addToTotalAmount(order.getId(), addedAmount, LocalDateTime.now());
+        orderEventPublisher.publish(order.getId(), OrderEventType.ORDER_ITEM_ADDED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_IDS, orderItemIds));
+        orderEventPublisher.publish(order.getId(), OrderEventType.ORDER_TOTAL_CHANGED);
+
+        log.info("Created {} order items for order ID: {} - Added amount: {}",
+                orderItemIds.size(), order.getId(), addedAmount);
+        return new OrderItemBatchResponse(order.getId(), orderItemIds, addedAmount);
     }
 
     @Override
@@ -70,19 +151,25 @@ public class OrderItemServiceImpl implements OrderItemService {
 
         OrderItem existingOrderItem = orderItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("OrderItem", "id", id));
+        Long previousOrderId = existingOrderItem.getOrder().getId();
+        // Las instrucciones especiales se pueden corregir siempre; el resto cambia importes
+        if (request.getOrderId() != null || request.getProductId() != null || request.getQuantity() != null) {
+            requireOpen(existingOrderItem.getOrder());
+        }
 
         // Actualizar orden si se proporciona
         if (request.getOrderId() != null) {
             Order order = orderRepository.findById(request.getOrderId())
                     .orElseThrow(() -> new ResourceNotFoundException("Order", "id", request.getOrderId()));
+            requireOpen(order);
             existingOrderItem.setOrder(order);
         }
 
-        // Actualizar producto si se proporciona
+        // Actualizar producto si se proporciona (toma el precio vigente del producto)
         if (request.getProductId() != null) {
-            Product product = productRepository.findById(request.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", request.getProductId()));
-            existingOrderItem.setProduct(product);
+            ProductPrice productPrice = resolveActivePrice(request.getProductId());
+            existingOrderItem.setProduct(productRepository.getReferenceById(productPrice.productId()));
+            existingOrderItem.setUnitPrice(productPrice.price());
         }
 
         // Actualizar cantidad si se proporciona
@@ -90,11 +177,6 @@ public class OrderItemServiceImpl implements OrderItemService {
             existingOrderItem.setQuantity(request.getQuantity());
         }
 
-        // Actualizar precio unitario si se proporciona
-        if (request.getUnitPrice() != null) {
-            existingOrderItem.setUnitPrice(request.getUnitPrice());
-        }
-
         // Actualizar instrucciones especiales si se proporciona
         if (request.getSpecialInstructions() != null) {
             existingOrderItem.setSpecialInstructions(request.getSpecialInstructions());
@@ -104,6 +186,15 @@ public class OrderItemServiceImpl implements OrderItemService {
         existingOrderItem.calculateSubtotal();
 
         OrderItem updatedOrderItem = orderItemRepository.save(existingOrderItem);
+        Long currentOrderId = updatedOrderItem.getOrder().getId();
+        if (!currentOrderId.equals(previousOrderId)) {
+            // El ítem se movió de orden: ambas órdenes cambian
+            orderEventPublisher.publish(previousOrderId, OrderEventType.ORDER_ITEM_REMOVED, Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
+            orderEventPublisher.publish(currentOrderId, OrderEventType.ORDER_ITEM_ADDED,
+                    Map.of(OrderEventPayloads.ORDER_ITEM_ID, id, OrderEventPayloads.MOVED, true));
+        } else {
+            orderEventPublisher.publish(currentOrderId, OrderEventType.ORDER_ITEM_UPDATED, Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
+        }
 
         log.info("Order item updated successfully with ID: {}", updatedOrderItem.getId());
         return orderItemMapper.toResponseWithoutRelations(updatedOrderItem);
@@ -113,11 +204,13 @@ public class OrderItemServiceImpl implements OrderItemService {
     public void deleteOrderItem(Long id) {
         log.info("Deleting order item with ID: {}", id);
 
-        if (!orderItemRepository.existsById(id)) {
-            throw new ResourceNotFoundException("OrderItem", "id", id);
-        }
+        OrderItem orderItem = orderItemRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("OrderItem", "id", id));
+        requireOpen(orderItem.getOrder());
 
-        orderItemRepository.deleteById(id);
+        orderItemRepository.delete(orderItem);
+        orderEventPublisher.publish(orderItem.getOrder().getId(), OrderEventType.ORDER_ITEM_REMOVED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
         log.info("Order item deleted successfully with ID: {}", id);
     }
 
@@ -290,10 +383,13 @@ public class OrderItemServiceImpl implements OrderItemService {
 
         OrderItem orderItem = orderItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("OrderItem", "id", id));
+        requireOpen(orderItem.getOrder());
 
         orderItem.setQuantity(quantity);
         orderItem.calculateSubtotal();
         OrderItem updatedOrderItem = orderItemRepository.save(orderItem);
+        orderEventPublisher.publish(updatedOrderItem.getOrder().getId(), OrderEventType.ORDER_ITEM_UPDATED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
 
         log.info("Order item quantity updated successfully for ID: {}", id);
         return orderItemMapper.toResponseWithoutRelations(updatedOrderItem);
@@ -303,12 +399,19 @@ public class OrderItemServiceImpl implements OrderItemService {
     public OrderItemResponse updateOrderItemUnitPrice(Long id, BigDecimal unitPrice) {
         log.info("Updating order item unit price for ID: {} to: {}", id, unitPrice);
 
+        if (unitPrice == null || unitPrice.signum() <= 0) {
+            throw new IllegalArgumentException("Unit price must be greater than 0");
+        }
+
         OrderItem orderItem = orderItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("OrderItem", "id", id));
+        requireOpen(orderItem.getOrder());
 
         orderItem.setUnitPrice(unitPrice);
         orderItem.calculateSubtotal();
         OrderItem updatedOrderItem = orderItemRepository.save(orderItem);
+        orderEventPublisher.publish(updatedOrderItem.getOrder().getId(), OrderEventType.ORDER_ITEM_UPDATED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
 
         log.info("Order item unit price updated successfully for ID: {}", id);
         return orderItemMapper.toResponseWithoutRelations(updatedOrderItem);
@@ -323,6 +426,8 @@ public class OrderItemServiceImpl implements OrderItemService {
 
         orderItem.setSpecialInstructions(specialInstructions);
         OrderItem updatedOrderItem = orderItemRepository.save(orderItem);
+        orderEventPublisher.publish(updatedOrderItem.getOrder().getId(), OrderEventType.ORDER_ITEM_UPDATED,
+                Map.of(OrderEventPayloads.ORDER_ITEM_ID, id));
 
         log.info("Order item special instructions updated successfully for ID: {}", id);
         return orderItemMapper.toResponseWithoutRelations(updatedOrderItem);
@@ -364,31 +469,31 @@ public class OrderItemServiceImpl implements OrderItemService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProductOrderStatsResponse> getMostOrderedProducts() {
-        log.debug("Fetching most ordered products");
-
-        List<Object[]> results = orderItemRepository.findMostOrderedProducts();
-        return results.stream()
-                .map(result -> new ProductOrderStatsResponse(
-                        (Long) result[0],
-                        (String) result[1],
-                        (Long) result[2]
-                ))
+    public List<ProductOrderStatsResponse> getMostOrderedProducts(int limit) {
+        log.debug("Fetching top {} most ordered products", limit);
+
+        return topProductsService.getAllTimeTopProducts(limit).stream()
+                .map(this::toProductOrderStats)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductOrderStatsResponse> getTodaysMostOrderedProducts(int limit) {
+        log.debug("Fetching today's top {} most ordered products", limit);
+
+        return topProductsService.getTodaysTopProducts(limit).stream()
+                .map(this::toProductOrderStats)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProductOrderStatsResponse> getTodaysMostOrderedProducts() {
-        log.debug("Fetching today's most ordered products");
-
-        List<Object[]> results = orderItemRepository.findTodaysMostOrderedProducts();
-        return results.stream()
-                .map(result -> new ProductOrderStatsResponse(
-                        (Long) result[0],
-                        (String) result[1],
-                        (Long) result[2]
-                ))
+    public List<ProductOrderStatsResponse> getLastHourMostOrderedProducts(int limit) {
+        log.debug("Fetching last hour top {} most ordered products", limit);
+
+        return topProductsService.getLastHourTopProducts(limit).stream()
+                .map(this::toProductOrderStats)
                 .collect(Collectors.toList());
     }
 
@@ -397,25 +502,19 @@ public class OrderItemServiceImpl implements OrderItemService {
     public OrderItemStatsResponse getOrderItemStats() {
         log.debug("Fetching order item statistics");
 
-        Long totalOrderItems = orderItemRepository.count();
-        Double averageQuantity = orderItemRepository.getAverageQuantity();
-        Integer maxQuantity = orderItemRepository.getMaxQuantity();
-        Integer minQuantity = orderItemRepository.getMinQuantity();
-        BigDecimal averageUnitPrice = orderItemRepository.getAverageUnitPrice();
-        BigDecimal maxUnitPrice = orderItemRepository.getMaxUnitPrice();
-        BigDecimal minUnitPrice = orderItemRepository.getMinUnitPrice();
-        BigDecimal averageSubtotal = orderItemRepository.getAverageSubtotal();
-
-        return new OrderItemStatsResponse(
-                totalOrderItems,
-                averageQuantity != null ? averageQuantity : 0.0,
-                maxQuantity != null ? maxQuantity : 0,
-                minQuantity != null ? minQuantity : 0,
-                averageUnitPrice != null ? averageUnitPrice : BigDecimal.ZERO,
-                maxUnitPrice != null ? maxUnitPrice : BigDecimal.ZERO,
-                minUnitPrice != null ? minUnitPrice : BigDecimal.ZERO,
-                averageSubtotal != null ? averageSubtotal : BigDecimal.ZERO
-        );
+        return statsSnapshotService.getSnapshot("order-items", () -> {
+            Object[] row = orderItemRepository.getStatsSnapshot().get(0);
+            return new OrderItemStatsResponse(
+                    StatsValues.toLong(row[0]),
+                    StatsValues.toDouble(row[1]),
+                    StatsValues.toInt(row[2]),
+                    StatsValues.toInt(row[3]),
+                    StatsValues.toDecimal(row[4]),
+                    StatsValues.toDecimal(row[5]),
+                    StatsValues.toDecimal(row[6]),
+                    StatsValues.toDecimal(row[7])
+            );
+        });
     }
 
     /**
@@ -431,4 +530,37 @@ public class OrderItemServiceImpl implements OrderItemService {
             // No lanzar excepción para no afectar la operación principal
         }
     }
+
+    private ProductOrderStatsResponse toProductOrderStats(TopProductsService.TopProductResponse topProduct) {
+        return new ProductOrderStatsResponse(
+                topProduct.productId(),
+                topProduct.productName(),
+                topProduct.quantity(),
+                topProduct.maxOverestimate(),
+                topProduct.guaranteed()
+        );
+    }
+
+    /**
+     * Obtener el precio vigente de un producto activo desde el historial de precios en memoria
+     */
+    private ProductPrice resolveActivePrice(Long productId) {
+        ProductPrice productPrice = productPriceSnapshotService.findPriceAt(productId, LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
+
+        if (!productPrice.active()) {
+            throw new IllegalArgumentException("Product is not active: " + productId);
+        }
+        return productPrice;
+    }
+
+    /**
+     * Las órdenes pagadas ya están sumadas a los rollups de ventas con sus líneas de ese momento
+     * y las canceladas ya se descontaron: sus items no se pueden agregar, mover ni modificar
+     */
+    private static void requireOpen(Order order) {
+        if (order.getPaidAt() != null || order.getCanceledAt() != null) {
+            throw new IllegalStateException("Items cannot be changed on a paid or canceled order: " + order.getId());
+        }
+    }
 }
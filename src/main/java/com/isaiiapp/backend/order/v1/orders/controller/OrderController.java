@@ -1,11 +1,14 @@
 package com.isaiiapp.backend.order.v1.orders.controller;
 
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.export.service.OrderExportService;
 import com.isaiiapp.backend.order.v1.orders.dto.request.CreateOrderRequest;
 import com.isaiiapp.backend.order.v1.orders.dto.request.UpdateOrderRequest;
 import com.isaiiapp.backend.order.v1.orders.dto.response.OrderResponse;
+import com.isaiiapp.backend.order.v1.summary.dto.response.OrderSummaryResponse;
 import com.isaiiapp.backend.order.v1.orders.service.OrderService;
 import com.isaiiapp.backend.order.v1.orders.service.OrderTotalService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,15 +17,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/orders")
@@ -31,8 +38,31 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class OrderController {
 
+    // Campos de OrderSummaryResponse que se pueden usar en sortBy y su propiedad en OrderSummary
+    private static final Map<String, String> SUMMARY_SORTS = Map.ofEntries(
+            Map.entry("id", "orderId"),
+            Map.entry("userId", "userId"),
+            Map.entry("employeeId", "employeeId"),
+            Map.entry("waiterName", "waiterName"),
+            Map.entry("tableId", "tableId"),
+            Map.entry("tableNumber", "tableNumber"),
+            Map.entry("statusId", "statusId"),
+            Map.entry("statusName", "statusName"),
+            Map.entry("isTakeaway", "isTakeaway"),
+            Map.entry("itemCount", "itemCount"),
+            Map.entry("totalAmount", "totalAmount"),
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("updatedAt", "updatedAt"),
+            Map.entry("confirmedAt", "confirmedAt"),
+            Map.entry("inProgressAt", "inProgressAt"),
+            Map.entry("completedAt", "completedAt"),
+            Map.entry("paidAt", "paidAt"),
+            Map.entry("canceledAt", "canceledAt")
+    );
+
     private final OrderService orderService;
     private final OrderTotalService orderTotalService;
+    private final OrderExportService orderExportService;
 
     /**
      * Crear nueva orden
@@ -91,7 +121,7 @@ public class OrderController {
      * Accesible para todos los usuarios autenticados
      */
     @GetMapping
-    public ResponseEntity<Page<OrderResponse>> getAllOrders(
+    public ResponseEntity<Page<OrderSummaryResponse>> getAllOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -100,11 +130,10 @@ public class OrderController {
         log.debug("REST request to get all orders - page: {}, size: {}, sortBy: {}, sortDir: {}",
                 page, size, sortBy, sortDir);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getAllOrders(pageable);
+        Page<OrderSummaryResponse> orders = orderService.getAllOrders(pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -113,7 +142,7 @@ public class OrderController {
      * Obtener órdenes por usuario
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByUserId(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -122,11 +151,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by user ID: {}", userId);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByUserId(userId, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByUserId(userId, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -135,7 +163,7 @@ public class OrderController {
      * Obtener órdenes por mesa
      */
     @GetMapping("/table/{tableId}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByTableId(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByTableId(
             @PathVariable Long tableId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -144,11 +172,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by table ID: {}", tableId);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByTableId(tableId, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByTableId(tableId, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -157,7 +184,7 @@ public class OrderController {
      * Obtener órdenes por estado
      */
     @GetMapping("/status/{statusId}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByStatusId(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByStatusId(
             @PathVariable Long statusId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -166,11 +193,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by status ID: {}", statusId);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByStatusId(statusId, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByStatusId(statusId, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -179,7 +205,7 @@ public class OrderController {
      * Obtener órdenes por nombre de estado
      */
     @GetMapping("/status/name/{statusName}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByStatusName(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByStatusName(
             @PathVariable String statusName,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -188,11 +214,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by status name: {}", statusName);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByStatusName(statusName, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByStatusName(statusName, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -201,7 +226,7 @@ public class OrderController {
      * Obtener órdenes por número de mesa
      */
     @GetMapping("/table/number/{tableNumber}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByTableNumber(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByTableNumber(
             @PathVariable String tableNumber,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -210,11 +235,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by table number: {}", tableNumber);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByTableNumber(tableNumber, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByTableNumber(tableNumber, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -223,7 +247,7 @@ public class OrderController {
      * Obtener órdenes por employee ID
      */
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByEmployeeId(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByEmployeeId(
             @PathVariable String employeeId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -232,11 +256,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by employee ID: {}", employeeId);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByEmployeeId(employeeId, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByEmployeeId(employeeId, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -245,7 +268,7 @@ public class OrderController {
      * Obtener órdenes por rango de fechas de creación
      */
     @GetMapping("/created-between")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByCreatedAtBetween(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByCreatedAtBetween(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(defaultValue = "0") int page,
@@ -255,34 +278,70 @@ public class OrderController {
 
         log.debug("REST request to get orders created between: {} and {}", startDate, endDate);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByCreatedAtBetween(startDate, endDate, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByCreatedAtBetween(startDate, endDate, pageable);
 
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Exportar órdenes con sus items (CSV o NDJSON) en streaming
+     * Pensado para contabilidad: no pagina y mantiene memoria constante
+     */
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        log.info("REST request to export orders created between: {} and {} as {}", from, to, format);
+
+        OrderExportService.ExportFormat exportFormat = OrderExportService.ExportFormat.fromValue(format);
+        String fileName = "orders-" + from.toLocalDate() + "-" + to.toLocalDate() + "." + exportFormat.getExtension();
+
+        if (gzip) {
+            response.setContentType("application/gzip");
+            fileName += ".gz";
+        } else {
+            response.setContentType(exportFormat.getContentType());
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024)
+                : response.getOutputStream();
+
+        orderExportService.exportOrders(from, to, exportFormat, out);
+
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
     /**
      * Obtener órdenes por rango de total
      */
     @GetMapping("/total-range")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByTotalBetween(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByTotalBetween(
             @RequestParam BigDecimal minTotal,
             @RequestParam BigDecimal maxTotal,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "total") String sortBy,
+            @RequestParam(defaultValue = "totalAmount") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         log.debug("REST request to get orders by total range: {} - {}", minTotal, maxTotal);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByTotalBetween(minTotal, maxTotal, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByTotalBetween(minTotal, maxTotal, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -291,7 +350,7 @@ public class OrderController {
      * Buscar órdenes por nombre de usuario
      */
     @GetMapping("/search/user")
-    public ResponseEntity<Page<OrderResponse>> searchOrdersByUserName(
+    public ResponseEntity<Page<OrderSummaryResponse>> searchOrdersByUserName(
             @RequestParam String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -300,11 +359,10 @@ public class OrderController {
 
         log.debug("REST request to search orders by user name: {}", name);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.searchOrdersByUserName(name, pageable);
+        Page<OrderSummaryResponse> orders = orderService.searchOrdersByUserName(name, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -313,7 +371,7 @@ public class OrderController {
      * Obtener órdenes de hoy
      */
     @GetMapping("/today")
-    public ResponseEntity<Page<OrderResponse>> getTodaysOrders(
+    public ResponseEntity<Page<OrderSummaryResponse>> getTodaysOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -321,11 +379,10 @@ public class OrderController {
 
         log.debug("REST request to get today's orders");
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getTodaysOrders(pageable);
+        Page<OrderSummaryResponse> orders = orderService.getTodaysOrders(pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -334,7 +391,7 @@ public class OrderController {
      * Obtener órdenes por tipo (takeaway/dine-in)
      */
     @GetMapping("/type/{isTakeaway}")
-    public ResponseEntity<Page<OrderResponse>> getOrdersByTakeawayType(
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrdersByTakeawayType(
             @PathVariable Boolean isTakeaway,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -343,11 +400,10 @@ public class OrderController {
 
         log.debug("REST request to get orders by takeaway type: {}", isTakeaway);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.getOrdersByTakeawayType(isTakeaway, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getOrdersByTakeawayType(isTakeaway, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -356,7 +412,7 @@ public class OrderController {
      * Buscar órdenes por notas
      */
     @GetMapping("/search/notes")
-    public ResponseEntity<Page<OrderResponse>> searchOrdersByNotes(
+    public ResponseEntity<Page<OrderSummaryResponse>> searchOrdersByNotes(
             @RequestParam String notes,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -365,11 +421,10 @@ public class OrderController {
 
         log.debug("REST request to search orders by notes: {}", notes);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = summarySort(sortBy, sortDir);
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponse> orders = orderService.searchOrdersByNotes(notes, pageable);
+        Page<OrderSummaryResponse> orders = orderService.searchOrdersByNotes(notes, pageable);
 
         return ResponseEntity.ok(orders);
     }
@@ -565,4 +620,28 @@ public class OrderController {
         orderTotalService.recalculateAllOrderTotals();
         return ResponseEntity.ok(Map.of("message", "All order totals recalculated successfully"));
     }
+
+    /**
+     * Parámetros inválidos en este controlador (p. ej. sortBy desconocido): 400 con el formato de error habitual
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
+        log.warn("Invalid order request: {}", ex.getMessage());
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", String.valueOf(ex.getMessage()),
+                "errorCode", "INVALID_ARGUMENT"));
+    }
+
+    private static Sort summarySort(String sortBy, String sortDir) {
+        String property = SUMMARY_SORTS.get(sortBy);
+        if (property == null) {
+            throw new IllegalArgumentException("Invalid sort property: " + sortBy);
+        }
+        return sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(property).descending() : Sort.by(property).ascending();
+    }
 }
@@ -27,7 +27,8 @@ import java.time.LocalDateTime;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_gen")
+    @SequenceGenerator(name = "orders_seq_gen", schema = "orders", sequenceName = "orders_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -4,65 +4,18 @@ import com.isaiiapp.backend.order.v1.orders.model.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @Query("SELECT o FROM Order o WHERE o.user.id = :userId")
-    Page<Order> findByUserId(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.table.id = :tableId")
-    Page<Order> findByTableId(@Param("tableId") Long tableId, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.status.id = :statusId")
-    Page<Order> findByStatusId(@Param("statusId") Long statusId, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.status.name = :statusName")
-    Page<Order> findByStatusName(@Param("statusName") String statusName, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.table.tableNumber = :tableNumber")
-    Page<Order> findByTableNumber(@Param("tableNumber") String tableNumber, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.user.employeeId = :employeeId")
-    Page<Order> findByEmployeeId(@Param("employeeId") String employeeId, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate ORDER BY o.createdAt DESC")
-    Page<Order> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
-                                       @Param("endDate") LocalDateTime endDate,
-                                       Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.updatedAt BETWEEN :startDate AND :endDate ORDER BY o.updatedAt DESC")
-    Page<Order> findByUpdatedAtBetween(@Param("startDate") LocalDateTime startDate,
-                                       @Param("endDate") LocalDateTime endDate,
-                                       Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.totalAmount BETWEEN :minTotal AND :maxTotal")
-    Page<Order> findByTotalBetween(@Param("minTotal") BigDecimal minTotal,
-                                   @Param("maxTotal") BigDecimal maxTotal,
-                                   Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.totalAmount >= :minTotal")
-    Page<Order> findByMinTotal(@Param("minTotal") BigDecimal minTotal, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE LOWER(o.user.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR LOWER(o.user.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Order> findByUserNameContaining(@Param("name") String name, Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.createdAt >= :date ORDER BY o.createdAt DESC")
-    Page<Order> findOrdersFromDate(@Param("date") LocalDateTime date, Pageable pageable);
-
-    // ✅ CORREGIDA: Query para órdenes de hoy
-    @Query("SELECT o FROM Order o WHERE CAST(o.createdAt AS date) = CURRENT_DATE ORDER BY o.createdAt DESC")
-    Page<Order> findTodaysOrders(Pageable pageable);
-
-    @Query("SELECT o FROM Order o WHERE o.isTakeaway = :isTakeaway")
-    Page<Order> findByIsTakeaway(@Param("isTakeaway") Boolean isTakeaway, Pageable pageable);
-
     @Query("SELECT o FROM Order o WHERE o.confirmedAt BETWEEN :startDate AND :endDate")
     Page<Order> findByConfirmedAtBetween(@Param("startDate") LocalDateTime startDate,
                                          @Param("endDate") LocalDateTime endDate,
@@ -88,11 +41,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
                                         @Param("endDate") LocalDateTime endDate,
                                         Pageable pageable);
 
-    @Query("SELECT o FROM Order o WHERE LOWER(o.notes) LIKE LOWER(CONCAT('%', :notes, '%'))")
-    Page<Order> findByNotesContaining(@Param("notes") String notes, Pageable pageable);
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.status.id = :statusId")
+    Long countByStatusId(@Param("statusId") Long statusId);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.status.name = :statusName")
-    Long countByStatusName(@Param("statusName") String statusName);
+    // Conteo por estado directamente sobre la FK (sin JOIN a status); los nombres se resuelven con el registro
+    @Query("SELECT o.status.id, COUNT(o) FROM Order o GROUP BY o.status.id")
+    List<Object[]> countGroupedByStatusId();
 
     @Query("SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
@@ -104,29 +58,85 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE CAST(o.createdAt AS date) = CURRENT_DATE")
     Long countTodaysOrders();
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.isTakeaway = true")
-    Long countTakeawayOrders();
-
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.isTakeaway = false")
-    Long countDineInOrders();
-
-    @Query("SELECT AVG(o.totalAmount) FROM Order o")
-    BigDecimal getAverageOrderTotal();
-
-    @Query("SELECT MIN(o.totalAmount) FROM Order o")
-    BigDecimal getMinOrderTotal();
-
-    @Query("SELECT MAX(o.totalAmount) FROM Order o")
-    BigDecimal getMaxOrderTotal();
-
-    // ✅ CORREGIDA: Total de ventas de hoy
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE CAST(o.createdAt AS date) = CURRENT_DATE")
-    BigDecimal getTodaysTotalSales();
-
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
-    BigDecimal getTotalSalesBetween(@Param("startDate") LocalDateTime startDate,
-                                    @Param("endDate") LocalDateTime endDate);
-
-    @Query("SELECT AVG((EXTRACT(EPOCH FROM o.completedAt) - EXTRACT(EPOCH FROM o.confirmedAt)) / 60.0) FROM Order o WHERE o.completedAt IS NOT NULL AND o.confirmedAt IS NOT NULL")
-    Double getAveragePreparationTimeInMinutes();
+    // Transiciones recientes con la categoría de cada item, para reconstruir la ventana de tiempos de preparación
+    @Query("SELECT o.id, o.confirmedAt, o.inProgressAt, o.completedAt, c.id FROM Order o " +
+            "LEFT JOIN OrderItem oi ON oi.order = o " +
+            "LEFT JOIN oi.product p " +
+            "LEFT JOIN p.category c " +
+            "WHERE o.inProgressAt >= :since OR o.completedAt >= :since")
+    List<Object[]> findPreparationSamplesSince(@Param("since") LocalDateTime since);
+
+    // Búsqueda por similitud de palabras (operador <% de pg_trgm, usa el índice GIN de notas)
+    @Query(value = "SELECT o.id, o.notes, " +
+            "word_similarity(public.f_unaccent(lower(:term)), public.f_unaccent(lower(o.notes))) AS score, o.created_at " +
+            "FROM orders.orders o " +
+            "WHERE public.f_unaccent(lower(:term)) <% public.f_unaccent(lower(o.notes)) " +
+            "ORDER BY score DESC, o.created_at DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchNotesBySimilarity(@Param("term") String term, @Param("limit") int limit);
+
+    // Cuenta abierta de una mesa: orden activa más reciente con sus ítems en una sola consulta
+    // (usa el índice parcial orders_open_by_table_idx de db/indexes.sql)
+    @Query(value = "WITH open_order AS (" +
+            "SELECT o.* FROM orders.orders o " +
+            "WHERE o.table_id = :tableId AND o.paid_at IS NULL AND o.canceled_at IS NULL " +
+            "ORDER BY o.created_at DESC LIMIT 1) " +
+            "SELECT oo.id AS \"orderId\", oo.table_id AS \"tableId\", t.table_number AS \"tableNumber\", " +
+            "s.name AS \"statusName\", u.first_name || ' ' || u.last_name AS \"waiterName\", " +
+            "oo.is_takeaway AS \"isTakeaway\", oo.created_at AS \"createdAt\", oo.notes AS \"notes\", " +
+            "oi.id AS \"orderItemId\", oi.product_id AS \"productId\", p.name AS \"productName\", " +
+            "oi.quantity AS \"quantity\", oi.unit_price AS \"unitPrice\", oi.subtotal AS \"subtotal\", " +
+            "oi.special_instructions AS \"specialInstructions\" " +
+            "FROM open_order oo " +
+            "JOIN tables.tables t ON t.id = oo.table_id " +
+            "JOIN orders.status s ON s.id = oo.status_id " +
+            "JOIN auth.users u ON u.id = oo.user_id " +
+            "LEFT JOIN orders.order_item oi ON oi.order_id = oo.id " +
+            "LEFT JOIN product.product p ON p.id = oi.product_id " +
+            "ORDER BY oi.id", nativeQuery = true)
+    List<OpenCheckRow> findOpenCheckRowsByTableId(@Param("tableId") Long tableId);
+
+    // Suma atómica al total (un solo UPDATE, sin leer-modificar-escribir en memoria)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.totalAmount = o.totalAmount + :delta, o.updatedAt = :updatedAt WHERE o.id = :orderId")
+    int addToTotalAmount(@Param("orderId") Long orderId,
+                         @Param("delta") BigDecimal delta,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Estadísticas en una sola pasada: conteos por tipo, totales y ventas del día (los conteos por estado van en countGroupedByStatusId)
+    @Query("SELECT COUNT(o), " +
+            "COUNT(o) FILTER (WHERE o.createdAt >= :startOfDay AND o.createdAt < :endOfDay), " +
+            "COUNT(o) FILTER (WHERE o.isTakeaway = true), " +
+            "COUNT(o) FILTER (WHERE o.isTakeaway = false), " +
+            "AVG(o.totalAmount), MIN(o.totalAmount), MAX(o.totalAmount), " +
+            "SUM(o.totalAmount) FILTER (WHERE o.createdAt >= :startOfDay AND o.createdAt < :endOfDay) " +
+            "FROM Order o")
+    List<Object[]> getStatsSnapshot(@Param("startOfDay") LocalDateTime startOfDay,
+                                    @Param("endOfDay") LocalDateTime endOfDay);
+
+    // Órdenes en mesa sin pagar ni cancelar (índice parcial orders_open_by_table_idx)
+    @Query("SELECT o.id, o.table.id, o.confirmedAt FROM Order o " +
+            "WHERE o.paidAt IS NULL AND o.canceledAt IS NULL AND o.isTakeaway = false")
+    List<Object[]> findOpenDineInRows();
+
+    /**
+     * Fila de la cuenta abierta: datos de la orden repetidos y un ítem (nulo si la orden no tiene ítems)
+     */
+    interface OpenCheckRow {
+        Long getOrderId();
+        Long getTableId();
+        String getTableNumber();
+        String getStatusName();
+        String getWaiterName();
+        Boolean getIsTakeaway();
+        LocalDateTime getCreatedAt();
+        String getNotes();
+        Long getOrderItemId();
+        Long getProductId();
+        String getProductName();
+        Integer getQuantity();
+        BigDecimal getUnitPrice();
+        BigDecimal getSubtotal();
+        String getSpecialInstructions();
+    }
 }
@@ -3,6 +3,7 @@ package com.isaiiapp.backend.order.v1.orders.service;
 import com.isaiiapp.backend.order.v1.orders.dto.request.CreateOrderRequest;
 import com.isaiiapp.backend.order.v1.orders.dto.request.UpdateOrderRequest;
 import com.isaiiapp.backend.order.v1.orders.dto.response.OrderResponse;
+import com.isaiiapp.backend.order.v1.summary.dto.response.OrderSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -35,82 +36,82 @@ public interface OrderService {
     /**
      * Obtener todas las órdenes con paginación
      */
-    Page<OrderResponse> getAllOrders(Pageable pageable);
+    Page<OrderSummaryResponse> getAllOrders(Pageable pageable);
 
     /**
      * Obtener órdenes por usuario con paginación
      */
-    Page<OrderResponse> getOrdersByUserId(Long userId, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByUserId(Long userId, Pageable pageable);
 
     /**
      * Obtener órdenes por mesa con paginación
      */
-    Page<OrderResponse> getOrdersByTableId(Long tableId, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByTableId(Long tableId, Pageable pageable);
 
     /**
      * Obtener órdenes por estado con paginación
      */
-    Page<OrderResponse> getOrdersByStatusId(Long statusId, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByStatusId(Long statusId, Pageable pageable);
 
     /**
      * Obtener órdenes por nombre de estado con paginación
      */
-    Page<OrderResponse> getOrdersByStatusName(String statusName, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByStatusName(String statusName, Pageable pageable);
 
     /**
      * Obtener órdenes por número de mesa con paginación
      */
-    Page<OrderResponse> getOrdersByTableNumber(String tableNumber, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByTableNumber(String tableNumber, Pageable pageable);
 
     /**
      * Obtener órdenes por employee ID con paginación
      */
-    Page<OrderResponse> getOrdersByEmployeeId(String employeeId, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByEmployeeId(String employeeId, Pageable pageable);
 
     /**
      * Buscar órdenes por rango de fechas de creación con paginación
      */
-    Page<OrderResponse> getOrdersByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
     /**
      * Buscar órdenes por rango de fechas de actualización con paginación
      */
-    Page<OrderResponse> getOrdersByUpdatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByUpdatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
     /**
      * Buscar órdenes por rango de total con paginación
      */
-    Page<OrderResponse> getOrdersByTotalBetween(BigDecimal minTotal, BigDecimal maxTotal, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByTotalBetween(BigDecimal minTotal, BigDecimal maxTotal, Pageable pageable);
 
     /**
      * Buscar órdenes por total mínimo con paginación
      */
-    Page<OrderResponse> getOrdersByMinTotal(BigDecimal minTotal, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByMinTotal(BigDecimal minTotal, Pageable pageable);
 
     /**
      * Buscar órdenes por nombre de usuario con paginación
      */
-    Page<OrderResponse> searchOrdersByUserName(String name, Pageable pageable);
+    Page<OrderSummaryResponse> searchOrdersByUserName(String name, Pageable pageable);
 
     /**
      * Obtener órdenes desde una fecha específica con paginación
      */
-    Page<OrderResponse> getOrdersFromDate(LocalDateTime date, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersFromDate(LocalDateTime date, Pageable pageable);
 
     /**
      * Obtener órdenes de hoy con paginación
      */
-    Page<OrderResponse> getTodaysOrders(Pageable pageable);
+    Page<OrderSummaryResponse> getTodaysOrders(Pageable pageable);
 
     /**
      * Obtener órdenes por tipo (takeaway/dine-in)
      */
-    Page<OrderResponse> getOrdersByTakeawayType(Boolean isTakeaway, Pageable pageable);
+    Page<OrderSummaryResponse> getOrdersByTakeawayType(Boolean isTakeaway, Pageable pageable);
 
     /**
      * Buscar órdenes por notas
      */
-    Page<OrderResponse> searchOrdersByNotes(String notes, Pageable pageable);
+    Page<OrderSummaryResponse> searchOrdersByNotes(String notes, Pageable pageable);
 
     /**
      * Cambiar estado de orden
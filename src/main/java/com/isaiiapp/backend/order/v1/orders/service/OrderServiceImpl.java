@@ -9,10 +9,21 @@ import com.isaiiapp.backend.order.v1.orders.dto.response.OrderResponse;
 import com.isaiiapp.backend.order.v1.orders.mapper.OrderMapper;
 import com.isaiiapp.backend.order.v1.orders.model.Order;
 import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
-import com.isaiiapp.backend.order.v1.status.model.Status;
-import com.isaiiapp.backend.order.v1.status.repository.StatusRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPublisher;
+import com.isaiiapp.backend.order.v1.preptime.service.PreparationTimeService;
+import com.isaiiapp.backend.order.v1.rollup.service.SalesRollupService;
+import com.isaiiapp.backend.order.v1.status.model.StatusCode;
+import com.isaiiapp.backend.order.v1.status.service.StatusRegistry;
+import com.isaiiapp.backend.order.v1.status.service.StatusRegistryService;
+import com.isaiiapp.backend.order.v1.summary.dto.response.OrderSummaryResponse;
+import com.isaiiapp.backend.order.v1.summary.mapper.OrderSummaryMapper;
+import com.isaiiapp.backend.order.v1.summary.repository.OrderSummaryRepository;
 import com.isaiiapp.backend.tables.v1.tables.model.Tables;
 import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
+import com.isaiiapp.backend.stats.v1.service.StatsSnapshotService;
+import com.isaiiapp.backend.stats.v1.service.StatsValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,7 +32,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -33,8 +47,14 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final UsersRepository usersRepository;
     private final TablesRepository tablesRepository;
-    private final StatusRepository statusRepository;
+    private final StatusRegistryService statusRegistryService;
     private final OrderMapper orderMapper;
+    private final SalesRollupService salesRollupService;
+    private final PreparationTimeService preparationTimeService;
+    private final OrderEventPublisher orderEventPublisher;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryMapper orderSummaryMapper;
+    private final StatsSnapshotService statsSnapshotService;
 
     @Override
     public OrderResponse createOrder(CreateOrderRequest request) {
@@ -48,12 +68,11 @@ public class OrderServiceImpl implements OrderService {
         Tables table = tablesRepository.findById(request.getTableId())
                 .orElseThrow(() -> new ResourceNotFoundException("Table", "id", request.getTableId()));
 
-        // Verificar que el estado existe
-        Status status = statusRepository.findById(request.getStatusId())
-                .orElseThrow(() -> new ResourceNotFoundException("Status", "id", request.getStatusId()));
-
-        Order order = orderMapper.toEntity(request, user, table, status);
+        // Verificar que el estado existe (registro en memoria, sin consulta)
+        Order order = orderMapper.toEntity(request, user, table,
+                statusRegistryService.getRegistry().requireById(request.getStatusId()).toReference());
         Order savedOrder = orderRepository.save(order);
+        orderEventPublisher.publish(savedOrder.getId(), OrderEventType.ORDER_CREATED);
 
         log.info("Order created successfully with ID: {}", savedOrder.getId());
         return orderMapper.toResponse(savedOrder);
@@ -91,9 +110,7 @@ public class OrderServiceImpl implements OrderService {
 
         // Actualizar estado si se proporciona
         if (request.getStatusId() != null) {
-            Status status = statusRepository.findById(request.getStatusId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Status", "id", request.getStatusId()));
-            existingOrder.setStatus(status);
+            existingOrder.setStatus(statusRegistryService.getRegistry().requireById(request.getStatusId()).toReference());
         }
 
         // Actualizar tipo takeaway si se proporciona
@@ -107,6 +124,7 @@ public class OrderServiceImpl implements OrderService {
         }
 
         Order updatedOrder = orderRepository.save(existingOrder);
+        orderEventPublisher.publish(id, OrderEventType.ORDER_UPDATED);
 
         log.info("Order updated successfully with ID: {}", updatedOrder.getId());
         return orderMapper.toResponse(updatedOrder);
@@ -120,146 +138,151 @@ public class OrderServiceImpl implements OrderService {
             throw new ResourceNotFoundException("Order", "id", id);
         }
 
+        // Retirar la orden de los agregados de ventas si había sido pagada
+        // (síncrono: la reversión necesita las filas que se eliminan a continuación)
+        salesRollupService.revertPaidOrder(id);
+
         orderRepository.deleteById(id);
+        orderEventPublisher.publish(id, OrderEventType.ORDER_DELETED);
         log.info("Order deleted successfully with ID: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getAllOrders(Pageable pageable) {
+    public Page<OrderSummaryResponse> getAllOrders(Pageable pageable) {
         log.debug("Fetching all orders with pagination: {}", pageable);
 
-        return orderRepository.findAll(pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findAll(pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByUserId(Long userId, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByUserId(Long userId, Pageable pageable) {
         log.debug("Fetching orders by user ID: {} with pagination: {}", userId, pageable);
 
-        return orderRepository.findByUserId(userId, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByUserId(userId, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByTableId(Long tableId, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByTableId(Long tableId, Pageable pageable) {
         log.debug("Fetching orders by table ID: {} with pagination: {}", tableId, pageable);
 
-        return orderRepository.findByTableId(tableId, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByTableId(tableId, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByStatusId(Long statusId, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByStatusId(Long statusId, Pageable pageable) {
         log.debug("Fetching orders by status ID: {} with pagination: {}", statusId, pageable);
 
-        return orderRepository.findByStatusId(statusId, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByStatusId(statusId, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByStatusName(String statusName, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByStatusName(String statusName, Pageable pageable) {
         log.debug("Fetching orders by status name: {} with pagination: {}", statusName, pageable);
 
-        return orderRepository.findByStatusName(statusName, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByStatusName(statusName, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByTableNumber(String tableNumber, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByTableNumber(String tableNumber, Pageable pageable) {
         log.debug("Fetching orders by table number: {} with pagination: {}", tableNumber, pageable);
 
-        return orderRepository.findByTableNumber(tableNumber, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByTableNumber(tableNumber, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByEmployeeId(String employeeId, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByEmployeeId(String employeeId, Pageable pageable) {
         log.debug("Fetching orders by employee ID: {} with pagination: {}", employeeId, pageable);
 
-        return orderRepository.findByEmployeeId(employeeId, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByEmployeeId(employeeId, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         log.debug("Fetching orders created between: {} and {} with pagination: {}", startDate, endDate, pageable);
 
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        return orderRepository.findByCreatedAtBetween(startDate, endDate, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByCreatedAtBetween(startDate, endDate, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByUpdatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByUpdatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         log.debug("Fetching orders updated between: {} and {} with pagination: {}", startDate, endDate, pageable);
 
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        return orderRepository.findByUpdatedAtBetween(startDate, endDate, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByUpdatedAtBetween(startDate, endDate, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByTotalBetween(BigDecimal minTotal, BigDecimal maxTotal, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByTotalBetween(BigDecimal minTotal, BigDecimal maxTotal, Pageable pageable) {
         log.debug("Fetching orders by total range: {} - {} with pagination: {}", minTotal, maxTotal, pageable);
 
         if (minTotal.compareTo(maxTotal) > 0) {
             throw new IllegalArgumentException("Min total cannot be greater than max total");
         }
 
-        return orderRepository.findByTotalBetween(minTotal, maxTotal, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByTotalBetween(minTotal, maxTotal, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByMinTotal(BigDecimal minTotal, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByMinTotal(BigDecimal minTotal, Pageable pageable) {
         log.debug("Fetching orders by min total: {} with pagination: {}", minTotal, pageable);
 
-        return orderRepository.findByMinTotal(minTotal, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByMinTotal(minTotal, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> searchOrdersByUserName(String name, Pageable pageable) {
+    public Page<OrderSummaryResponse> searchOrdersByUserName(String name, Pageable pageable) {
         log.debug("Searching orders by user name: {} with pagination: {}", name, pageable);
 
-        return orderRepository.findByUserNameContaining(name, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByWaiterNameContaining(name, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersFromDate(LocalDateTime date, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersFromDate(LocalDateTime date, Pageable pageable) {
         log.debug("Fetching orders from date: {} with pagination: {}", date, pageable);
 
-        return orderRepository.findOrdersFromDate(date, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findFromDate(date, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getTodaysOrders(Pageable pageable) {
+    public Page<OrderSummaryResponse> getTodaysOrders(Pageable pageable) {
         log.debug("Fetching today's orders with pagination: {}", pageable);
 
-        return orderRepository.findTodaysOrders(pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findFromDate(LocalDate.now().atStartOfDay(), pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
@@ -269,11 +292,9 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
-        Status status = statusRepository.findById(statusId)
-                .orElseThrow(() -> new ResourceNotFoundException("Status", "id", statusId));
-
-        order.setStatus(status);
+        order.setStatus(statusRegistryService.getRegistry().requireById(statusId).toReference());
         Order updatedOrder = orderRepository.save(order);
+        orderEventPublisher.publish(id, OrderEventType.ORDER_STATUS_CHANGED, Map.of(OrderEventPayloads.STATUS_ID, statusId));
 
         log.info("Order status changed successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
@@ -288,6 +309,7 @@ public class OrderServiceImpl implements OrderService {
 
         order.setTotalAmount(total);
         Order updatedOrder = orderRepository.save(order);
+        orderEventPublisher.publish(id, OrderEventType.ORDER_TOTAL_CHANGED);
 
         log.info("Order total updated successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
@@ -304,7 +326,9 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public Long countOrdersByStatusName(String statusName) {
-        return orderRepository.countByStatusName(statusName);
+        return statusRegistryService.getRegistry().findByName(statusName)
+                .map(status -> orderRepository.countByStatusId(status.id()))
+                .orElse(0L);
     }
 
     @Override
@@ -330,56 +354,57 @@ public class OrderServiceImpl implements OrderService {
     public OrderStatsResponse getOrderStats() {
         log.debug("Fetching order statistics");
 
-        Long totalOrders = orderRepository.count();
-        Long todaysOrders = orderRepository.countTodaysOrders();
-        Long takeawayOrders = orderRepository.countTakeawayOrders();
-        Long dineInOrders = orderRepository.countDineInOrders();
-        Long confirmedOrders = orderRepository.countByStatusName("Confirmado");
-        Long inProgressOrders = orderRepository.countByStatusName("En Curso");
-        Long completedOrders = orderRepository.countByStatusName("Terminado");
-        Long paidOrders = orderRepository.countByStatusName("Pagado");
-        Long cancelledOrders = orderRepository.countByStatusName("Cancelado");
-
-        BigDecimal averageOrderTotal = orderRepository.getAverageOrderTotal();
-        BigDecimal minOrderTotal = orderRepository.getMinOrderTotal();
-        BigDecimal maxOrderTotal = orderRepository.getMaxOrderTotal();
-        BigDecimal todaysTotalSales = orderRepository.getTodaysTotalSales();
-        Double averagePreparationTime = orderRepository.getAveragePreparationTimeInMinutes();
-
-        return new OrderStatsResponse(
-                totalOrders,
-                todaysOrders != null ? todaysOrders : 0L,
-                takeawayOrders != null ? takeawayOrders : 0L,
-                dineInOrders != null ? dineInOrders : 0L,
-                confirmedOrders != null ? confirmedOrders : 0L,
-                inProgressOrders != null ? inProgressOrders : 0L,
-                completedOrders != null ? completedOrders : 0L,
-                paidOrders != null ? paidOrders : 0L,
-                cancelledOrders != null ? cancelledOrders : 0L,
-                averageOrderTotal != null ? averageOrderTotal : BigDecimal.ZERO,
-                minOrderTotal != null ? minOrderTotal : BigDecimal.ZERO,
-                maxOrderTotal != null ? maxOrderTotal : BigDecimal.ZERO,
-                todaysTotalSales != null ? todaysTotalSales : BigDecimal.ZERO,
-                averagePreparationTime != null ? averagePreparationTime : 0.0
-        );
+        return statsSnapshotService.getSnapshot("orders", () -> {
+            LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+            Object[] row = orderRepository.getStatsSnapshot(startOfDay, startOfDay.plusDays(1)).get(0);
+            Map<Long, Long> countsByStatusId = new HashMap<>();
+            for (Object[] statusRow : orderRepository.countGroupedByStatusId()) {
+                countsByStatusId.put((Long) statusRow[0], StatsValues.toLong(statusRow[1]));
+            }
+            StatusRegistry registry = statusRegistryService.getRegistry();
+            Double averagePreparationTime = preparationTimeService.getAveragePreparationTimeInMinutes();
+
+            return new OrderStatsResponse(
+                    StatsValues.toLong(row[0]),
+                    StatsValues.toLong(row[1]),
+                    StatsValues.toLong(row[2]),
+                    StatsValues.toLong(row[3]),
+                    countByCode(registry, countsByStatusId, StatusCode.CONFIRMED),
+                    countByCode(registry, countsByStatusId, StatusCode.IN_PROGRESS),
+                    countByCode(registry, countsByStatusId, StatusCode.COMPLETED),
+                    countByCode(registry, countsByStatusId, StatusCode.PAID),
+                    countByCode(registry, countsByStatusId, StatusCode.CANCELED),
+                    StatsValues.toDecimal(row[4]),
+                    StatsValues.toDecimal(row[5]),
+                    StatsValues.toDecimal(row[6]),
+                    StatsValues.toDecimal(row[7]),
+                    averagePreparationTime != null ? averagePreparationTime : 0.0
+            );
+        });
+    }
+
+    private long countByCode(StatusRegistry registry, Map<Long, Long> countsByStatusId, StatusCode code) {
+        return registry.findByCode(code)
+                .map(status -> countsByStatusId.getOrDefault(status.id(), 0L))
+                .orElse(0L);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByTakeawayType(Boolean isTakeaway, Pageable pageable) {
+    public Page<OrderSummaryResponse> getOrdersByTakeawayType(Boolean isTakeaway, Pageable pageable) {
         log.debug("Fetching orders by takeaway type: {} with pagination: {}", isTakeaway, pageable);
 
-        return orderRepository.findByIsTakeaway(isTakeaway, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByIsTakeaway(isTakeaway, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> searchOrdersByNotes(String notes, Pageable pageable) {
+    public Page<OrderSummaryResponse> searchOrdersByNotes(String notes, Pageable pageable) {
         log.debug("Searching orders by notes: {} with pagination: {}", notes, pageable);
 
-        return orderRepository.findByNotesContaining(notes, pageable)
-                .map(orderMapper::toResponse);
+        return orderSummaryRepository.findByNotesContaining(notes, pageable)
+                .map(orderSummaryMapper::toResponse);
     }
 
     @Override
@@ -389,9 +414,13 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
+        boolean firstTransition = order.getInProgressAt() == null;
         order.setInProgressAt(LocalDateTime.now());
         Order updatedOrder = orderRepository.save(order);
 
+        // El histograma de tiempos de preparación solo usa la primera transición
+        orderEventPublisher.publish(id, OrderEventType.ORDER_IN_PROGRESS, Map.of(OrderEventPayloads.FIRST_TRANSITION, firstTransition));
+
         log.info("Order marked as in progress successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
     }
@@ -403,9 +432,13 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
+        boolean firstTransition = order.getCompletedAt() == null;
         order.setCompletedAt(LocalDateTime.now());
         Order updatedOrder = orderRepository.save(order);
 
+        // El histograma de tiempos de preparación solo usa la primera transición
+        orderEventPublisher.publish(id, OrderEventType.ORDER_COMPLETED, Map.of(OrderEventPayloads.FIRST_TRANSITION, firstTransition));
+
         log.info("Order marked as completed successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
     }
@@ -417,9 +450,13 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
+        boolean firstTransition = order.getPaidAt() == null;
         order.setPaidAt(LocalDateTime.now());
         Order updatedOrder = orderRepository.save(order);
 
+        // Los agregados de ventas y la co-ocurrencia de productos se actualizan de forma asíncrona desde el outbox
+        orderEventPublisher.publish(id, OrderEventType.ORDER_PAID, Map.of(OrderEventPayloads.FIRST_TRANSITION, firstTransition));
+
         log.info("Order marked as paid successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
     }
@@ -434,6 +471,9 @@ public class OrderServiceImpl implements OrderService {
         order.setCanceledAt(LocalDateTime.now());
         Order updatedOrder = orderRepository.save(order);
 
+        // Los agregados de ventas se revierten de forma asíncrona desde el outbox
+        orderEventPublisher.publish(id, OrderEventType.ORDER_CANCELED);
+
         log.info("Order marked as canceled successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
     }
@@ -447,6 +487,7 @@ public class OrderServiceImpl implements OrderService {
 
         order.setNotes(notes);
         Order updatedOrder = orderRepository.save(order);
+        orderEventPublisher.publish(id, OrderEventType.ORDER_UPDATED);
 
         log.info("Order notes updated successfully for ID: {}", id);
         return orderMapper.toResponse(updatedOrder);
@@ -455,6 +496,6 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public Double getAveragePreparationTimeInMinutes() {
-        return orderRepository.getAveragePreparationTimeInMinutes();
+        return preparationTimeService.getAveragePreparationTimeInMinutes();
     }
 }
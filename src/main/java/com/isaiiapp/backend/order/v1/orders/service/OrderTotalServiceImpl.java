@@ -4,6 +4,8 @@ import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
 import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
 import com.isaiiapp.backend.order.v1.orders.model.Order;
 import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,7 @@ public class OrderTotalServiceImpl implements OrderTotalService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderEventPublisher orderEventPublisher;
 
     @Override
     public BigDecimal recalculateAndUpdateOrderTotal(Long orderId) {
@@ -36,6 +39,7 @@ public class OrderTotalServiceImpl implements OrderTotalService {
         // Actualizar el total en la orden
         order.setTotalAmount(newTotal);
         orderRepository.save(order);
+        orderEventPublisher.publish(orderId, OrderEventType.ORDER_TOTAL_CHANGED);
 
         log.info("Order total recalculated for order ID: {} - New total: {}", orderId, newTotal);
         return newTotal;
@@ -83,6 +87,7 @@ public class OrderTotalServiceImpl implements OrderTotalService {
             if (currentTotal.compareTo(calculatedTotal) != 0) {
                 order.setTotalAmount(calculatedTotal);
                 orderRepository.save(order);
+                orderEventPublisher.publish(order.getId(), OrderEventType.ORDER_TOTAL_CHANGED);
                 updatedCount++;
 
                 log.debug("Updated order ID: {} - Old total: {}, New total: {}",
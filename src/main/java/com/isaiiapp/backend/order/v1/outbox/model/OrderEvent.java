@@ -0,0 +1,72 @@
+package com.isaiiapp.backend.order.v1.outbox.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de orden escrito en la misma transacción que la mutación (outbox transaccional)
+ */
+@Entity
+@Table(schema = "orders", name = "order_outbox",
+        indexes = {
+                @Index(columnList = "order_id", name = "order_outbox_order_idx"),
+                @Index(columnList = "processed_at", name = "order_outbox_processed_at_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class OrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq_gen")
+    @SequenceGenerator(name = "order_outbox_seq_gen", schema = "orders", sequenceName = "order_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Sin llave foránea: los eventos de órdenes eliminadas también deben entregarse
+    @NotNull(message = "Order ID should not be null")
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @NotNull(message = "Event type should not be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OrderEventType eventType;
+
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    @NotNull(message = "Created at should not be null")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @NotNull(message = "Attempts should not be null")
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.isaiiapp.backend.order.v1.outbox.model;
+
+/**
+ * Tipos de evento de orden publicados en el outbox
+ */
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_UPDATED,
+    ORDER_DELETED,
+    ORDER_STATUS_CHANGED,
+    ORDER_TOTAL_CHANGED,
+    ORDER_IN_PROGRESS,
+    ORDER_COMPLETED,
+    ORDER_PAID,
+    ORDER_CANCELED,
+    ORDER_ITEM_ADDED,
+    ORDER_ITEM_UPDATED,
+    ORDER_ITEM_REMOVED
+}
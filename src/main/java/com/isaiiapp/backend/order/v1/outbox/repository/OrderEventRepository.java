@@ -0,0 +1,41 @@
+package com.isaiiapp.backend.order.v1.outbox.repository;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    // Eventos pendientes y disponibles en orden de escritura (usa el índice parcial order_outbox_pending_idx).
+    // Un evento en espera de reintento excluye también los posteriores de su orden, para que el lote
+    // no se llene de eventos que el despachador tendría que saltar
+    @Query("SELECT e FROM OrderEvent e WHERE e.processedAt IS NULL AND e.failedAt IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM OrderEvent b WHERE b.orderId = e.orderId " +
+            "AND b.processedAt IS NULL AND b.failedAt IS NULL AND b.id <= e.id AND b.availableAt > :now) " +
+            "ORDER BY e.id")
+    List<OrderEvent> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderEvent e SET e.processedAt = :processedAt WHERE e.id = :id")
+    int markProcessed(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OrderEvent e SET e.attempts = e.attempts + 1, e.lastError = :lastError, " +
+            "e.availableAt = :availableAt, e.failedAt = :failedAt WHERE e.id = :id")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("lastError") String lastError,
+                          @Param("availableAt") LocalDateTime availableAt,
+                          @Param("failedAt") LocalDateTime failedAt);
+
+    @Modifying
+    @Query("DELETE FROM OrderEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
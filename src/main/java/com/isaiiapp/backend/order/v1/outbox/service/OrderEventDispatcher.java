@@ -0,0 +1,219 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.repository.OrderEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Despachador en proceso del outbox de órdenes
+ * Drena eventos pendientes por lotes en hilos virtuales: un hilo por orden (orden de entrega por orden)
+ * y órdenes distintas en paralelo, limitado por app.outbox.max-concurrency para no agotar el pool de conexiones.
+ * Supone una sola instancia despachando sobre la base de datos.
+ */
+@Component
+@Slf4j
+public class OrderEventDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OrderEventRepository orderEventRepository;
+    private final List<OrderEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Semaphore concurrency;
+    private ExecutorService workers;
+    private Thread poller;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${app.outbox.retention-hours:72}")
+    private int retentionHours;
+
+    public OrderEventDispatcher(OrderEventRepository orderEventRepository,
+                                List<OrderEventHandler> handlers,
+                                PlatformTransactionManager transactionManager) {
+        this.orderEventRepository = orderEventRepository;
+        this.handlers = handlers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        concurrency = new Semaphore(maxConcurrency);
+        workers = Executors.newVirtualThreadPerTaskExecutor();
+        running = true;
+        poller = Thread.ofVirtual().name("order-outbox-dispatcher").start(this::pollLoop);
+        log.info("Order outbox dispatcher started with {} handlers", handlers.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (workers != null) {
+            workers.close();
+        }
+    }
+
+    /**
+     * Solicitar un drenado inmediato (se invoca al confirmar una transacción que publicó eventos)
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}",
+            initialDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void purgeProcessedEvents() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status -> orderEventRepository.deleteProcessedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} processed order events older than {}", deleted, before);
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                int processed = dispatchBatch();
+                if (processed == 0) {
+                    wakeUps.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Order outbox dispatch failed", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int dispatchBatch() throws InterruptedException, ExecutionException {
+        List<OrderEvent> pending = transactionTemplate.execute(status ->
+                orderEventRepository.findPending(LocalDateTime.now(), PageRequest.of(0, batchSize)));
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        // Agrupar por orden conservando el orden de escritura dentro de cada grupo
+        Map<Long, List<OrderEvent>> byOrder = new LinkedHashMap<>();
+        for (OrderEvent event : pending) {
+            byOrder.computeIfAbsent(event.getOrderId(), id -> new ArrayList<>()).add(event);
+        }
+
+        List<Future<Integer>> results = new ArrayList<>(byOrder.size());
+        for (List<OrderEvent> events : byOrder.values()) {
+            results.add(workers.submit(() -> dispatchOrderEvents(events)));
+        }
+
+        // Esperar el lote completo: nunca hay dos hilos procesando la misma orden
+        int processed = 0;
+        for (Future<Integer> result : results) {
+            processed += result.get();
+        }
+        return processed;
+    }
+
+    private int dispatchOrderEvents(List<OrderEvent> events) throws InterruptedException {
+        concurrency.acquire();
+        try {
+            int processed = 0;
+            for (OrderEvent event : events) {
+                // Un evento en espera de reintento bloquea los siguientes de la misma orden
+                if (event.getAvailableAt() != null && event.getAvailableAt().isAfter(LocalDateTime.now())) {
+                    break;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        for (OrderEventHandler handler : handlers) {
+                            if (handler.supportedTypes().contains(event.getEventType())) {
+                                handler.handle(event);
+                            }
+                        }
+                        orderEventRepository.markProcessed(event.getId(), LocalDateTime.now());
+                    });
+                    processed++;
+                } catch (Exception e) {
+                    recordFailure(event, e);
+                    break;
+                }
+            }
+            return processed;
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private void recordFailure(OrderEvent event, Exception error) {
+        int attempts = event.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        String message = String.valueOf(error.getMessage());
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        LocalDateTime failedAt = null;
+        LocalDateTime availableAt = null;
+        if (attempts >= maxAttempts) {
+            failedAt = now;
+            log.error("Order event ID: {} ({}) for order ID: {} failed after {} attempts",
+                    event.getId(), event.getEventType(), event.getOrderId(), attempts, error);
+        } else {
+            // Reintento con espera exponencial acotada
+            long backoffMs = Math.min(pollIntervalMs << Math.min(attempts, 20), MAX_BACKOFF.toMillis());
+            availableAt = now.plus(Duration.ofMillis(backoffMs));
+            log.warn("Order event ID: {} ({}) for order ID: {} failed, retrying at {}: {}",
+                    event.getId(), event.getEventType(), event.getOrderId(), availableAt, message);
+        }
+
+        String lastError = message;
+        LocalDateTime retryAt = availableAt;
+        LocalDateTime deadAt = failedAt;
+        transactionTemplate.executeWithoutResult(status ->
+                orderEventRepository.markAttemptFailed(event.getId(), lastError, retryAt, deadAt));
+    }
+}
@@ -0,0 +1,23 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+
+import java.util.Set;
+
+/**
+ * Consumidor en proceso de eventos de orden
+ * La entrega es al menos una vez y en orden por orden: las implementaciones deben ser idempotentes
+ */
+public interface OrderEventHandler {
+
+    /**
+     * Tipos de evento que procesa este manejador
+     */
+    Set<OrderEventType> supportedTypes();
+
+    /**
+     * Procesar un evento (se ejecuta en la transacción que lo marca como procesado)
+     */
+    void handle(OrderEvent event);
+}
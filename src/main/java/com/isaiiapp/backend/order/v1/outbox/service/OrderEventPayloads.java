@@ -0,0 +1,81 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lectura y escritura del payload JSON de los eventos de orden (un solo lugar para las claves y el formato)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventPayloads {
+
+    public static final String FIRST_TRANSITION = "firstTransition";
+    public static final String STATUS_ID = "statusId";
+    public static final String ORDER_ITEM_ID = "orderItemId";
+    public static final String ORDER_ITEM_IDS = "orderItemIds";
+    public static final String MOVED = "moved";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Serializar el payload (null si no hay datos)
+     */
+    public String write(Map<String, Object> payload) {
+        if (payload == null || payload.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Order event payload is not serializable", e);
+        }
+    }
+
+    /**
+     * Leer el payload; un evento sin payload devuelve un nodo vacío
+     */
+    public JsonNode read(OrderEvent event) {
+        if (event.getPayload() == null) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid payload for order event ID: " + event.getId(), e);
+        }
+    }
+
+    /**
+     * Si el evento corresponde a la primera vez que la orden llega a esa etapa
+     */
+    public boolean isFirstTransition(OrderEvent event) {
+        return read(event).path(FIRST_TRANSITION).asBoolean(false);
+    }
+
+    /**
+     * Items nuevos del evento (vacío si los items se movieron desde otra orden)
+     */
+    public List<Long> readNewOrderItemIds(OrderEvent event) {
+        JsonNode payload = read(event);
+        if (payload.path(MOVED).asBoolean(false)) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        if (payload.hasNonNull(ORDER_ITEM_ID)) {
+            ids.add(payload.get(ORDER_ITEM_ID).asLong());
+        }
+        payload.path(ORDER_ITEM_IDS).forEach(id -> ids.add(id.asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,18 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+
+import java.util.Map;
+
+public interface OrderEventPublisher {
+
+    /**
+     * Registrar un evento de orden en la transacción actual
+     */
+    void publish(Long orderId, OrderEventType eventType);
+
+    /**
+     * Registrar un evento de orden con datos adicionales en la transacción actual
+     */
+    void publish(Long orderId, OrderEventType eventType, Map<String, Object> payload);
+}
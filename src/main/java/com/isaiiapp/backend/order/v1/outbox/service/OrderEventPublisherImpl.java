@@ -0,0 +1,50 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.repository.OrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderEventPublisherImpl implements OrderEventPublisher {
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderEventDispatcher orderEventDispatcher;
+    private final OrderEventPayloads orderEventPayloads;
+
+    @Override
+    public void publish(Long orderId, OrderEventType eventType) {
+        publish(orderId, eventType, null);
+    }
+
+    @Override
+    public void publish(Long orderId, OrderEventType eventType, Map<String, Object> payload) {
+        OrderEvent event = new OrderEvent();
+        event.setOrderId(orderId);
+        event.setEventType(eventType);
+        event.setPayload(orderEventPayloads.write(payload));
+        orderEventRepository.save(event);
+
+        log.debug("Order event {} queued for order ID: {}", eventType, orderId);
+
+        // Despertar al despachador al confirmar en lugar de esperar al siguiente sondeo
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderEventDispatcher.wakeUp();
+            }
+        });
+    }
+
+}
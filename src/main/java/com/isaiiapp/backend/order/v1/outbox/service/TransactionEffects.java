@@ -0,0 +1,30 @@
+package com.isaiiapp.backend.order.v1.outbox.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Efectos en memoria de los manejadores de eventos: se aplican solo cuando la transacción confirma,
+ * así un evento que falla y se reintenta no los aplica dos veces
+ */
+public final class TransactionEffects {
+
+    private TransactionEffects() {
+    }
+
+    /**
+     * Ejecutar al confirmar la transacción actual (sin transacción, de inmediato)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.isaiiapp.backend.order.v1.preptime.controller;
+
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationStage;
+import com.isaiiapp.backend.order.v1.preptime.service.PreparationTimeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/orders/preparation-time")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class PreparationTimeController {
+
+    private final PreparationTimeService preparationTimeService;
+
+    /**
+     * Obtener percentiles p50/p90/p99 en una ventana móvil (máximo 24 horas)
+     * Solo administradores pueden ver estadísticas de cocina
+     */
+    @GetMapping
+    public ResponseEntity<PreparationTimeService.PreparationTimeStatsResponse> getStats(
+            @RequestParam(defaultValue = "TOTAL") PreparationStage stage,
+            @RequestParam(defaultValue = "60") int windowMinutes,
+            @RequestParam(required = false) Integer hourOfDay,
+            @RequestParam(required = false) Long categoryId) {
+        log.debug("REST request to get preparation time stats for stage: {}, window: {} min", stage, windowMinutes);
+
+        return ResponseEntity.ok(preparationTimeService.getStats(stage, windowMinutes, hourOfDay, categoryId));
+    }
+
+    /**
+     * Obtener percentiles históricos desde los snapshots persistidos
+     */
+    @GetMapping("/history")
+    public ResponseEntity<PreparationTimeService.PreparationTimeStatsResponse> getHistoricalStats(
+            @RequestParam(defaultValue = "TOTAL") PreparationStage stage,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) Integer hourOfDay,
+            @RequestParam(required = false) Long categoryId) {
+        log.debug("REST request to get historical preparation time stats for stage: {}", stage);
+
+        return ResponseEntity.ok(preparationTimeService.getHistoricalStats(stage, startDate, endDate, hourOfDay, categoryId));
+    }
+
+    /**
+     * Obtener perfil histórico por hora del día
+     */
+    @GetMapping("/history/by-hour")
+    public ResponseEntity<List<PreparationTimeService.PreparationTimeStatsResponse>> getHistoricalStatsByHour(
+            @RequestParam(defaultValue = "TOTAL") PreparationStage stage,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) Long categoryId) {
+        log.debug("REST request to get hourly preparation time profile for stage: {}", stage);
+
+        return ResponseEntity.ok(preparationTimeService.getHistoricalStatsByHour(stage, startDate, endDate, categoryId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.isaiiapp.backend.order.v1.preptime.model;
+
+/**
+ * Tramos medidos del ciclo de preparación de una orden
+ */
+public enum PreparationStage {
+    /** Confirmada → en curso (espera en cola de cocina) */
+    QUEUE,
+    /** En curso → terminada (tiempo de cocina) */
+    COOKING,
+    /** Confirmada → terminada (tiempo total) */
+    TOTAL
+}
@@ -0,0 +1,79 @@
+package com.isaiiapp.backend.order.v1.preptime.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot persistido de un histograma de tiempos de preparación para un intervalo y un corte
+ */
+@Entity
+@Table(schema = "orders", name = "preparation_time_snapshot",
+        indexes = {
+                @Index(columnList = "window_start", name = "preparation_time_snapshot_window_idx"),
+                @Index(columnList = "stage, category_id, window_start", name = "preparation_time_snapshot_slice_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class PreparationTimeSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "preparation_time_snapshot_seq_gen")
+    @SequenceGenerator(name = "preparation_time_snapshot_seq_gen", schema = "orders", sequenceName = "preparation_time_snapshot_id_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull(message = "Stage should not be null")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PreparationStage stage;
+
+    @NotNull(message = "Hour of day should not be null")
+    @Column(name = "hour_of_day", nullable = false)
+    private Integer hourOfDay;
+
+    // 0 = todas las categorías
+    @NotNull(message = "Category should not be null")
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @NotNull(message = "Window start should not be null")
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @NotNull(message = "Window end should not be null")
+    @Column(name = "window_end", nullable = false)
+    private LocalDateTime windowEnd;
+
+    @NotNull(message = "Sample count should not be null")
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(name = "p50_seconds")
+    private Long p50Seconds;
+
+    @Column(name = "p90_seconds")
+    private Long p90Seconds;
+
+    @Column(name = "p99_seconds")
+    private Long p99Seconds;
+
+    // Buckets del histograma codificados "índice:conteo,..." para poder fusionarlos después
+    @NotNull(message = "Buckets should not be null")
+    @Column(nullable = false, columnDefinition = "text")
+    private String buckets;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
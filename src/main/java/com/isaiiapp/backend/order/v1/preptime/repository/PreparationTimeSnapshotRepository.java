@@ -0,0 +1,22 @@
+package com.isaiiapp.backend.order.v1.preptime.repository;
+
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationStage;
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationTimeSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PreparationTimeSnapshotRepository extends JpaRepository<PreparationTimeSnapshot, Long> {
+
+    @Query("SELECT s FROM PreparationTimeSnapshot s WHERE s.stage = :stage AND s.categoryId = :categoryId " +
+            "AND s.windowStart >= :startDate AND s.windowEnd <= :endDate")
+    List<PreparationTimeSnapshot> findSlice(@Param("stage") PreparationStage stage,
+                                            @Param("categoryId") Long categoryId,
+                                            @Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,157 @@
+package com.isaiiapp.backend.order.v1.preptime.service;
+
+/**
+ * Histograma log-lineal de latencias en segundos.
+ * Cada potencia de dos se divide en 16 sub-buckets (error relativo máximo ~6%),
+ * por lo que dos histogramas se fusionan sumando sus conteos bucket a bucket.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public synchronized void record(long seconds) {
+        long value = Math.max(seconds, 0);
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherTotal;
+        long otherSum;
+        long otherMin;
+        long otherMax;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherTotal = other.totalCount;
+            otherSum = other.sum;
+            otherMin = other.min;
+            otherMax = other.max;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += otherCounts[i];
+            }
+            totalCount += otherTotal;
+            sum += otherSum;
+            min = Math.min(min, otherMin);
+            max = Math.max(max, otherMax);
+        }
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0.0 : (double) sum / totalCount;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Valor aproximado del percentil (0-100), acotado al mínimo y máximo observados
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                long midpoint = lowerBound(i) + (bucketWidth(i) - 1) / 2;
+                return Math.min(Math.max(midpoint, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Codificación dispersa "índice:conteo,..." (más min, max y suma) para persistir
+     */
+    public synchronized String encode() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(totalCount == 0 ? 0 : min).append(';').append(max).append(';').append(sum).append(';');
+        boolean first = true;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                if (!first) {
+                    builder.append(',');
+                }
+                builder.append(i).append(':').append(counts[i]);
+                first = false;
+            }
+        }
+        return builder.toString();
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        String[] parts = encoded.split(";", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid histogram encoding");
+        }
+
+        if (!parts[3].isEmpty()) {
+            for (String entry : parts[3].split(",")) {
+                int separator = entry.indexOf(':');
+                int index = Integer.parseInt(entry.substring(0, separator));
+                long count = Long.parseLong(entry.substring(separator + 1));
+                histogram.counts[index] += count;
+                histogram.totalCount += count;
+            }
+        }
+        if (histogram.totalCount > 0) {
+            histogram.min = Long.parseLong(parts[0]);
+            histogram.max = Long.parseLong(parts[1]);
+            histogram.sum = Long.parseLong(parts[2]);
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+    }
+
+    static long bucketWidth(int index) {
+        if (index < SUB_BUCKETS) {
+            return 1;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        return 1L << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,45 @@
+package com.isaiiapp.backend.order.v1.preptime.service;
+
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Alimenta los histogramas de tiempos de preparación con la primera transición de cada etapa
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PreparationTimeEventHandler implements OrderEventHandler {
+
+    private final PreparationTimeService preparationTimeService;
+    private final OrderRepository orderRepository;
+    private final OrderEventPayloads orderEventPayloads;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return Set.of(OrderEventType.ORDER_IN_PROGRESS, OrderEventType.ORDER_COMPLETED);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        if (!orderEventPayloads.isFirstTransition(event)) {
+            return;
+        }
+
+        orderRepository.findById(event.getOrderId()).ifPresentOrElse(order -> {
+            if (event.getEventType() == OrderEventType.ORDER_IN_PROGRESS) {
+                preparationTimeService.recordInProgress(order);
+            } else {
+                preparationTimeService.recordCompleted(order);
+            }
+        }, () -> log.debug("Order ID: {} no longer exists, skipping preparation time sample", event.getOrderId()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.isaiiapp.backend.order.v1.preptime.service;
+
+import com.isaiiapp.backend.order.v1.orders.model.Order;
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationStage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PreparationTimeService {
+
+    /**
+     * Registrar la transición confirmada → en curso de una orden
+     */
+    void recordInProgress(Order order);
+
+    /**
+     * Registrar la transición en curso → terminada de una orden
+     */
+    void recordCompleted(Order order);
+
+    /**
+     * Obtener percentiles en una ventana móvil (hora del día y categoría opcionales)
+     */
+    PreparationTimeStatsResponse getStats(PreparationStage stage, int windowMinutes, Integer hourOfDay, Long categoryId);
+
+    /**
+     * Obtener percentiles históricos fusionando snapshots persistidos
+     */
+    PreparationTimeStatsResponse getHistoricalStats(PreparationStage stage, LocalDateTime startDate, LocalDateTime endDate,
+                                                    Integer hourOfDay, Long categoryId);
+
+    /**
+     * Obtener percentiles históricos por hora del día
+     */
+    List<PreparationTimeStatsResponse> getHistoricalStatsByHour(PreparationStage stage, LocalDateTime startDate,
+                                                                LocalDateTime endDate, Long categoryId);
+
+    /**
+     * Obtener tiempo promedio de preparación (confirmada → terminada) en minutos
+     */
+    Double getAveragePreparationTimeInMinutes();
+
+    /**
+     * Persistir snapshots de los intervalos cerrados
+     */
+    void persistSnapshots();
+
+    /**
+     * DTO para percentiles de tiempos de preparación
+     */
+    record PreparationTimeStatsResponse(
+            PreparationStage stage,
+            Integer hourOfDay,
+            Long categoryId,
+            LocalDateTime windowStart,
+            LocalDateTime windowEnd,
+            Long sampleCount,
+            Double meanSeconds,
+            Long p50Seconds,
+            Long p90Seconds,
+            Long p99Seconds,
+            Long maxSeconds
+    ) {}
+}
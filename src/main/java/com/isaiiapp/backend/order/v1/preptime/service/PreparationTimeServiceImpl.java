@@ -0,0 +1,341 @@
+package com.isaiiapp.backend.order.v1.preptime.service;
+
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.orders.model.Order;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.service.TransactionEffects;
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationStage;
+import com.isaiiapp.backend.order.v1.preptime.model.PreparationTimeSnapshot;
+import com.isaiiapp.backend.order.v1.preptime.repository.PreparationTimeSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PreparationTimeServiceImpl implements PreparationTimeService {
+
+    public static final long ALL_CATEGORIES = 0L;
+
+    // Ventana móvil: 288 ranuras de 5 minutos = 24 horas
+    private static final long SLOT_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final int SLOT_COUNT = 288;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PreparationTimeSnapshotRepository snapshotRepository;
+
+    private final AtomicReferenceArray<WindowSlot> slots = new AtomicReferenceArray<>(SLOT_COUNT);
+    private volatile long lastPersistedSlot = Long.MIN_VALUE;
+
+    @Value("${app.preparation-time.average-window-minutes:1440}")
+    private int averageWindowMinutes;
+
+    @Override
+    public void recordInProgress(Order order) {
+        if (order.getConfirmedAt() == null || order.getInProgressAt() == null) {
+            return;
+        }
+
+        // Las categorías se resuelven dentro de la transacción; los histogramas solo cambian al confirmar
+        Set<Long> categories = resolveCategories(order.getId());
+        LocalDateTime confirmedAt = order.getConfirmedAt();
+        LocalDateTime inProgressAt = order.getInProgressAt();
+        TransactionEffects.afterCommit(() -> record(PreparationStage.QUEUE, confirmedAt, inProgressAt, categories));
+    }
+
+    @Override
+    public void recordCompleted(Order order) {
+        if (order.getConfirmedAt() == null || order.getCompletedAt() == null) {
+            return;
+        }
+
+        Set<Long> categories = resolveCategories(order.getId());
+        LocalDateTime confirmedAt = order.getConfirmedAt();
+        LocalDateTime inProgressAt = order.getInProgressAt();
+        LocalDateTime completedAt = order.getCompletedAt();
+        TransactionEffects.afterCommit(() -> {
+            if (inProgressAt != null) {
+                record(PreparationStage.COOKING, inProgressAt, completedAt, categories, confirmedAt);
+            }
+            record(PreparationStage.TOTAL, confirmedAt, completedAt, categories);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PreparationTimeStatsResponse getStats(PreparationStage stage, int windowMinutes, Integer hourOfDay, Long categoryId) {
+        log.debug("Fetching preparation time stats for stage: {}, window: {} min", stage, windowMinutes);
+
+        if (windowMinutes <= 0 || windowMinutes > SLOT_COUNT * SLOT_MILLIS / 60_000) {
+            throw new IllegalArgumentException("Window must be between 1 and 1440 minutes");
+        }
+
+        long category = categoryId != null ? categoryId : ALL_CATEGORIES;
+        long currentSlot = slotOf(System.currentTimeMillis());
+        long slotsInWindow = (windowMinutes * 60_000L + SLOT_MILLIS - 1) / SLOT_MILLIS;
+
+        LatencyHistogram merged = new LatencyHistogram();
+        for (long slot = currentSlot - slotsInWindow + 1; slot <= currentSlot; slot++) {
+            WindowSlot windowSlot = slots.get(indexOf(slot));
+            if (windowSlot == null || windowSlot.slot != slot) {
+                continue;
+            }
+            windowSlot.histograms.forEach((key, histogram) -> {
+                if (key.stage() == stage && key.categoryId() == category
+                        && (hourOfDay == null || key.hourOfDay() == hourOfDay)) {
+                    merged.merge(histogram);
+                }
+            });
+        }
+
+        return toResponse(stage, hourOfDay, category,
+                toDateTime((currentSlot - slotsInWindow + 1) * SLOT_MILLIS), LocalDateTime.now(), merged);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PreparationTimeStatsResponse getHistoricalStats(PreparationStage stage, LocalDateTime startDate, LocalDateTime endDate,
+                                                           Integer hourOfDay, Long categoryId) {
+        log.debug("Fetching historical preparation time stats for stage: {} between: {} and {}", stage, startDate, endDate);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+
+        long category = categoryId != null ? categoryId : ALL_CATEGORIES;
+        LatencyHistogram merged = new LatencyHistogram();
+        for (PreparationTimeSnapshot snapshot : snapshotRepository.findSlice(stage, category, startDate, endDate)) {
+            if (hourOfDay == null || snapshot.getHourOfDay().equals(hourOfDay)) {
+                merged.merge(LatencyHistogram.decode(snapshot.getBuckets()));
+            }
+        }
+
+        return toResponse(stage, hourOfDay, category, startDate, endDate, merged);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PreparationTimeStatsResponse> getHistoricalStatsByHour(PreparationStage stage, LocalDateTime startDate,
+                                                                       LocalDateTime endDate, Long categoryId) {
+        log.debug("Fetching hourly preparation time profile for stage: {} between: {} and {}", stage, startDate, endDate);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+
+        long category = categoryId != null ? categoryId : ALL_CATEGORIES;
+        LatencyHistogram[] byHour = new LatencyHistogram[24];
+        for (int hour = 0; hour < 24; hour++) {
+            byHour[hour] = new LatencyHistogram();
+        }
+        for (PreparationTimeSnapshot snapshot : snapshotRepository.findSlice(stage, category, startDate, endDate)) {
+            byHour[snapshot.getHourOfDay()].merge(LatencyHistogram.decode(snapshot.getBuckets()));
+        }
+
+        List<PreparationTimeStatsResponse> profile = new ArrayList<>(24);
+        for (int hour = 0; hour < 24; hour++) {
+            profile.add(toResponse(stage, hour, category, startDate, endDate, byHour[hour]));
+        }
+        return profile;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Double getAveragePreparationTimeInMinutes() {
+        PreparationTimeStatsResponse stats = getStats(PreparationStage.TOTAL, averageWindowMinutes, null, null);
+        return stats.meanSeconds() / 60.0;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.preparation-time.snapshot-interval-ms:900000}",
+            initialDelayString = "${app.preparation-time.snapshot-interval-ms:900000}")
+    public void persistSnapshots() {
+        long currentSlot = slotOf(System.currentTimeMillis());
+        long fromSlot = Math.max(lastPersistedSlot + 1, currentSlot - SLOT_COUNT + 1);
+        if (fromSlot >= currentSlot) {
+            return;
+        }
+
+        // Fusionar las ranuras cerradas del intervalo por corte (etapa, hora, categoría)
+        Map<SliceKey, LatencyHistogram> merged = new HashMap<>();
+        for (long slot = fromSlot; slot < currentSlot; slot++) {
+            WindowSlot windowSlot = slots.get(indexOf(slot));
+            if (windowSlot == null || windowSlot.slot != slot) {
+                continue;
+            }
+            windowSlot.histograms.forEach((key, histogram) ->
+                    merged.computeIfAbsent(key, k -> new LatencyHistogram()).merge(histogram));
+        }
+
+        LocalDateTime windowStart = toDateTime(fromSlot * SLOT_MILLIS);
+        LocalDateTime windowEnd = toDateTime(currentSlot * SLOT_MILLIS);
+        List<PreparationTimeSnapshot> snapshots = new ArrayList<>(merged.size());
+        merged.forEach((key, histogram) -> {
+            PreparationTimeSnapshot snapshot = new PreparationTimeSnapshot();
+            snapshot.setStage(key.stage());
+            snapshot.setHourOfDay(key.hourOfDay());
+            snapshot.setCategoryId(key.categoryId());
+            snapshot.setWindowStart(windowStart);
+            snapshot.setWindowEnd(windowEnd);
+            snapshot.setSampleCount(histogram.getTotalCount());
+            snapshot.setP50Seconds(histogram.getPercentile(50));
+            snapshot.setP90Seconds(histogram.getPercentile(90));
+            snapshot.setP99Seconds(histogram.getPercentile(99));
+            snapshot.setBuckets(histogram.encode());
+            snapshots.add(snapshot);
+        });
+
+        snapshotRepository.saveAll(snapshots);
+        lastPersistedSlot = currentSlot - 1;
+        log.debug("Persisted {} preparation time snapshots for window {} - {}", snapshots.size(), windowStart, windowEnd);
+    }
+
+    /**
+     * Reconstruir la ventana móvil con las transiciones de las últimas 24 horas al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        LocalDateTime since = toDateTime((slotOf(System.currentTimeMillis()) - SLOT_COUNT + 1) * SLOT_MILLIS);
+
+        Map<Long, Object[]> orders = new LinkedHashMap<>();
+        Map<Long, Set<Long>> categoriesByOrder = new HashMap<>();
+        for (Object[] row : orderRepository.findPreparationSamplesSince(since)) {
+            Long orderId = (Long) row[0];
+            orders.putIfAbsent(orderId, row);
+            Set<Long> categories = categoriesByOrder.computeIfAbsent(orderId, id -> new HashSet<>());
+            if (row[4] != null) {
+                categories.add((Long) row[4]);
+            }
+        }
+
+        orders.forEach((orderId, row) -> {
+            LocalDateTime confirmedAt = (LocalDateTime) row[1];
+            LocalDateTime inProgressAt = (LocalDateTime) row[2];
+            LocalDateTime completedAt = (LocalDateTime) row[3];
+            Set<Long> categories = categoriesByOrder.get(orderId);
+
+            if (confirmedAt != null && inProgressAt != null) {
+                record(PreparationStage.QUEUE, confirmedAt, inProgressAt, categories);
+            }
+            if (confirmedAt != null && completedAt != null) {
+                if (inProgressAt != null) {
+                    record(PreparationStage.COOKING, inProgressAt, completedAt, categories, confirmedAt);
+                }
+                record(PreparationStage.TOTAL, confirmedAt, completedAt, categories);
+            }
+        });
+
+        // Lo reconstruido ya fue persistido por la instancia anterior
+        lastPersistedSlot = slotOf(System.currentTimeMillis()) - 1;
+        log.info("Preparation time window warmed up with {} orders", orders.size());
+    }
+
+    private Set<Long> resolveCategories(Long orderId) {
+        return new HashSet<>(orderItemRepository.findDistinctCategoryIdsByOrderId(orderId));
+    }
+
+    private void record(PreparationStage stage, LocalDateTime start, LocalDateTime end, Set<Long> categories) {
+        record(stage, start, end, categories, start);
+    }
+
+    /**
+     * Registra la muestra en el corte de todas las categorías y en el de cada categoría de la orden.
+     * La hora del día es la de confirmación de la orden; la ranura es la del fin del tramo.
+     */
+    private void record(PreparationStage stage, LocalDateTime start, LocalDateTime end,
+                        Set<Long> categories, LocalDateTime confirmedAt) {
+        long seconds = Duration.between(start, end).getSeconds();
+        long slot = slotOf(end.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (slot <= slotOf(System.currentTimeMillis()) - SLOT_COUNT) {
+            return;
+        }
+
+        WindowSlot windowSlot = slotFor(slot);
+        int hourOfDay = confirmedAt.getHour();
+        windowSlot.histogram(new SliceKey(stage, hourOfDay, ALL_CATEGORIES)).record(seconds);
+        for (Long categoryId : categories) {
+            windowSlot.histogram(new SliceKey(stage, hourOfDay, categoryId)).record(seconds);
+        }
+    }
+
+    private WindowSlot slotFor(long slot) {
+        int index = indexOf(slot);
+        while (true) {
+            WindowSlot current = slots.get(index);
+            if (current != null && current.slot == slot) {
+                return current;
+            }
+            if (current != null && current.slot > slot) {
+                // La ranura ya fue reciclada por un intervalo más reciente; se descarta la muestra
+                return new WindowSlot(slot);
+            }
+            WindowSlot fresh = new WindowSlot(slot);
+            if (slots.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private PreparationTimeStatsResponse toResponse(PreparationStage stage, Integer hourOfDay, Long categoryId,
+                                                    LocalDateTime windowStart, LocalDateTime windowEnd,
+                                                    LatencyHistogram histogram) {
+        return new PreparationTimeStatsResponse(
+                stage,
+                hourOfDay,
+                categoryId,
+                windowStart,
+                windowEnd,
+                histogram.getTotalCount(),
+                histogram.getMean(),
+                histogram.getPercentile(50),
+                histogram.getPercentile(90),
+                histogram.getPercentile(99),
+                histogram.getMax()
+        );
+    }
+
+    private static long slotOf(long epochMillis) {
+        return epochMillis / SLOT_MILLIS;
+    }
+
+    private static int indexOf(long slot) {
+        return (int) Math.floorMod(slot, (long) SLOT_COUNT);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record SliceKey(PreparationStage stage, int hourOfDay, long categoryId) {}
+
+    private static final class WindowSlot {
+
+        private final long slot;
+        private final ConcurrentHashMap<SliceKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+        private WindowSlot(long slot) {
+            this.slot = slot;
+        }
+
+        private LatencyHistogram histogram(SliceKey key) {
+            return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.isaiiapp.backend.order.v1.rollup.controller;
+
+import com.isaiiapp.backend.order.v1.rollup.service.BusinessDayClock;
+import com.isaiiapp.backend.order.v1.rollup.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/reports/sales")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class SalesReportController {
+
+    private final SalesRollupService salesRollupService;
+    private final BusinessDayClock businessDayClock;
+
+    /**
+     * Obtener total de ventas entre días de negocio
+     * Solo administradores pueden ver reportes de ventas
+     */
+    @GetMapping("/total")
+    public ResponseEntity<Map<String, BigDecimal>> getTotalSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get total sales between: {} and {}", from, to);
+
+        BigDecimal total = salesRollupService.getTotalSalesBetween(from, to);
+        return ResponseEntity.ok(Map.of("totalSales", total));
+    }
+
+    /**
+     * Obtener ventas por día de negocio
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<SalesRollupService.DailySalesResponse>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get daily sales between: {} and {}", from, to);
+
+        return ResponseEntity.ok(salesRollupService.getDailySales(from, to));
+    }
+
+    /**
+     * Obtener ventas por hora de un día de negocio (por defecto hoy)
+     */
+    @GetMapping("/hourly")
+    public ResponseEntity<List<SalesRollupService.HourlySalesResponse>> getHourlySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        LocalDate businessDay = day != null ? day : businessDayClock.today();
+        log.debug("REST request to get hourly sales for: {}", businessDay);
+
+        return ResponseEntity.ok(salesRollupService.getHourlySales(businessDay));
+    }
+
+    /**
+     * Obtener ventas por producto
+     */
+    @GetMapping("/products")
+    public ResponseEntity<List<SalesRollupService.ProductSalesResponse>> getProductSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get product sales between: {} and {}", from, to);
+
+        return ResponseEntity.ok(salesRollupService.getProductSales(from, to));
+    }
+
+    /**
+     * Obtener ventas por categoría
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<SalesRollupService.CategorySalesResponse>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get category sales between: {} and {}", from, to);
+
+        return ResponseEntity.ok(salesRollupService.getCategorySales(from, to));
+    }
+
+    /**
+     * Obtener ventas por mesero
+     */
+    @GetMapping("/waiters")
+    public ResponseEntity<List<SalesRollupService.WaiterSalesResponse>> getWaiterSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get waiter sales between: {} and {}", from, to);
+
+        return ResponseEntity.ok(salesRollupService.getWaiterSales(from, to));
+    }
+
+    /**
+     * Reconstruir agregados de ventas (mantenimiento / backfill)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<SalesRollupService.RollupRebuildResponse> rebuildRollups() {
+        log.info("REST request to rebuild sales rollups");
+
+        return ResponseEntity.ok(salesRollupService.rebuildRollups());
+    }
+}
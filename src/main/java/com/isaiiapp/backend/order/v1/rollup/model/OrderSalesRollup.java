@@ -0,0 +1,53 @@
+package com.isaiiapp.backend.order.v1.rollup.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado de ventas a nivel de orden por (día de negocio, hora, mesero, takeaway)
+ */
+@Entity
+@Table(schema = "orders", name = "order_sales_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "order_sales_rollup_key_uk",
+                        columnNames = {"business_day", "hour", "user_id", "is_takeaway"})
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class OrderSalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Business day should not be null")
+    @Column(name = "business_day", nullable = false)
+    private LocalDate businessDay;
+
+    @NotNull(message = "Hour should not be null")
+    @Column(nullable = false)
+    private Integer hour;
+
+    @NotNull(message = "User should not be null")
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull(message = "Is takeaway should not be null")
+    @Column(name = "is_takeaway", nullable = false)
+    private Boolean isTakeaway;
+
+    @NotNull(message = "Order count should not be null")
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @NotNull(message = "Revenue should not be null")
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
@@ -0,0 +1,69 @@
+package com.isaiiapp.backend.order.v1.rollup.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado de ventas por (día de negocio, hora, producto, categoría, mesero, takeaway)
+ */
+@Entity
+@Table(schema = "orders", name = "sales_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "sales_rollup_key_uk",
+                        columnNames = {"business_day", "hour", "product_id", "category_id", "user_id", "is_takeaway"})
+        },
+        indexes = {
+                @Index(columnList = "product_id, business_day", name = "sales_rollup_product_day_idx"),
+                @Index(columnList = "user_id, business_day", name = "sales_rollup_user_day_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Business day should not be null")
+    @Column(name = "business_day", nullable = false)
+    private LocalDate businessDay;
+
+    @NotNull(message = "Hour should not be null")
+    @Column(nullable = false)
+    private Integer hour;
+
+    @NotNull(message = "Product should not be null")
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @NotNull(message = "Category should not be null")
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @NotNull(message = "User should not be null")
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull(message = "Is takeaway should not be null")
+    @Column(name = "is_takeaway", nullable = false)
+    private Boolean isTakeaway;
+
+    @NotNull(message = "Quantity should not be null")
+    @Column(nullable = false)
+    private Long quantity;
+
+    @NotNull(message = "Revenue should not be null")
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @NotNull(message = "Order count should not be null")
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+}
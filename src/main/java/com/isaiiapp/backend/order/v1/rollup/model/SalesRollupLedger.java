@@ -0,0 +1,28 @@
+package com.isaiiapp.backend.order.v1.rollup.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de órdenes ya aplicadas a los agregados (hace idempotente la actualización incremental)
+ */
+@Entity
+@Table(schema = "orders", name = "sales_rollup_ledger")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class SalesRollupLedger {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @NotNull(message = "Applied at should not be null")
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,74 @@
+package com.isaiiapp.backend.order.v1.rollup.repository;
+
+import com.isaiiapp.backend.order.v1.rollup.model.OrderSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface OrderSalesRollupRepository extends JpaRepository<OrderSalesRollup, Long> {
+
+    // Suma (sign = 1) o resta (sign = -1) una orden pagada en su bucket
+    @Modifying
+    @Query(value = "INSERT INTO orders.order_sales_rollup AS r " +
+            "(business_day, hour, user_id, is_takeaway, order_count, revenue) " +
+            "SELECT CAST(o.paid_at - :startHour * INTERVAL '1 hour' AS date), " +
+            "CAST(EXTRACT(HOUR FROM o.paid_at) AS integer), " +
+            "o.user_id, o.is_takeaway, :sign, :sign * o.total_amount " +
+            "FROM orders.orders o " +
+            "WHERE o.id = :orderId " +
+            "ON CONFLICT (business_day, hour, user_id, is_takeaway) DO UPDATE SET " +
+            "order_count = r.order_count + EXCLUDED.order_count, " +
+            "revenue = r.revenue + EXCLUDED.revenue", nativeQuery = true)
+    int applyOrder(@Param("orderId") Long orderId,
+                   @Param("sign") int sign,
+                   @Param("startHour") int startHour);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.order_sales_rollup", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.order_sales_rollup " +
+            "(business_day, hour, user_id, is_takeaway, order_count, revenue) " +
+            "SELECT CAST(o.paid_at - :startHour * INTERVAL '1 hour' AS date), " +
+            "CAST(EXTRACT(HOUR FROM o.paid_at) AS integer), " +
+            "o.user_id, o.is_takeaway, COUNT(*), SUM(o.total_amount) " +
+            "FROM orders.orders o " +
+            "WHERE o.paid_at IS NOT NULL AND o.canceled_at IS NULL " +
+            "GROUP BY 1, 2, 3, 4", nativeQuery = true)
+    int rebuildFromOrders(@Param("startHour") int startHour);
+
+    @Query("SELECT SUM(r.revenue) FROM OrderSalesRollup r WHERE r.businessDay BETWEEN :fromDay AND :toDay")
+    BigDecimal getTotalSalesBetween(@Param("fromDay") LocalDate fromDay,
+                                    @Param("toDay") LocalDate toDay);
+
+    @Query("SELECT r.businessDay, SUM(r.orderCount), SUM(r.revenue) " +
+            "FROM OrderSalesRollup r " +
+            "WHERE r.businessDay BETWEEN :fromDay AND :toDay " +
+            "GROUP BY r.businessDay " +
+            "ORDER BY r.businessDay")
+    List<Object[]> findDailySalesBetween(@Param("fromDay") LocalDate fromDay,
+                                         @Param("toDay") LocalDate toDay);
+
+    @Query("SELECT r.hour, SUM(r.orderCount), SUM(r.revenue) " +
+            "FROM OrderSalesRollup r " +
+            "WHERE r.businessDay = :day " +
+            "GROUP BY r.hour " +
+            "ORDER BY r.hour")
+    List<Object[]> findHourlySales(@Param("day") LocalDate day);
+
+    @Query("SELECT r.userId, u.employeeId, u.firstName, u.lastName, SUM(r.orderCount), SUM(r.revenue) " +
+            "FROM OrderSalesRollup r JOIN Users u ON u.id = r.userId " +
+            "WHERE r.businessDay BETWEEN :fromDay AND :toDay " +
+            "GROUP BY r.userId, u.employeeId, u.firstName, u.lastName " +
+            "ORDER BY SUM(r.revenue) DESC")
+    List<Object[]> findWaiterSalesBetween(@Param("fromDay") LocalDate fromDay,
+                                          @Param("toDay") LocalDate toDay);
+}
@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.order.v1.rollup.repository;
+
+import com.isaiiapp.backend.order.v1.rollup.model.SalesRollupLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SalesRollupLedgerRepository extends JpaRepository<SalesRollupLedger, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.sales_rollup_ledger (order_id, applied_at) " +
+            "SELECT o.id, CURRENT_TIMESTAMP FROM orders.orders o " +
+            "WHERE o.id = :orderId AND o.paid_at IS NOT NULL AND o.canceled_at IS NULL " +
+            "ON CONFLICT (order_id) DO NOTHING", nativeQuery = true)
+    int claim(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.sales_rollup_ledger WHERE order_id = :orderId", nativeQuery = true)
+    int release(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.sales_rollup_ledger", nativeQuery = true)
+    int deleteAllEntries();
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.sales_rollup_ledger (order_id, applied_at) " +
+            "SELECT o.id, CURRENT_TIMESTAMP FROM orders.orders o " +
+            "WHERE o.paid_at IS NOT NULL AND o.canceled_at IS NULL", nativeQuery = true)
+    int claimAllPaidOrders();
+}
@@ -0,0 +1,71 @@
+package com.isaiiapp.backend.order.v1.rollup.repository;
+
+import com.isaiiapp.backend.order.v1.rollup.model.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    // Suma (sign = 1) o resta (sign = -1) las líneas de una orden pagada en su bucket
+    @Modifying
+    @Query(value = "INSERT INTO orders.sales_rollup AS r " +
+            "(business_day, hour, product_id, category_id, user_id, is_takeaway, quantity, revenue, order_count) " +
+            "SELECT CAST(o.paid_at - :startHour * INTERVAL '1 hour' AS date), " +
+            "CAST(EXTRACT(HOUR FROM o.paid_at) AS integer), " +
+            "oi.product_id, p.category_id, o.user_id, o.is_takeaway, " +
+            ":sign * SUM(oi.quantity), :sign * SUM(oi.subtotal), :sign " +
+            "FROM orders.orders o " +
+            "JOIN orders.order_item oi ON oi.order_id = o.id " +
+            "JOIN product.product p ON p.id = oi.product_id " +
+            "WHERE o.id = :orderId " +
+            "GROUP BY 1, 2, 3, 4, 5, 6 " +
+            "ON CONFLICT (business_day, hour, product_id, category_id, user_id, is_takeaway) DO UPDATE SET " +
+            "quantity = r.quantity + EXCLUDED.quantity, " +
+            "revenue = r.revenue + EXCLUDED.revenue, " +
+            "order_count = r.order_count + EXCLUDED.order_count", nativeQuery = true)
+    int applyOrder(@Param("orderId") Long orderId,
+                   @Param("sign") int sign,
+                   @Param("startHour") int startHour);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.sales_rollup", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.sales_rollup " +
+            "(business_day, hour, product_id, category_id, user_id, is_takeaway, quantity, revenue, order_count) " +
+            "SELECT CAST(o.paid_at - :startHour * INTERVAL '1 hour' AS date), " +
+            "CAST(EXTRACT(HOUR FROM o.paid_at) AS integer), " +
+            "oi.product_id, p.category_id, o.user_id, o.is_takeaway, " +
+            "SUM(oi.quantity), SUM(oi.subtotal), COUNT(DISTINCT o.id) " +
+            "FROM orders.orders o " +
+            "JOIN orders.order_item oi ON oi.order_id = o.id " +
+            "JOIN product.product p ON p.id = oi.product_id " +
+            "WHERE o.paid_at IS NOT NULL AND o.canceled_at IS NULL " +
+            "GROUP BY 1, 2, 3, 4, 5, 6", nativeQuery = true)
+    int rebuildFromOrders(@Param("startHour") int startHour);
+
+    @Query("SELECT r.productId, p.name, r.categoryId, SUM(r.quantity), SUM(r.revenue), SUM(r.orderCount) " +
+            "FROM SalesRollup r JOIN Product p ON p.id = r.productId " +
+            "WHERE r.businessDay BETWEEN :fromDay AND :toDay " +
+            "GROUP BY r.productId, p.name, r.categoryId " +
+            "HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY SUM(r.revenue) DESC")
+    List<Object[]> findProductSalesBetween(@Param("fromDay") LocalDate fromDay,
+                                           @Param("toDay") LocalDate toDay);
+
+    @Query("SELECT r.categoryId, c.name, SUM(r.quantity), SUM(r.revenue) " +
+            "FROM SalesRollup r JOIN Category c ON c.id = r.categoryId " +
+            "WHERE r.businessDay BETWEEN :fromDay AND :toDay " +
+            "GROUP BY r.categoryId, c.name " +
+            "ORDER BY SUM(r.revenue) DESC")
+    List<Object[]> findCategorySalesBetween(@Param("fromDay") LocalDate fromDay,
+                                            @Param("toDay") LocalDate toDay);
+}
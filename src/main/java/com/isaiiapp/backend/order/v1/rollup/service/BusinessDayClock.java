@@ -0,0 +1,29 @@
+package com.isaiiapp.backend.order.v1.rollup.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Calcula el día de negocio: las ventas antes de la hora de inicio cuentan para el día anterior
+ */
+@Component
+public class BusinessDayClock {
+
+    @Value("${app.reports.business-day-start-hour:0}")
+    private int startHour;
+
+    public int getStartHour() {
+        return startHour;
+    }
+
+    public LocalDate today() {
+        return businessDayOf(LocalDateTime.now());
+    }
+
+    public LocalDate businessDayOf(LocalDateTime timestamp) {
+        return timestamp.minusHours(startHour).toLocalDate();
+    }
+}
@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.order.v1.rollup.service;
+
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Aplica pagos y cancelaciones a los agregados de ventas (idempotente gracias al ledger)
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupEventHandler implements OrderEventHandler {
+
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return Set.of(OrderEventType.ORDER_PAID, OrderEventType.ORDER_CANCELED);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        if (event.getEventType() == OrderEventType.ORDER_PAID) {
+            salesRollupService.applyPaidOrder(event.getOrderId());
+        } else {
+            salesRollupService.revertPaidOrder(event.getOrderId());
+        }
+    }
+}
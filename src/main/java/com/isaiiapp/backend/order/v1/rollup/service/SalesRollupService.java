@@ -0,0 +1,113 @@
+package com.isaiiapp.backend.order.v1.rollup.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesRollupService {
+
+    /**
+     * Sumar una orden pagada a los agregados (idempotente)
+     */
+    void applyPaidOrder(Long orderId);
+
+    /**
+     * Restar una orden previamente sumada a los agregados (idempotente)
+     */
+    void revertPaidOrder(Long orderId);
+
+    /**
+     * Reconstruir los agregados completos desde las órdenes (backfill)
+     */
+    RollupRebuildResponse rebuildRollups();
+
+    /**
+     * Obtener total de ventas entre días de negocio
+     */
+    BigDecimal getTotalSalesBetween(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Obtener ventas por día de negocio
+     */
+    List<DailySalesResponse> getDailySales(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Obtener ventas por hora de un día de negocio
+     */
+    List<HourlySalesResponse> getHourlySales(LocalDate day);
+
+    /**
+     * Obtener ventas por producto entre días de negocio
+     */
+    List<ProductSalesResponse> getProductSales(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Obtener ventas por categoría entre días de negocio
+     */
+    List<CategorySalesResponse> getCategorySales(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Obtener ventas por mesero entre días de negocio
+     */
+    List<WaiterSalesResponse> getWaiterSales(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * DTO para resultado de reconstrucción
+     */
+    record RollupRebuildResponse(
+            Integer productRows,
+            Integer orderRows,
+            Integer ordersApplied
+    ) {}
+
+    /**
+     * DTO para ventas diarias
+     */
+    record DailySalesResponse(
+            LocalDate businessDay,
+            Long orderCount,
+            BigDecimal revenue
+    ) {}
+
+    /**
+     * DTO para ventas por hora
+     */
+    record HourlySalesResponse(
+            Integer hour,
+            Long orderCount,
+            BigDecimal revenue
+    ) {}
+
+    /**
+     * DTO para ventas por producto
+     */
+    record ProductSalesResponse(
+            Long productId,
+            String productName,
+            Long categoryId,
+            Long quantity,
+            BigDecimal revenue,
+            Long orderCount
+    ) {}
+
+    /**
+     * DTO para ventas por categoría
+     */
+    record CategorySalesResponse(
+            Long categoryId,
+            String categoryName,
+            Long quantity,
+            BigDecimal revenue
+    ) {}
+
+    /**
+     * DTO para ventas por mesero
+     */
+    record WaiterSalesResponse(
+            Long userId,
+            String employeeId,
+            String waiterName,
+            Long orderCount,
+            BigDecimal revenue
+    ) {}
+}
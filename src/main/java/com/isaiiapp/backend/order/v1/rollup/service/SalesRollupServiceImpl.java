@@ -0,0 +1,174 @@
+package com.isaiiapp.backend.order.v1.rollup.service;
+
+import com.isaiiapp.backend.order.v1.rollup.repository.OrderSalesRollupRepository;
+import com.isaiiapp.backend.order.v1.rollup.repository.SalesRollupLedgerRepository;
+import com.isaiiapp.backend.order.v1.rollup.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderSalesRollupRepository orderSalesRollupRepository;
+    private final SalesRollupLedgerRepository salesRollupLedgerRepository;
+    private final BusinessDayClock businessDayClock;
+
+    @Override
+    public void applyPaidOrder(Long orderId) {
+        // Solo se aplica si la orden no estaba ya registrada en el ledger
+        if (salesRollupLedgerRepository.claim(orderId) == 0) {
+            log.debug("Order ID: {} already applied or not eligible for sales rollups", orderId);
+            return;
+        }
+
+        int startHour = businessDayClock.getStartHour();
+        salesRollupRepository.applyOrder(orderId, 1, startHour);
+        orderSalesRollupRepository.applyOrder(orderId, 1, startHour);
+        log.debug("Order ID: {} added to sales rollups", orderId);
+    }
+
+    @Override
+    public void revertPaidOrder(Long orderId) {
+        // Solo se revierte si la orden había sido aplicada
+        if (salesRollupLedgerRepository.release(orderId) == 0) {
+            return;
+        }
+
+        int startHour = businessDayClock.getStartHour();
+        salesRollupRepository.applyOrder(orderId, -1, startHour);
+        orderSalesRollupRepository.applyOrder(orderId, -1, startHour);
+        log.debug("Order ID: {} removed from sales rollups", orderId);
+    }
+
+    @Override
+    public RollupRebuildResponse rebuildRollups() {
+        log.info("Rebuilding sales rollups from orders");
+
+        int startHour = businessDayClock.getStartHour();
+        salesRollupRepository.deleteAllRows();
+        orderSalesRollupRepository.deleteAllRows();
+        salesRollupLedgerRepository.deleteAllEntries();
+
+        int ordersApplied = salesRollupLedgerRepository.claimAllPaidOrders();
+        int productRows = salesRollupRepository.rebuildFromOrders(startHour);
+        int orderRows = orderSalesRollupRepository.rebuildFromOrders(startHour);
+
+        log.info("Sales rollups rebuilt: {} orders, {} product rows, {} order rows", ordersApplied, productRows, orderRows);
+        return new RollupRebuildResponse(productRows, orderRows, ordersApplied);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalSalesBetween(LocalDate fromDay, LocalDate toDay) {
+        log.debug("Fetching total sales between business days: {} and {}", fromDay, toDay);
+        validateRange(fromDay, toDay);
+
+        BigDecimal total = orderSalesRollupRepository.getTotalSalesBetween(fromDay, toDay);
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySalesResponse> getDailySales(LocalDate fromDay, LocalDate toDay) {
+        log.debug("Fetching daily sales between business days: {} and {}", fromDay, toDay);
+        validateRange(fromDay, toDay);
+
+        return orderSalesRollupRepository.findDailySalesBetween(fromDay, toDay).stream()
+                .map(result -> new DailySalesResponse(
+                        (LocalDate) result[0],
+                        toLong(result[1]),
+                        toBigDecimal(result[2])
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HourlySalesResponse> getHourlySales(LocalDate day) {
+        log.debug("Fetching hourly sales for business day: {}", day);
+
+        return orderSalesRollupRepository.findHourlySales(day).stream()
+                .map(result -> new HourlySalesResponse(
+                        (Integer) result[0],
+                        toLong(result[1]),
+                        toBigDecimal(result[2])
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSalesResponse> getProductSales(LocalDate fromDay, LocalDate toDay) {
+        log.debug("Fetching product sales between business days: {} and {}", fromDay, toDay);
+        validateRange(fromDay, toDay);
+
+        return salesRollupRepository.findProductSalesBetween(fromDay, toDay).stream()
+                .map(result -> new ProductSalesResponse(
+                        (Long) result[0],
+                        (String) result[1],
+                        (Long) result[2],
+                        toLong(result[3]),
+                        toBigDecimal(result[4]),
+                        toLong(result[5])
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySalesResponse> getCategorySales(LocalDate fromDay, LocalDate toDay) {
+        log.debug("Fetching category sales between business days: {} and {}", fromDay, toDay);
+        validateRange(fromDay, toDay);
+
+        return salesRollupRepository.findCategorySalesBetween(fromDay, toDay).stream()
+                .map(result -> new CategorySalesResponse(
+                        (Long) result[0],
+                        (String) result[1],
+                        toLong(result[2]),
+                        toBigDecimal(result[3])
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WaiterSalesResponse> getWaiterSales(LocalDate fromDay, LocalDate toDay) {
+        log.debug("Fetching waiter sales between business days: {} and {}", fromDay, toDay);
+        validateRange(fromDay, toDay);
+
+        return orderSalesRollupRepository.findWaiterSalesBetween(fromDay, toDay).stream()
+                .map(result -> new WaiterSalesResponse(
+                        (Long) result[0],
+                        (String) result[1],
+                        result[2] + " " + result[3],
+                        toLong(result[4]),
+                        toBigDecimal(result[5])
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private void validateRange(LocalDate fromDay, LocalDate toDay) {
+        if (fromDay.isAfter(toDay)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        return value != null ? (BigDecimal) value : BigDecimal.ZERO;
+    }
+}
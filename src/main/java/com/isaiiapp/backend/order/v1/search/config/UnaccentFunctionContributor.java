@@ -0,0 +1,22 @@
+package com.isaiiapp.backend.order.v1.search.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra f_unaccent() en HQL para que las búsquedas usen los índices de trigramas (ver db/indexes.sql)
+ */
+public class UnaccentFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "f_unaccent",
+                "public.f_unaccent(?1)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.STRING)
+        );
+    }
+}
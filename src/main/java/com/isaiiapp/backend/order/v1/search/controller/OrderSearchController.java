@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.order.v1.search.controller;
+
+import com.isaiiapp.backend.order.v1.search.service.OrderSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/orders/search")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class OrderSearchController {
+
+    private final OrderSearchService orderSearchService;
+
+    /**
+     * Buscar en notas e instrucciones especiales ordenado por similitud
+     * Tolera acentos y errores menores ("jalapeno" encuentra "jalapeño")
+     */
+    @GetMapping("/ranked")
+    public ResponseEntity<List<OrderSearchService.TextSearchHitResponse>> searchRanked(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "ALL") OrderSearchService.SearchScope scope,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("REST request to search order text by similarity: {}", q);
+
+        return ResponseEntity.ok(orderSearchService.searchText(q, scope, limit));
+    }
+}
@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.order.v1.search.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderSearchService {
+
+    /**
+     * Buscar en notas de órdenes e instrucciones especiales ordenando por similitud (sin acentos)
+     */
+    List<TextSearchHitResponse> searchText(String term, SearchScope scope, int limit);
+
+    /**
+     * Ámbitos de búsqueda
+     */
+    enum SearchScope {
+        ALL,
+        NOTES,
+        INSTRUCTIONS
+    }
+
+    /**
+     * DTO para resultados de búsqueda por similitud
+     */
+    record TextSearchHitResponse(
+            String source,
+            Long orderId,
+            Long orderItemId,
+            String text,
+            Double score,
+            LocalDateTime createdAt
+    ) {}
+}
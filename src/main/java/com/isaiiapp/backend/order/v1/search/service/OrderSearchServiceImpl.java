@@ -0,0 +1,80 @@
+package com.isaiiapp.backend.order.v1.search.service;
+
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderSearchServiceImpl implements OrderSearchService {
+
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int MAX_LIMIT = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    @Override
+    public List<TextSearchHitResponse> searchText(String term, SearchScope scope, int limit) {
+        log.debug("Searching order text by similarity: {} in scope: {}", term, scope);
+
+        String trimmed = term != null ? term.trim() : "";
+        if (trimmed.length() < MIN_TERM_LENGTH) {
+            throw new IllegalArgumentException("Search term must have at least " + MIN_TERM_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<TextSearchHitResponse> hits = new ArrayList<>();
+
+        if (scope != SearchScope.INSTRUCTIONS) {
+            for (Object[] row : orderRepository.searchNotesBySimilarity(trimmed, limit)) {
+                hits.add(new TextSearchHitResponse(
+                        "ORDER_NOTES",
+                        ((Number) row[0]).longValue(),
+                        null,
+                        (String) row[1],
+                        ((Number) row[2]).doubleValue(),
+                        toDateTime(row[3])
+                ));
+            }
+        }
+
+        if (scope != SearchScope.NOTES) {
+            for (Object[] row : orderItemRepository.searchSpecialInstructionsBySimilarity(trimmed, limit)) {
+                hits.add(new TextSearchHitResponse(
+                        "ITEM_INSTRUCTIONS",
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[0]).longValue(),
+                        (String) row[2],
+                        ((Number) row[3]).doubleValue(),
+                        toDateTime(row[4])
+                ));
+            }
+        }
+
+        // Cada consulta ya viene ordenada; se mezclan y se recorta al límite
+        hits.sort(Comparator.comparing(TextSearchHitResponse::score).reversed()
+                .thenComparing(TextSearchHitResponse::createdAt, Comparator.reverseOrder()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -1,6 +1,7 @@
 package com.isaiiapp.backend.order.v1.status.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,4 +19,9 @@ public class CreateStatusRequest {
     @NotBlank(message = "Description should not be blank")
     @Size(min = 1, max = 100, message = "Description should be between 1 and 100 characters")
     private String description;
+
+    // Opcional: si no se envía se deriva del nombre
+    @Size(max = 20, message = "Code should be at most 20 characters")
+    @Pattern(regexp = "^[A-Za-z][A-Za-z0-9_]*$", message = "Code should contain only letters, digits and underscores")
+    private String code;
 }
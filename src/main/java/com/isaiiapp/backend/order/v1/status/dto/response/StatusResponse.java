@@ -12,4 +12,5 @@ public class StatusResponse {
     private Long id;
     private String name;
     private String description;
+    private String code;
 }
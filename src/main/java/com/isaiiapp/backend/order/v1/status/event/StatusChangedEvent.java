@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.order.v1.status.event;
+
+/**
+ * Evento publicado cuando se crea, modifica o elimina un estado (para refrescar el registro en memoria)
+ */
+public record StatusChangedEvent(Long statusId) {
+}
@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.order.v1.status.event;
+
+/**
+ * Evento publicado cuando cambia el nombre de un estado (para modelos de lectura desnormalizados)
+ */
+public record StatusRenamedEvent(Long statusId) {
+}
@@ -4,8 +4,12 @@ import com.isaiiapp.backend.order.v1.status.dto.request.CreateStatusRequest;
 import com.isaiiapp.backend.order.v1.status.dto.request.UpdateStatusRequest;
 import com.isaiiapp.backend.order.v1.status.dto.response.StatusResponse;
 import com.isaiiapp.backend.order.v1.status.model.Status;
+import com.isaiiapp.backend.order.v1.status.service.StatusRegistry.StatusEntry;
 import org.springframework.stereotype.Component;
 
+import java.text.Normalizer;
+import java.util.Locale;
+
 @Component
 public class StatusMapper {
 
@@ -16,6 +20,7 @@ public class StatusMapper {
         Status status = new Status();
         status.setName(request.getName());
         status.setDescription(request.getDescription());
+        status.setCode(request.getCode() != null ? request.getCode().toUpperCase(Locale.ROOT) : toCode(request.getName()));
         return status;
     }
 
@@ -27,6 +32,26 @@ public class StatusMapper {
         response.setId(status.getId());
         response.setName(status.getName());
         response.setDescription(status.getDescription());
+        response.setCode(status.getCode());
         return response;
     }
+
+    /**
+     * Convertir entrada del registro en memoria a StatusResponse
+     */
+    public StatusResponse toResponse(StatusEntry entry) {
+        return new StatusResponse(entry.id(), entry.name(), entry.description(), entry.code());
+    }
+
+    /**
+     * Derivar un código estable del nombre ("En Curso" -> "EN_CURSO")
+     */
+    public String toCode(String name) {
+        String code = Normalizer.normalize(name.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "")
+                .toUpperCase(Locale.ROOT);
+        return code.length() > 20 ? code.substring(0, 20) : code;
+    }
 }
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(schema = "orders", name = "status",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = "name", name = "status_name_UNIQUE")
+                @UniqueConstraint(columnNames = "name", name = "status_name_UNIQUE"),
+                @UniqueConstraint(columnNames = "code", name = "status_code_UNIQUE")
         })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,4 +31,10 @@ public class Status {
     @Size(min = 1, max = 100, message = "Description should be between 1 and 100 characters")
     @Column(nullable = false, length = 100)
     private String description;
+
+    // Identificador estable usado por el código (el nombre es editable y está en español)
+    @NotNull(message = "Code should not be null")
+    @Size(min = 1, max = 20, message = "Code should be between 1 and 20 characters")
+    @Column(nullable = false, unique = true, length = 20, updatable = false)
+    private String code;
 }
@@ -0,0 +1,20 @@
+package com.isaiiapp.backend.order.v1.status.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Códigos estables de los estados del sistema. El nombre visible puede cambiar; el código no.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatusCode {
+    CONFIRMED("Confirmado", "Pedido confirmado y enviado a cocina"),
+    IN_PROGRESS("En Curso", "Pedido en preparación en cocina"),
+    COMPLETED("Terminado", "Pedido terminado y listo para servir"),
+    PAID("Pagado", "Pedido pagado por el cliente"),
+    CANCELED("Cancelado", "Pedido cancelado");
+
+    private final String defaultName;
+    private final String defaultDescription;
+}
@@ -17,6 +17,8 @@ public interface StatusRepository extends JpaRepository<Status, Long> {
 
     boolean existsByName(String name);
 
+    boolean existsByCode(String code);
+
     @Query("SELECT s FROM Status s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Status> findByNameContaining(@Param("name") String name, Pageable pageable);
 
@@ -0,0 +1,85 @@
+package com.isaiiapp.backend.order.v1.status.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.status.model.Status;
+import com.isaiiapp.backend.order.v1.status.model.StatusCode;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot inmutable de los estados con índices id ↔ nombre ↔ código. Nunca se modifica: cada escritura
+ * de estados construye uno nuevo con una versión mayor y lo reemplaza de forma atómica.
+ */
+public final class StatusRegistry {
+
+    private final long version;
+    private final List<StatusEntry> statuses;
+    private final Map<Long, StatusEntry> byId;
+    private final Map<String, StatusEntry> byName;
+    private final Map<String, StatusEntry> byCode;
+
+    public StatusRegistry(long version, Collection<StatusEntry> statuses) {
+        this.version = version;
+        this.statuses = statuses.stream().sorted(Comparator.comparing(StatusEntry::id)).toList();
+        this.byId = this.statuses.stream().collect(Collectors.toUnmodifiableMap(StatusEntry::id, Function.identity()));
+        this.byName = this.statuses.stream().collect(Collectors.toUnmodifiableMap(StatusEntry::name, Function.identity()));
+        this.byCode = this.statuses.stream().collect(Collectors.toUnmodifiableMap(StatusEntry::code, Function.identity()));
+    }
+
+    public static StatusRegistry empty() {
+        return new StatusRegistry(0L, List.of());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<StatusEntry> getStatuses() {
+        return statuses;
+    }
+
+    public Optional<StatusEntry> findById(Long id) {
+        return Optional.ofNullable(id != null ? byId.get(id) : null);
+    }
+
+    public Optional<StatusEntry> findByName(String name) {
+        return Optional.ofNullable(name != null ? byName.get(name) : null);
+    }
+
+    public Optional<StatusEntry> findByCode(String code) {
+        return Optional.ofNullable(code != null ? byCode.get(code) : null);
+    }
+
+    public Optional<StatusEntry> findByCode(StatusCode code) {
+        return findByCode(code.name());
+    }
+
+    public StatusEntry requireById(Long id) {
+        return findById(id).orElseThrow(() -> new ResourceNotFoundException("Status", "id", id));
+    }
+
+    public StatusEntry requireByCode(StatusCode code) {
+        return findByCode(code).orElseThrow(() -> new ResourceNotFoundException("Status", "code", code.name()));
+    }
+
+    public record StatusEntry(Long id, String name, String code, String description) {
+
+        public static StatusEntry of(Status status) {
+            return new StatusEntry(status.getId(), status.getName(), status.getCode(), status.getDescription());
+        }
+
+        /**
+         * Entidad desacoplada con id (sin consulta): Hibernate solo usa el id para la FK y el mapper lee los campos.
+         * Se crea una instancia nueva por llamada para no compartir objetos entre sesiones.
+         */
+        public Status toReference() {
+            return new Status(id, name, description, code);
+        }
+    }
+}
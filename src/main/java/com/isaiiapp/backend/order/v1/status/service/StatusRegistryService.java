@@ -0,0 +1,17 @@
+package com.isaiiapp.backend.order.v1.status.service;
+
+/**
+ * Registro de estados en memoria: resolución por id, nombre o código estable sin consultas
+ */
+public interface StatusRegistryService {
+
+    /**
+     * Obtener el snapshot vigente (inmutable; capturarlo una vez por operación)
+     */
+    StatusRegistry getRegistry();
+
+    /**
+     * Recargar el snapshot desde la base de datos y reemplazarlo de forma atómica
+     */
+    void reload();
+}
@@ -0,0 +1,55 @@
+package com.isaiiapp.backend.order.v1.status.service;
+
+import com.isaiiapp.backend.order.v1.status.event.StatusChangedEvent;
+import com.isaiiapp.backend.order.v1.status.repository.StatusRepository;
+import com.isaiiapp.backend.order.v1.status.service.StatusRegistry.StatusEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatusRegistryServiceImpl implements StatusRegistryService {
+
+    private final StatusRepository statusRepository;
+
+    // Se reemplaza completo en cada recarga; los lectores nunca ven un registro a medio llenar
+    private volatile StatusRegistry registry = StatusRegistry.empty();
+
+    @Override
+    public StatusRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public synchronized void reload() {
+        List<StatusEntry> statuses = statusRepository.findAll().stream()
+                .map(StatusEntry::of)
+                .toList();
+
+        long version = Math.max(registry.getVersion() + 1, System.currentTimeMillis());
+        registry = new StatusRegistry(version, statuses);
+        log.debug("Status registry reloaded with version {}: {} statuses", version, statuses.size());
+    }
+
+    // Después de los CommandLineRunner, así incluye los estados creados por el inicializador
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+        log.info("Status registry loaded with version {}: {} statuses", registry.getVersion(),
+                registry.getStatuses().size());
+    }
+
+    // Solo después del commit, para no publicar cambios que luego se revierten
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(StatusChangedEvent event) {
+        log.debug("Status changed for status ID: {}, reloading status registry", event.statusId());
+        reload();
+    }
+}
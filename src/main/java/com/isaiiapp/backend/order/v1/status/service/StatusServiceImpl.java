@@ -5,11 +5,15 @@ import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
 import com.isaiiapp.backend.order.v1.status.dto.request.CreateStatusRequest;
 import com.isaiiapp.backend.order.v1.status.dto.request.UpdateStatusRequest;
 import com.isaiiapp.backend.order.v1.status.dto.response.StatusResponse;
+import com.isaiiapp.backend.order.v1.status.event.StatusChangedEvent;
+import com.isaiiapp.backend.order.v1.status.event.StatusRenamedEvent;
 import com.isaiiapp.backend.order.v1.status.mapper.StatusMapper;
 import com.isaiiapp.backend.order.v1.status.model.Status;
+import com.isaiiapp.backend.order.v1.status.model.StatusCode;
 import com.isaiiapp.backend.order.v1.status.repository.StatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +29,8 @@ public class StatusServiceImpl implements StatusService{
 
     private final StatusRepository statusRepository;
     private final StatusMapper statusMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusRegistryService statusRegistryService;
 
     @Override
     public StatusResponse createStatus(CreateStatusRequest request) {
@@ -36,7 +42,15 @@ public class StatusServiceImpl implements StatusService{
         }
 
         Status status = statusMapper.toEntity(request);
+        if (status.getCode().isEmpty()) {
+            throw new IllegalArgumentException("Status code cannot be derived from name: " + request.getName());
+        }
+        if (statusRepository.existsByCode(status.getCode())) {
+            throw new DuplicateResourceException("Status", "code", status.getCode());
+        }
+
         Status savedStatus = statusRepository.save(status);
+        eventPublisher.publishEvent(new StatusChangedEvent(savedStatus.getId()));
 
         log.info("Status created successfully with ID: {}", savedStatus.getId());
         return statusMapper.toResponse(savedStatus);
@@ -47,7 +61,7 @@ public class StatusServiceImpl implements StatusService{
     public Optional<StatusResponse> getStatusById(Long id) {
         log.debug("Fetching status by ID: {}", id);
 
-        return statusRepository.findById(id)
+        return statusRegistryService.getRegistry().findById(id)
                 .map(statusMapper::toResponse);
     }
 
@@ -56,7 +70,7 @@ public class StatusServiceImpl implements StatusService{
     public Optional<StatusResponse> getStatusByName(String name) {
         log.debug("Fetching status by name: {}", name);
 
-        return statusRepository.findByName(name)
+        return statusRegistryService.getRegistry().findByName(name)
                 .map(statusMapper::toResponse);
     }
 
@@ -73,6 +87,7 @@ public class StatusServiceImpl implements StatusService{
                 throw new DuplicateResourceException("Status", "name", request.getName());
             }
             existingStatus.setName(request.getName());
+            eventPublisher.publishEvent(new StatusRenamedEvent(id));
         }
 
         // Actualizar descripción si se proporciona
@@ -81,6 +96,7 @@ public class StatusServiceImpl implements StatusService{
         }
 
         Status updatedStatus = statusRepository.save(existingStatus);
+        eventPublisher.publishEvent(new StatusChangedEvent(id));
 
         log.info("Status updated successfully with ID: {}", updatedStatus.getId());
         return statusMapper.toResponse(updatedStatus);
@@ -95,6 +111,7 @@ public class StatusServiceImpl implements StatusService{
         }
 
         statusRepository.deleteById(id);
+        eventPublisher.publishEvent(new StatusChangedEvent(id));
         log.info("Status deleted successfully with ID: {}", id);
     }
 
@@ -130,7 +147,7 @@ public class StatusServiceImpl implements StatusService{
     public boolean isStatusNameAvailable(String name) {
         log.debug("Checking if status name is available: {}", name);
 
-        return !statusRepository.existsByName(name);
+        return statusRegistryService.getRegistry().findByName(name).isEmpty();
     }
 
     @Override
@@ -138,7 +155,7 @@ public class StatusServiceImpl implements StatusService{
     public boolean existsById(Long id) {
         log.debug("Checking if status exists by ID: {}", id);
 
-        return statusRepository.existsById(id);
+        return statusRegistryService.getRegistry().findById(id).isPresent();
     }
 
     @Override
@@ -146,7 +163,7 @@ public class StatusServiceImpl implements StatusService{
     public StatusStatsResponse getStatusStats() {
         log.debug("Fetching status statistics");
 
-        long totalStatuses = statusRepository.count();
+        long totalStatuses = statusRegistryService.getRegistry().getStatuses().size();
 
         // Para este módulo básico, consideramos todos los estados como activos
         // ya que no hay campo is_active en el diseño de BD
@@ -161,27 +178,18 @@ public class StatusServiceImpl implements StatusService{
     public void initializeDefaultStatuses() {
         log.info("Initializing default statuses");
 
-        // Estados por defecto basados en los requerimientos del restaurante
-        String[][] defaultStatuses = {
-                {"Confirmado", "Pedido confirmado y enviado a cocina"},
-                {"En Curso", "Pedido en preparación en cocina"},
-                {"Terminado", "Pedido terminado y listo para servir"},
-                {"Pagado", "Pedido pagado por el cliente"},
-                {"Cancelado", "Pedido cancelado"}
-        };
-
-        for (String[] statusData : defaultStatuses) {
-            String name = statusData[0];
-            String description = statusData[1];
-
-            if (!statusRepository.existsByName(name)) {
+        // Estados por defecto basados en los requerimientos del restaurante (identificados por código estable)
+        for (StatusCode code : StatusCode.values()) {
+            if (!statusRepository.existsByCode(code.name())) {
                 Status status = new Status();
-                status.setName(name);
-                status.setDescription(description);
-                statusRepository.save(status);
-                log.info("Default status created: {}", name);
+                status.setName(code.getDefaultName());
+                status.setDescription(code.getDefaultDescription());
+                status.setCode(code.name());
+                Status savedStatus = statusRepository.save(status);
+                eventPublisher.publishEvent(new StatusChangedEvent(savedStatus.getId()));
+                log.info("Default status created: {}", code);
             } else {
-                log.debug("Default status already exists: {}", name);
+                log.debug("Default status already exists: {}", code);
             }
         }
 
@@ -0,0 +1,28 @@
+package com.isaiiapp.backend.order.v1.summary.controller;
+
+import com.isaiiapp.backend.order.v1.summary.service.OrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/orders/summary")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class OrderSummaryController {
+
+    private final OrderSummaryService orderSummaryService;
+
+    /**
+     * Reconstruir el modelo de lectura de órdenes desde las tablas fuente
+     * Solo administradores
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<OrderSummaryService.SummaryRebuildResponse> rebuildSummaries() {
+        log.info("REST request to rebuild order summaries");
+
+        return ResponseEntity.ok(orderSummaryService.rebuildSummaries());
+    }
+}
@@ -0,0 +1,34 @@
+package com.isaiiapp.backend.order.v1.summary.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class OrderSummaryResponse {
+
+    private Long id;
+    private Long userId;
+    private String employeeId;
+    private String waiterName;
+    private Long tableId;
+    private String tableNumber;
+    private Long statusId;
+    private String statusName;
+    private Boolean isTakeaway;
+    private Integer itemCount;
+    private BigDecimal totalAmount;
+    private String notes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime confirmedAt;
+    private LocalDateTime inProgressAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime paidAt;
+    private LocalDateTime canceledAt;
+}
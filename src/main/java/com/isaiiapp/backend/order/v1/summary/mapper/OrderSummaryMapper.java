@@ -0,0 +1,40 @@
+package com.isaiiapp.backend.order.v1.summary.mapper;
+
+import com.isaiiapp.backend.order.v1.summary.dto.response.OrderSummaryResponse;
+import com.isaiiapp.backend.order.v1.summary.model.OrderSummary;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSummaryMapper {
+
+    /**
+     * Convertir OrderSummary entity a OrderSummaryResponse
+     */
+    public OrderSummaryResponse toResponse(OrderSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return new OrderSummaryResponse(
+                summary.getOrderId(),
+                summary.getUserId(),
+                summary.getEmployeeId(),
+                summary.getWaiterName(),
+                summary.getTableId(),
+                summary.getTableNumber(),
+                summary.getStatusId(),
+                summary.getStatusName(),
+                summary.getIsTakeaway(),
+                summary.getItemCount(),
+                summary.getTotalAmount(),
+                summary.getNotes(),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt(),
+                summary.getConfirmedAt(),
+                summary.getInProgressAt(),
+                summary.getCompletedAt(),
+                summary.getPaidAt(),
+                summary.getCanceledAt()
+        );
+    }
+}
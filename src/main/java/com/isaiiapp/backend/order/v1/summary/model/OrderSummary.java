@@ -0,0 +1,103 @@
+package com.isaiiapp.backend.order.v1.summary.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de lectura desnormalizado de órdenes para pantallas de listado
+ * Se mantiene desde el outbox de órdenes; nunca se escribe desde la API
+ */
+@Entity
+@Table(schema = "orders", name = "order_summary",
+        indexes = {
+                @Index(columnList = "created_at", name = "order_summary_created_at_idx"),
+                @Index(columnList = "updated_at", name = "order_summary_updated_at_idx"),
+                @Index(columnList = "total_amount", name = "order_summary_total_amount_idx"),
+                @Index(columnList = "user_id, created_at", name = "order_summary_user_idx"),
+                @Index(columnList = "employee_id, created_at", name = "order_summary_employee_idx"),
+                @Index(columnList = "table_id, created_at", name = "order_summary_table_idx"),
+                @Index(columnList = "table_number, created_at", name = "order_summary_table_number_idx"),
+                @Index(columnList = "status_id, created_at", name = "order_summary_status_idx"),
+                @Index(columnList = "status_name, created_at", name = "order_summary_status_name_idx"),
+                @Index(columnList = "is_takeaway, created_at", name = "order_summary_takeaway_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @NotNull(message = "User ID should not be null")
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull(message = "Employee ID should not be null")
+    @Column(name = "employee_id", nullable = false, length = 7)
+    private String employeeId;
+
+    @NotNull(message = "Waiter name should not be null")
+    @Column(name = "waiter_name", nullable = false, length = 301)
+    private String waiterName;
+
+    @NotNull(message = "Table ID should not be null")
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    @NotNull(message = "Table number should not be null")
+    @Column(name = "table_number", nullable = false, length = 10)
+    private String tableNumber;
+
+    @NotNull(message = "Status ID should not be null")
+    @Column(name = "status_id", nullable = false)
+    private Long statusId;
+
+    @NotNull(message = "Status name should not be null")
+    @Column(name = "status_name", nullable = false, length = 20)
+    private String statusName;
+
+    @NotNull(message = "Is takeaway should not be null")
+    @Column(name = "is_takeaway", nullable = false)
+    private Boolean isTakeaway;
+
+    @NotNull(message = "Item count should not be null")
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @NotNull(message = "Total amount should not be null")
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(length = 250)
+    private String notes;
+
+    @NotNull(message = "Created at should not be null")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
+    @Column(name = "in_progress_at")
+    private LocalDateTime inProgressAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "paid_at")
+    private LocalDateTime paidAt;
+
+    @Column(name = "canceled_at")
+    private LocalDateTime canceledAt;
+}
@@ -0,0 +1,128 @@
+package com.isaiiapp.backend.order.v1.summary.repository;
+
+import com.isaiiapp.backend.order.v1.summary.model.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    String SUMMARY_COLUMNS = "order_id, user_id, employee_id, waiter_name, table_id, table_number, " +
+            "status_id, status_name, is_takeaway, item_count, total_amount, notes, created_at, updated_at, " +
+            "confirmed_at, in_progress_at, completed_at, paid_at, canceled_at";
+
+    String SUMMARY_SOURCE = "SELECT o.id, u.id, u.employee_id, u.first_name || ' ' || u.last_name, t.id, t.table_number, " +
+            "s.id, s.name, o.is_takeaway, " +
+            "COALESCE((SELECT SUM(oi.quantity) FROM orders.order_item oi WHERE oi.order_id = o.id), 0), " +
+            "o.total_amount, o.notes, o.created_at, o.updated_at, " +
+            "o.confirmed_at, o.in_progress_at, o.completed_at, o.paid_at, o.canceled_at " +
+            "FROM orders.orders o " +
+            "JOIN auth.users u ON u.id = o.user_id " +
+            "JOIN tables.tables t ON t.id = o.table_id " +
+            "JOIN orders.status s ON s.id = o.status_id ";
+
+    // ---- Mantenimiento de la proyección ----
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.order_summary (" + SUMMARY_COLUMNS + ") " +
+            SUMMARY_SOURCE + "WHERE o.id = :orderId " +
+            "ON CONFLICT (order_id) DO UPDATE SET " +
+            "user_id = EXCLUDED.user_id, employee_id = EXCLUDED.employee_id, waiter_name = EXCLUDED.waiter_name, " +
+            "table_id = EXCLUDED.table_id, table_number = EXCLUDED.table_number, " +
+            "status_id = EXCLUDED.status_id, status_name = EXCLUDED.status_name, " +
+            "is_takeaway = EXCLUDED.is_takeaway, item_count = EXCLUDED.item_count, " +
+            "total_amount = EXCLUDED.total_amount, notes = EXCLUDED.notes, " +
+            "created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at, " +
+            "confirmed_at = EXCLUDED.confirmed_at, in_progress_at = EXCLUDED.in_progress_at, " +
+            "completed_at = EXCLUDED.completed_at, paid_at = EXCLUDED.paid_at, canceled_at = EXCLUDED.canceled_at",
+            nativeQuery = true)
+    int refreshOrder(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.order_summary WHERE order_id = :orderId", nativeQuery = true)
+    int deleteOrder(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders.order_summary", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO orders.order_summary (" + SUMMARY_COLUMNS + ") " + SUMMARY_SOURCE +
+            "ON CONFLICT (order_id) DO NOTHING", nativeQuery = true)
+    int rebuildFromOrders();
+
+    @Modifying
+    @Query(value = "UPDATE orders.order_summary os SET employee_id = u.employee_id, " +
+            "waiter_name = u.first_name || ' ' || u.last_name " +
+            "FROM auth.users u WHERE u.id = :userId AND os.user_id = u.id", nativeQuery = true)
+    int refreshUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE orders.order_summary os SET table_number = t.table_number " +
+            "FROM tables.tables t WHERE t.id = :tableId AND os.table_id = t.id", nativeQuery = true)
+    int refreshTable(@Param("tableId") Long tableId);
+
+    @Modifying
+    @Query(value = "UPDATE orders.order_summary os SET status_name = s.name " +
+            "FROM orders.status s WHERE s.id = :statusId AND os.status_id = s.id", nativeQuery = true)
+    int refreshStatus(@Param("statusId") Long statusId);
+
+    // ---- Consultas de listado (una sola tabla) ----
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.userId = :userId")
+    Page<OrderSummary> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.tableId = :tableId")
+    Page<OrderSummary> findByTableId(@Param("tableId") Long tableId, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.statusId = :statusId")
+    Page<OrderSummary> findByStatusId(@Param("statusId") Long statusId, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.statusName = :statusName")
+    Page<OrderSummary> findByStatusName(@Param("statusName") String statusName, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.tableNumber = :tableNumber")
+    Page<OrderSummary> findByTableNumber(@Param("tableNumber") String tableNumber, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.employeeId = :employeeId")
+    Page<OrderSummary> findByEmployeeId(@Param("employeeId") String employeeId, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.createdAt BETWEEN :startDate AND :endDate")
+    Page<OrderSummary> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.updatedAt BETWEEN :startDate AND :endDate")
+    Page<OrderSummary> findByUpdatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.totalAmount BETWEEN :minTotal AND :maxTotal")
+    Page<OrderSummary> findByTotalBetween(@Param("minTotal") BigDecimal minTotal,
+                                          @Param("maxTotal") BigDecimal maxTotal,
+                                          Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.totalAmount >= :minTotal")
+    Page<OrderSummary> findByMinTotal(@Param("minTotal") BigDecimal minTotal, Pageable pageable);
+
+    // f_unaccent(lower(x)) coincide con los índices de trigramas de db/indexes.sql
+    @Query("SELECT os FROM OrderSummary os WHERE f_unaccent(LOWER(os.waiterName)) LIKE f_unaccent(LOWER(CONCAT('%', :name, '%')))")
+    Page<OrderSummary> findByWaiterNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.createdAt >= :date")
+    Page<OrderSummary> findFromDate(@Param("date") LocalDateTime date, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE os.isTakeaway = :isTakeaway")
+    Page<OrderSummary> findByIsTakeaway(@Param("isTakeaway") Boolean isTakeaway, Pageable pageable);
+
+    @Query("SELECT os FROM OrderSummary os WHERE f_unaccent(LOWER(os.notes)) LIKE f_unaccent(LOWER(CONCAT('%', :notes, '%')))")
+    Page<OrderSummary> findByNotesContaining(@Param("notes") String notes, Pageable pageable);
+}
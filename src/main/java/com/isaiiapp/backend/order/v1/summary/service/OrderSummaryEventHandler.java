@@ -0,0 +1,50 @@
+package com.isaiiapp.backend.order.v1.summary.service;
+
+import com.isaiiapp.backend.auth.v1.users.event.UsersRenamedEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import com.isaiiapp.backend.order.v1.status.event.StatusRenamedEvent;
+import com.isaiiapp.backend.tables.v1.tables.event.TablesRenumberedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Mantiene order_summary: cada evento de orden recalcula su fila desde las tablas fuente (idempotente);
+ * los renombres de usuarios, mesas y estados se aplican en la misma transacción que los provoca
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryEventHandler implements OrderEventHandler {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return EnumSet.allOf(OrderEventType.class);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        orderSummaryService.refreshOrder(event.getOrderId());
+    }
+
+    @EventListener
+    public void onUserRenamed(UsersRenamedEvent event) {
+        orderSummaryService.refreshUser(event.userId());
+    }
+
+    @EventListener
+    public void onTableRenumbered(TablesRenumberedEvent event) {
+        orderSummaryService.refreshTable(event.tableId());
+    }
+
+    @EventListener
+    public void onStatusRenamed(StatusRenamedEvent event) {
+        orderSummaryService.refreshStatus(event.statusId());
+    }
+}
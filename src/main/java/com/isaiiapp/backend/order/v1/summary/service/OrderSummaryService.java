@@ -0,0 +1,36 @@
+package com.isaiiapp.backend.order.v1.summary.service;
+
+public interface OrderSummaryService {
+
+    /**
+     * Recalcular la fila de resumen de una orden desde las tablas fuente (la elimina si la orden ya no existe)
+     */
+    void refreshOrder(Long orderId);
+
+    /**
+     * Actualizar el nombre del mesero en los resúmenes de sus órdenes
+     */
+    void refreshUser(Long userId);
+
+    /**
+     * Actualizar el número de mesa en los resúmenes de sus órdenes
+     */
+    void refreshTable(Long tableId);
+
+    /**
+     * Actualizar el nombre del estado en los resúmenes de sus órdenes
+     */
+    void refreshStatus(Long statusId);
+
+    /**
+     * Reconstruir el modelo de lectura completo desde las tablas fuente
+     */
+    SummaryRebuildResponse rebuildSummaries();
+
+    /**
+     * DTO para el resultado de la reconstrucción
+     */
+    record SummaryRebuildResponse(
+            Integer summaryRows
+    ) {}
+}
@@ -0,0 +1,67 @@
+package com.isaiiapp.backend.order.v1.summary.service;
+
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.summary.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderSummaryServiceImpl implements OrderSummaryService {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderRepository orderRepository;
+
+    @Override
+    public void refreshOrder(Long orderId) {
+        if (orderSummaryRepository.refreshOrder(orderId) == 0) {
+            orderSummaryRepository.deleteOrder(orderId);
+        }
+        log.debug("Order summary refreshed for order ID: {}", orderId);
+    }
+
+    @Override
+    public void refreshUser(Long userId) {
+        int rows = orderSummaryRepository.refreshUser(userId);
+        log.debug("Waiter name refreshed in {} order summaries for user ID: {}", rows, userId);
+    }
+
+    @Override
+    public void refreshTable(Long tableId) {
+        int rows = orderSummaryRepository.refreshTable(tableId);
+        log.debug("Table number refreshed in {} order summaries for table ID: {}", rows, tableId);
+    }
+
+    @Override
+    public void refreshStatus(Long statusId) {
+        int rows = orderSummaryRepository.refreshStatus(statusId);
+        log.debug("Status name refreshed in {} order summaries for status ID: {}", rows, statusId);
+    }
+
+    @Override
+    public SummaryRebuildResponse rebuildSummaries() {
+        log.info("Rebuilding order summaries from orders");
+
+        orderSummaryRepository.deleteAllRows();
+        int rows = orderSummaryRepository.rebuildFromOrders();
+
+        log.info("Order summaries rebuilt: {} rows", rows);
+        return new SummaryRebuildResponse(rows);
+    }
+
+    /**
+     * Poblar el modelo de lectura al arrancar si está vacío pero ya existen órdenes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfEmpty() {
+        if (orderSummaryRepository.count() == 0 && orderRepository.count() > 0) {
+            rebuildSummaries();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.isaiiapp.backend.order.v1.topproducts.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumen Space-Saving de elementos frecuentes con un número fijo de contadores.
+ * Cada contador sobreestima la cantidad real como máximo en su error, y cualquier elemento
+ * no monitoreado tiene una cantidad real menor o igual a {@link #unseenBound()}.
+ * Dos resúmenes se fusionan sumando contadores (resumen mergeable), por lo que las ventanas
+ * móviles se arman combinando ranuras.
+ */
+public final class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+    private long totalWeight;
+    // Cota superior de la cantidad real de los elementos descartados
+    private long floor;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Construir un resumen a partir de cantidades exactas: los más frecuentes quedan sin error
+     */
+    public static SpaceSavingSketch ofExactCounts(int capacity, Map<Long, Long> exactCounts) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(exactCounts.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Long> entry = sorted.get(i);
+            if (i < capacity) {
+                sketch.counters.put(entry.getKey(), new Counter(entry.getValue(), 0));
+            } else {
+                sketch.floor = Math.max(sketch.floor, entry.getValue());
+            }
+            sketch.totalWeight += entry.getValue();
+        }
+        return sketch;
+    }
+
+    public synchronized void add(Long key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        totalWeight += weight;
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(weight, 0));
+            return;
+        }
+
+        // Reemplazar el contador mínimo: el nuevo elemento hereda su cantidad como error
+        Map.Entry<Long, Counter> min = null;
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count < min.getValue().count) {
+                min = entry;
+            }
+        }
+        long minCount = min.getValue().count;
+        counters.remove(min.getKey());
+        floor = Math.max(floor, minCount);
+        counters.put(key, new Counter(minCount + weight, minCount));
+    }
+
+    public void merge(SpaceSavingSketch other) {
+        Map<Long, Counter> otherCounters = new HashMap<>();
+        long otherTotal;
+        long otherUnseen;
+        synchronized (other) {
+            other.counters.forEach((key, counter) -> otherCounters.put(key, new Counter(counter.count, counter.error)));
+            otherTotal = other.totalWeight;
+            otherUnseen = other.unseenBound();
+        }
+
+        synchronized (this) {
+            long thisUnseen = unseenBound();
+            Map<Long, Counter> merged = new HashMap<>(counters.size() + otherCounters.size());
+            counters.forEach((key, counter) -> {
+                Counter fromOther = otherCounters.get(key);
+                merged.put(key, fromOther != null
+                        ? new Counter(counter.count + fromOther.count, counter.error + fromOther.error)
+                        : new Counter(counter.count + otherUnseen, counter.error + otherUnseen));
+            });
+            otherCounters.forEach((key, counter) -> {
+                if (!merged.containsKey(key)) {
+                    merged.put(key, new Counter(counter.count + thisUnseen, counter.error + thisUnseen));
+                }
+            });
+
+            floor = thisUnseen + otherUnseen;
+            totalWeight += otherTotal;
+            counters.clear();
+            if (merged.size() <= capacity) {
+                counters.putAll(merged);
+                return;
+            }
+
+            // Conservar los contadores más altos; los descartados elevan la cota de no monitoreados
+            List<Map.Entry<Long, Counter>> sorted = new ArrayList<>(merged.entrySet());
+            sorted.sort(Comparator.comparingLong((Map.Entry<Long, Counter> entry) -> entry.getValue().count).reversed());
+            for (int i = 0; i < sorted.size(); i++) {
+                Map.Entry<Long, Counter> entry = sorted.get(i);
+                if (i < capacity) {
+                    counters.put(entry.getKey(), entry.getValue());
+                } else {
+                    floor = Math.max(floor, entry.getValue().count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Los k elementos más frecuentes, con su error y si su pertenencia al top-k está garantizada
+     */
+    public synchronized List<Entry> top(int k) {
+        List<Map.Entry<Long, Counter>> sorted = new ArrayList<>(counters.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<Long, Counter> entry) -> entry.getValue().count).reversed());
+
+        // Un elemento está garantizado si su cota inferior supera la cota superior de cualquier otro fuera del top-k
+        long threshold = unseenBound();
+        if (sorted.size() > k) {
+            threshold = Math.max(threshold, sorted.get(k).getValue().count);
+        }
+
+        int size = Math.min(k, sorted.size());
+        List<Entry> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map.Entry<Long, Counter> entry = sorted.get(i);
+            Counter counter = entry.getValue();
+            top.add(new Entry(entry.getKey(), counter.count, counter.error, counter.count - counter.error >= threshold));
+        }
+        return top;
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long unseenBound() {
+        if (counters.size() < capacity) {
+            return floor;
+        }
+        long min = Long.MAX_VALUE;
+        for (Counter counter : counters.values()) {
+            min = Math.min(min, counter.count);
+        }
+        return Math.max(floor, min);
+    }
+
+    public record Entry(Long key, long count, long error, boolean guaranteed) {
+    }
+
+    private static final class Counter {
+        private long count;
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.isaiiapp.backend.order.v1.topproducts.service;
+
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import com.isaiiapp.backend.order.v1.outbox.service.TransactionEffects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Alimenta los resúmenes de productos más pedidos con cada item creado
+ * (los items movidos entre órdenes no se vuelven a contar)
+ */
+@Component
+@RequiredArgsConstructor
+public class TopProductsEventHandler implements OrderEventHandler {
+
+    private final TopProductsService topProductsService;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderEventPayloads orderEventPayloads;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return Set.of(OrderEventType.ORDER_ITEM_ADDED);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        List<Long> orderItemIds = orderEventPayloads.readNewOrderItemIds(event);
+        if (orderItemIds.isEmpty()) {
+            return;
+        }
+
+        // Los resúmenes solo cambian al confirmar; un reintento del evento no vuelve a sumar los items
+        List<Object[]> rows = orderItemRepository.findProductQuantitiesByIds(orderItemIds);
+        TransactionEffects.afterCommit(() -> {
+            for (Object[] row : rows) {
+                topProductsService.recordOrderedItem(event.getCreatedAt(), (Long) row[0], ((Number) row[1]).longValue());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.isaiiapp.backend.order.v1.topproducts.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Productos más pedidos servidos desde resúmenes Space-Saving en memoria
+ */
+public interface TopProductsService {
+
+    /**
+     * Registrar una línea pedida (alimentado por la creación de items)
+     */
+    void recordOrderedItem(LocalDateTime orderedAt, Long productId, long quantity);
+
+    /**
+     * Productos más pedidos desde siempre
+     */
+    List<TopProductResponse> getAllTimeTopProducts(int limit);
+
+    /**
+     * Productos más pedidos en el día de negocio actual
+     */
+    List<TopProductResponse> getTodaysTopProducts(int limit);
+
+    /**
+     * Productos más pedidos en la última hora
+     */
+    List<TopProductResponse> getLastHourTopProducts(int limit);
+
+    /**
+     * Reemplazar los resúmenes histórico y del día por conteos exactos desde order_item
+     */
+    void recomputeExact();
+
+    /**
+     * DTO de producto más pedido: la cantidad puede sobreestimar la real como máximo en maxOverestimate
+     */
+    record TopProductResponse(
+            Long productId,
+            String productName,
+            Long quantity,
+            Long maxOverestimate,
+            boolean guaranteed
+    ) {}
+}
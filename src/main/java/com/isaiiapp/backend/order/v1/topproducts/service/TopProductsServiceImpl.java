@@ -0,0 +1,203 @@
+package com.isaiiapp.backend.order.v1.topproducts.service;
+
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.rollup.service.BusinessDayClock;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService;
+import com.isaiiapp.backend.product.v1.product.service.ProductPriceSnapshotService.ProductPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TopProductsServiceImpl implements TopProductsService {
+
+    // Ventana móvil de una hora: 12 ranuras de 5 minutos
+    private static final long SLOT_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final int SLOT_COUNT = 12;
+
+    private final OrderItemRepository orderItemRepository;
+    private final BusinessDayClock businessDayClock;
+    private final ProductPriceSnapshotService productPriceSnapshotService;
+
+    private final ConcurrentHashMap<LocalDate, SpaceSavingSketch> daySketches = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<HourSlot> hourSlots = new AtomicReferenceArray<>(SLOT_COUNT);
+    private volatile SpaceSavingSketch allTimeSketch;
+
+    @Value("${app.top-products.capacity:64}")
+    private int capacity;
+
+    @Override
+    public void recordOrderedItem(LocalDateTime orderedAt, Long productId, long quantity) {
+        allTime().add(productId, quantity);
+
+        // Solo se conservan el día actual y el anterior (eventos demorados cerca del cambio de día)
+        LocalDate day = businessDayClock.businessDayOf(orderedAt);
+        if (!day.isBefore(businessDayClock.today().minusDays(1))) {
+            daySketches.computeIfAbsent(day, d -> new SpaceSavingSketch(capacity)).add(productId, quantity);
+        }
+
+        long slot = slotOf(orderedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (slot > slotOf(System.currentTimeMillis()) - SLOT_COUNT) {
+            slotFor(slot).sketch().add(productId, quantity);
+        }
+    }
+
+    @Override
+    public List<TopProductResponse> getAllTimeTopProducts(int limit) {
+        log.debug("Fetching all-time top {} products", limit);
+        validateLimit(limit);
+
+        return toResponses(allTime().top(limit));
+    }
+
+    @Override
+    public List<TopProductResponse> getTodaysTopProducts(int limit) {
+        log.debug("Fetching today's top {} products", limit);
+        validateLimit(limit);
+
+        SpaceSavingSketch today = daySketches.get(businessDayClock.today());
+        return today != null ? toResponses(today.top(limit)) : List.of();
+    }
+
+    @Override
+    public List<TopProductResponse> getLastHourTopProducts(int limit) {
+        log.debug("Fetching last hour top {} products", limit);
+        validateLimit(limit);
+
+        long currentSlot = slotOf(System.currentTimeMillis());
+        SpaceSavingSketch merged = new SpaceSavingSketch(capacity);
+        for (long slot = currentSlot - SLOT_COUNT + 1; slot <= currentSlot; slot++) {
+            HourSlot hourSlot = hourSlots.get(indexOf(slot));
+            if (hourSlot != null && hourSlot.slot() == slot) {
+                merged.merge(hourSlot.sketch());
+            }
+        }
+        return toResponses(merged.top(limit));
+    }
+
+    @Override
+    @Scheduled(cron = "${app.top-products.recompute-cron:0 30 4 * * *}")
+    public void recomputeExact() {
+        LocalDate today = businessDayClock.today();
+        LocalDateTime dayStart = today.atStartOfDay().plusHours(businessDayClock.getStartHour());
+
+        SpaceSavingSketch exactAllTime = SpaceSavingSketch.ofExactCounts(capacity,
+                toCounts(orderItemRepository.sumQuantitiesByProduct()));
+        SpaceSavingSketch exactToday = SpaceSavingSketch.ofExactCounts(capacity,
+                toCounts(orderItemRepository.sumQuantitiesByProductBetween(dayStart, dayStart.plusDays(1))));
+
+        allTimeSketch = exactAllTime;
+        daySketches.put(today, exactToday);
+        daySketches.keySet().removeIf(day -> day.isBefore(today.minusDays(1)));
+        log.info("Top products recomputed exactly: {} items all-time, {} items today",
+                exactAllTime.getTotalWeight(), exactToday.getTotalWeight());
+    }
+
+    /**
+     * Cargar los resúmenes exactos y la última hora al arrancar (el estado en memoria no sobrevive reinicios)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        recomputeExact();
+
+        LocalDateTime since = toDateTime((slotOf(System.currentTimeMillis()) - SLOT_COUNT + 1) * SLOT_MILLIS);
+        List<Object[]> rows = orderItemRepository.findOrderedItemsSince(since);
+        for (Object[] row : rows) {
+            long slot = slotOf(((LocalDateTime) row[1]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            slotFor(slot).sketch().add((Long) row[0], ((Number) row[2]).longValue());
+        }
+        log.info("Top products last hour window warmed up with {} items", rows.size());
+    }
+
+    private SpaceSavingSketch allTime() {
+        SpaceSavingSketch sketch = allTimeSketch;
+        if (sketch == null) {
+            synchronized (this) {
+                if (allTimeSketch == null) {
+                    allTimeSketch = new SpaceSavingSketch(capacity);
+                }
+                sketch = allTimeSketch;
+            }
+        }
+        return sketch;
+    }
+
+    private HourSlot slotFor(long slot) {
+        int index = indexOf(slot);
+        while (true) {
+            HourSlot current = hourSlots.get(index);
+            if (current != null && current.slot() == slot) {
+                return current;
+            }
+            if (current != null && current.slot() > slot) {
+                // La ranura ya fue reciclada por un intervalo más reciente; se descarta la muestra
+                return new HourSlot(slot, new SpaceSavingSketch(capacity));
+            }
+            HourSlot fresh = new HourSlot(slot, new SpaceSavingSketch(capacity));
+            if (hourSlots.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private List<TopProductResponse> toResponses(List<SpaceSavingSketch.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new TopProductResponse(
+                        entry.key(),
+                        productPriceSnapshotService.findPrice(entry.key()).map(ProductPrice::name).orElse(null),
+                        entry.count(),
+                        entry.error(),
+                        entry.guaranteed()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> toCounts(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit <= 0 || limit > capacity) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + capacity);
+        }
+    }
+
+    private static long slotOf(long epochMillis) {
+        return epochMillis / SLOT_MILLIS;
+    }
+
+    private static int indexOf(long slot) {
+        return (int) Math.floorMod(slot, (long) SLOT_COUNT);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record HourSlot(long slot, SpaceSavingSketch sketch) {
+    }
+}
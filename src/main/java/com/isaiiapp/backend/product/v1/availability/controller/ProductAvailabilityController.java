@@ -0,0 +1,44 @@
+package com.isaiiapp.backend.product.v1.availability.controller;
+
+import com.isaiiapp.backend.product.v1.availability.service.ProductAvailabilityService;
+import com.isaiiapp.backend.product.v1.availability.service.ProductAvailabilityService.AvailabilityResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/menu/availability")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ProductAvailabilityController {
+
+    private final ProductAvailabilityService productAvailabilityService;
+
+    /**
+     * Obtener los cambios de disponibilidad desde una versión del catálogo
+     */
+    @GetMapping
+    public ResponseEntity<AvailabilityResponse> getChangesSince(@RequestParam(required = false) Long since) {
+        log.debug("REST request to get product availability since version: {}", since);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(productAvailabilityService.getChangesSince(since));
+    }
+
+    /**
+     * Canal SSE con los cambios de disponibilidad en tiempo real
+     * Acepta la versión por parámetro o por la cabecera Last-Event-ID al reconectar
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.debug("REST request to subscribe to product availability stream");
+        return productAvailabilityService.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.product.v1.availability.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface ProductAvailabilityService {
+
+    /**
+     * Obtener los cambios de disponibilidad posteriores a una versión del catálogo
+     * Si la versión es nula o ya salió del historial, se responde el estado completo
+     */
+    AvailabilityResponse getChangesSince(Long since);
+
+    /**
+     * Suscribirse al canal SSE de cambios de disponibilidad
+     * Si se indica la última versión recibida, primero se envían los cambios pendientes
+     */
+    SseEmitter subscribe(Long lastVersion);
+
+    /**
+     * Verificar si un producto está disponible (activo y con categoría activa)
+     */
+    boolean isAvailable(Long productId);
+
+    // DTOs
+    record AvailabilityResponse(
+            long version,
+            boolean full,
+            List<Long> available,
+            List<Long> unavailable
+    ) {}
+}
@@ -0,0 +1,230 @@
+package com.isaiiapp.backend.product.v1.availability.service;
+
+import com.isaiiapp.backend.product.v1.catalog.event.MenuCatalogRebuiltEvent;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Slf4j
+public class ProductAvailabilityServiceImpl implements ProductAvailabilityService {
+
+    public static final String AVAILABILITY_EVENT = "availability";
+
+    private final int changeLogSize;
+    private final long streamTimeoutMs;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // Un solo hilo de envío: los mensajes salen en el orden en que se encolan y ningún lock
+    // (ni el de este servicio ni el del catálogo) queda tomado mientras se escribe a un cliente lento
+    private final ExecutorService sender =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("availability-stream").factory());
+
+    // Estado publicado: se reemplaza completo en cada catálogo, los lectores no toman lock
+    private volatile Snapshot snapshot = new Snapshot(0L, new BitSet(), new BitSet());
+
+    // Historial acotado de cambios; protegido por el monitor de la instancia
+    private final Deque<Change> changeLog = new ArrayDeque<>();
+    // Versión a partir de la cual el historial está completo
+    private long logStartVersion = Long.MAX_VALUE;
+
+    public ProductAvailabilityServiceImpl(
+            @Value("${app.availability.change-log-size:4096}") int changeLogSize,
+            @Value("${app.availability.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this.changeLogSize = changeLogSize;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    @Override
+    public AvailabilityResponse getChangesSince(Long since) {
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (since == null || since < logStartVersion) {
+                return fullResponse(current);
+            }
+            if (since >= current.version()) {
+                return new AvailabilityResponse(current.version(), false, List.of(), List.of());
+            }
+
+            // Solo el último estado de cada producto dentro del rango
+            Map<Long, Boolean> latest = new LinkedHashMap<>();
+            for (Change change : changeLog) {
+                if (change.version() > since) {
+                    latest.remove(change.productId());
+                    latest.put(change.productId(), change.available());
+                }
+            }
+            return deltaResponse(current.version(), latest);
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(Long lastVersion) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> {
+            emitters.remove(emitter);
+            emitter.complete();
+        });
+        emitter.onError(error -> emitters.remove(emitter));
+
+        // Registrar y encolar el estado inicial bajo el mismo lock que encola los cambios,
+        // así el cliente no pierde ni duplica deltas entre ambos pasos
+        synchronized (this) {
+            AvailabilityResponse initial = getChangesSince(lastVersion);
+            emitters.add(emitter);
+            sender.execute(() -> {
+                if (!send(emitter, initial)) {
+                    emitters.remove(emitter);
+                }
+            });
+        }
+        log.debug("Availability stream subscribed, {} active subscribers", emitters.size());
+        return emitter;
+    }
+
+    @Override
+    public boolean isAvailable(Long productId) {
+        return productId != null && productId >= 0 && productId <= Integer.MAX_VALUE
+                && snapshot.available().get(productId.intValue());
+    }
+
+    @EventListener
+    public synchronized void onCatalogRebuilt(MenuCatalogRebuiltEvent event) {
+        MenuCatalog catalog = event.catalog();
+        Snapshot previous = snapshot;
+
+        BitSet known = new BitSet();
+        BitSet available = new BitSet();
+        for (CatalogProduct product : catalog.getProducts()) {
+            if (product.id() == null || product.id() > Integer.MAX_VALUE) {
+                continue;
+            }
+            int index = product.id().intValue();
+            known.set(index);
+            boolean categoryActive = catalog.findCategory(product.categoryId())
+                    .map(CatalogCategory::active)
+                    .orElse(false);
+            if (product.active() && categoryActive) {
+                available.set(index);
+            }
+        }
+        snapshot = new Snapshot(catalog.getVersion(), known, available);
+
+        if (logStartVersion == Long.MAX_VALUE) {
+            // Primer catálogo: estado base, sin cambios que anunciar
+            logStartVersion = catalog.getVersion();
+            log.info("Product availability initialized at version {}: {} available of {} products",
+                    catalog.getVersion(), available.cardinality(), known.cardinality());
+            return;
+        }
+
+        // Diferencia de bits contra el estado anterior; los eliminados pasan a no disponibles
+        BitSet changed = (BitSet) previous.available().clone();
+        changed.xor(available);
+        Map<Long, Boolean> delta = new LinkedHashMap<>();
+        for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+            delta.put((long) index, available.get(index));
+        }
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<Long, Boolean> entry : delta.entrySet()) {
+            changeLog.addLast(new Change(catalog.getVersion(), entry.getKey(), entry.getValue()));
+        }
+        while (changeLog.size() > changeLogSize) {
+            logStartVersion = Math.max(logStartVersion, changeLog.removeFirst().version());
+        }
+
+        log.debug("Product availability changed at version {}: {} products", catalog.getVersion(), delta.size());
+        AvailabilityResponse response = deltaResponse(catalog.getVersion(), delta);
+        List<SseEmitter> subscribers = List.copyOf(emitters);
+        sender.execute(() -> broadcast(subscribers, response));
+    }
+
+    @Scheduled(fixedRateString = "${app.availability.heartbeat-ms:15000}")
+    public void heartbeat() {
+        // Mantiene viva la conexión a través de proxies y detecta clientes desconectados
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+    }
+
+    private void broadcast(List<SseEmitter> subscribers, AvailabilityResponse response) {
+        for (SseEmitter emitter : subscribers) {
+            if (!send(emitter, response)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, AvailabilityResponse response) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(response.version()))
+                    .name(AVAILABILITY_EVENT)
+                    .data(response));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping availability subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private AvailabilityResponse fullResponse(Snapshot current) {
+        List<Long> available = new ArrayList<>(current.available().cardinality());
+        List<Long> unavailable = new ArrayList<>();
+        BitSet known = current.known();
+        for (int index = known.nextSetBit(0); index >= 0; index = known.nextSetBit(index + 1)) {
+            if (current.available().get(index)) {
+                available.add((long) index);
+            } else {
+                unavailable.add((long) index);
+            }
+        }
+        return new AvailabilityResponse(current.version(), true, available, unavailable);
+    }
+
+    private AvailabilityResponse deltaResponse(long version, Map<Long, Boolean> delta) {
+        List<Long> available = new ArrayList<>();
+        List<Long> unavailable = new ArrayList<>();
+        delta.forEach((productId, isAvailable) -> (isAvailable ? available : unavailable).add(productId));
+        return new AvailabilityResponse(version, false, available, unavailable);
+    }
+
+    private record Snapshot(long version, BitSet known, BitSet available) {}
+
+    private record Change(long version, long productId, boolean available) {}
+}
@@ -0,0 +1,99 @@
+package com.isaiiapp.backend.product.v1.catalog.controller;
+
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuPayloadService;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuPayloadService.MenuPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/menu")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class MenuController {
+
+    private final MenuPayloadService menuPayloadService;
+
+    /**
+     * Obtener el menú activo completo agrupado por categoría
+     * Responde 304 si el cliente ya tiene la versión vigente (If-None-Match)
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getMenu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("REST request to get full menu");
+
+        MenuPayload payload = menuPayloadService.getPayload();
+        if (matches(ifNoneMatch, payload.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.etag())
+                    .header(MenuCatalog.VERSION_HEADER, String.valueOf(payload.version()))
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .header(MenuCatalog.VERSION_HEADER, String.valueOf(payload.version()))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        // Bytes ya comprimidos: no se vuelve a serializar ni comprimir por petición
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return qValue(parts) > 0;
+            }
+        }
+        return false;
+    }
+
+    // Peso q de la codificación (1 si no viene); q=0, q=0.0 o un valor inválido la rechazan
+    private double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].replace(" ", "");
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
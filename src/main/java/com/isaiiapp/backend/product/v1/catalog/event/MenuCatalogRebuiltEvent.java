@@ -0,0 +1,9 @@
+package com.isaiiapp.backend.product.v1.catalog.event;
+
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+
+/**
+ * Evento publicado cada vez que se reemplaza el catálogo del menú en memoria
+ */
+public record MenuCatalogRebuiltEvent(MenuCatalog catalog) {
+}
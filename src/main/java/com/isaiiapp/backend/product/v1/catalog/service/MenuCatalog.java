@@ -0,0 +1,178 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Snapshot inmutable del menú (categorías y productos). Nunca se modifica: cada escritura construye
+ * uno nuevo con una versión mayor y lo reemplaza de forma atómica.
+ */
+public final class MenuCatalog {
+
+    public static final String VERSION_HEADER = "X-Catalog-Version";
+
+    private static final Map<String, Comparator<CatalogProduct>> PRODUCT_SORTS = Map.of(
+            "id", Comparator.comparing(CatalogProduct::id),
+            "name", Comparator.comparing(CatalogProduct::name, String.CASE_INSENSITIVE_ORDER),
+            "price", Comparator.comparing(CatalogProduct::price),
+            "isActive", Comparator.comparing(CatalogProduct::active),
+            "description", Comparator.comparing(CatalogProduct::description, String.CASE_INSENSITIVE_ORDER),
+            "createdAt", Comparator.comparing(CatalogProduct::createdAt),
+            "updatedAt", Comparator.comparing(CatalogProduct::updatedAt),
+            "category.id", Comparator.comparing(CatalogProduct::categoryId)
+    );
+
+    private static final Map<String, Comparator<CatalogCategory>> CATEGORY_SORTS = Map.of(
+            "id", Comparator.comparing(CatalogCategory::id),
+            "name", Comparator.comparing(CatalogCategory::name, String.CASE_INSENSITIVE_ORDER),
+            "description", Comparator.comparing(CatalogCategory::description, String.CASE_INSENSITIVE_ORDER),
+            "isActive", Comparator.comparing(CatalogCategory::active)
+    );
+
+    private final long version;
+    private final Map<Long, CatalogCategory> categoriesById;
+    private final Map<String, CatalogCategory> categoriesByName;
+    private final Map<Long, CatalogProduct> productsById;
+    private final List<CatalogCategory> categories;
+    private final List<CatalogProduct> products;
+    private final ProductSearchIndex searchIndex;
+
+    public MenuCatalog(long version, Collection<CatalogCategory> categories, Collection<CatalogProduct> products) {
+        this.version = version;
+        this.categories = categories.stream().sorted(Comparator.comparing(CatalogCategory::id)).toList();
+        this.products = products.stream().sorted(Comparator.comparing(CatalogProduct::id)).toList();
+
+        Map<Long, CatalogCategory> byId = new HashMap<>();
+        Map<String, CatalogCategory> byName = new HashMap<>();
+        for (CatalogCategory category : this.categories) {
+            byId.put(category.id(), category);
+            byName.put(category.name(), category);
+        }
+        Map<Long, CatalogProduct> productIndex = new HashMap<>();
+        for (CatalogProduct product : this.products) {
+            productIndex.put(product.id(), product);
+        }
+
+        this.categoriesById = Map.copyOf(byId);
+        this.categoriesByName = Map.copyOf(byName);
+        this.productsById = Map.copyOf(productIndex);
+        this.searchIndex = new ProductSearchIndex(this.products);
+    }
+
+    public static MenuCatalog empty() {
+        return new MenuCatalog(0L, List.of(), List.of());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Optional<CatalogProduct> findProduct(Long productId) {
+        return Optional.ofNullable(productsById.get(productId));
+    }
+
+    public Optional<CatalogCategory> findCategory(Long categoryId) {
+        return Optional.ofNullable(categoriesById.get(categoryId));
+    }
+
+    public Optional<CatalogCategory> findCategoryByName(String name) {
+        return Optional.ofNullable(categoriesByName.get(name));
+    }
+
+    public List<CatalogProduct> getProducts() {
+        return products;
+    }
+
+    public List<CatalogCategory> getCategories() {
+        return categories;
+    }
+
+    public ProductSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public Page<CatalogProduct> findProducts(Predicate<CatalogProduct> filter, Pageable pageable) {
+        return page(products, filter, pageable, PRODUCT_SORTS);
+    }
+
+    public Page<CatalogCategory> findCategories(Predicate<CatalogCategory> filter, Pageable pageable) {
+        return page(categories, filter, pageable, CATEGORY_SORTS);
+    }
+
+    /**
+     * Coincidencia parcial sin distinguir mayúsculas ni acentos ("cafe" encuentra "Café")
+     */
+    public static <T> Predicate<T> containsIgnoreCase(Function<T, String> field, String text) {
+        String needle = ProductSearchIndex.fold(text);
+        return item -> ProductSearchIndex.fold(field.apply(item)).contains(needle);
+    }
+
+    private static <T> Page<T> page(List<T> source, Predicate<T> filter, Pageable pageable,
+                                    Map<String, Comparator<T>> sorts) {
+        List<T> matches = source.stream().filter(filter).toList();
+
+        Comparator<T> comparator = comparatorFor(pageable.getSort(), sorts);
+        if (comparator != null) {
+            matches = matches.stream().sorted(comparator).toList();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    private static <T> Comparator<T> comparatorFor(Sort sort, Map<String, Comparator<T>> sorts) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<T> next = sorts.get(order.getProperty());
+            if (next == null) {
+                throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * Categoría del snapshot
+     */
+    public record CatalogCategory(
+            Long id,
+            String name,
+            String description,
+            boolean active
+    ) {}
+
+    /**
+     * Producto del snapshot
+     */
+    public record CatalogProduct(
+            Long id,
+            Long categoryId,
+            String name,
+            BigDecimal price,
+            boolean active,
+            String description,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {}
+}
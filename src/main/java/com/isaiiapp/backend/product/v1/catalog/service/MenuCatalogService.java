@@ -0,0 +1,17 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+/**
+ * Catálogo del menú en memoria con copia en escritura: lecturas sin consultas y versionadas
+ */
+public interface MenuCatalogService {
+
+    /**
+     * Obtener el snapshot vigente (inmutable; capturarlo una vez por operación)
+     */
+    MenuCatalog getCatalog();
+
+    /**
+     * Reconstruir el snapshot desde la base de datos y reemplazarlo de forma atómica
+     */
+    void rebuild();
+}
@@ -0,0 +1,95 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+import com.isaiiapp.backend.product.v1.catalog.event.MenuCatalogRebuiltEvent;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+import com.isaiiapp.backend.product.v1.category.event.CategoryChangedEvent;
+import com.isaiiapp.backend.product.v1.category.repository.CategoryRepository;
+import com.isaiiapp.backend.product.v1.product.event.ProductCatalogChangedEvent;
+import com.isaiiapp.backend.product.v1.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCatalogServiceImpl implements MenuCatalogService {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Se reemplaza completo en cada reconstrucción; los lectores nunca ven un catálogo a medio llenar
+    private volatile MenuCatalog catalog = MenuCatalog.empty();
+
+    @Override
+    public MenuCatalog getCatalog() {
+        return catalog;
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        List<CatalogCategory> categories = categoryRepository.findAll().stream()
+                .map(category -> new CatalogCategory(
+                        category.getId(),
+                        category.getName(),
+                        category.getDescription(),
+                        Boolean.TRUE.equals(category.getIsActive())
+                ))
+                .toList();
+
+        List<CatalogProduct> products = new ArrayList<>();
+        for (Object[] row : productRepository.findCatalogRows()) {
+            products.add(new CatalogProduct(
+                    (Long) row[0],
+                    (Long) row[1],
+                    (String) row[2],
+                    (BigDecimal) row[3],
+                    Boolean.TRUE.equals(row[4]),
+                    (String) row[5],
+                    (LocalDateTime) row[6],
+                    (LocalDateTime) row[7]
+            ));
+        }
+
+        // Versión basada en el reloj para que siga creciendo entre reinicios
+        long version = Math.max(catalog.getVersion() + 1, System.currentTimeMillis());
+        catalog = new MenuCatalog(version, categories, products);
+        log.debug("Menu catalog rebuilt with version {}: {} categories, {} products",
+                version, categories.size(), products.size());
+
+        // Dentro del lock: los oyentes reciben los catálogos en orden de versión, por eso solo
+        // calculan su estado; cualquier envío a clientes lo hacen fuera del lock
+        eventPublisher.publishEvent(new MenuCatalogRebuiltEvent(catalog));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        log.info("Menu catalog loaded with version {}: {} categories, {} products", catalog.getVersion(),
+                catalog.getCategories().size(), catalog.getProducts().size());
+    }
+
+    // Solo después del commit, para no publicar cambios que luego se revierten
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductCatalogChangedEvent event) {
+        log.debug("Product catalog changed for product ID: {}, rebuilding menu catalog", event.productId());
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.debug("Category changed for category ID: {}, rebuilding menu catalog", event.categoryId());
+        rebuild();
+    }
+}
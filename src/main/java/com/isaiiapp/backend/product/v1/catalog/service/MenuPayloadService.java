@@ -0,0 +1,53 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Menú activo completo serializado una vez por versión del catálogo (JSON y JSON comprimido con gzip)
+ */
+public interface MenuPayloadService {
+
+    /**
+     * Obtener el payload del menú para la versión vigente del catálogo
+     */
+    MenuPayload getPayload();
+
+    /**
+     * Bytes listos para enviar; nunca se modifican después de construirse
+     */
+    record MenuPayload(
+            long version,
+            String etag,
+            byte[] json,
+            byte[] gzip
+    ) {}
+
+    /**
+     * DTO del menú activo agrupado por categoría
+     */
+    record MenuResponse(
+            long version,
+            List<MenuCategoryResponse> categories
+    ) {}
+
+    /**
+     * DTO de categoría del menú con sus productos activos
+     */
+    record MenuCategoryResponse(
+            Long id,
+            String name,
+            String description,
+            List<MenuProductResponse> products
+    ) {}
+
+    /**
+     * DTO de producto del menú
+     */
+    record MenuProductResponse(
+            Long id,
+            String name,
+            String description,
+            BigDecimal price
+    ) {}
+}
@@ -0,0 +1,94 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MenuPayloadServiceImpl implements MenuPayloadService {
+
+    private final MenuCatalogService menuCatalogService;
+    private final ObjectMapper objectMapper;
+
+    // Payload de la última versión servida; se reconstruye solo cuando cambia la versión del catálogo
+    private volatile MenuPayload payload;
+
+    @Override
+    public MenuPayload getPayload() {
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        MenuPayload current = payload;
+        if (current != null && current.version() >= catalog.getVersion()) {
+            return current;
+        }
+
+        synchronized (this) {
+            // Releer el catálogo dentro del lock: un hilo con una lectura vieja no reemplaza un payload más nuevo
+            catalog = menuCatalogService.getCatalog();
+            current = payload;
+            if (current == null || catalog.getVersion() > current.version()) {
+                current = build(catalog);
+                payload = current;
+            }
+            return current;
+        }
+    }
+
+    private MenuPayload build(MenuCatalog catalog) {
+        Map<Long, List<MenuProductResponse>> productsByCategory = new LinkedHashMap<>();
+        catalog.getProducts().stream()
+                .filter(CatalogProduct::active)
+                .sorted(Comparator.comparing(CatalogProduct::name, String.CASE_INSENSITIVE_ORDER))
+                .forEach(product -> productsByCategory
+                        .computeIfAbsent(product.categoryId(), id -> new ArrayList<>())
+                        .add(new MenuProductResponse(product.id(), product.name(), product.description(), product.price())));
+
+        // Solo categorías activas con al menos un producto activo
+        List<MenuCategoryResponse> categories = catalog.getCategories().stream()
+                .filter(CatalogCategory::active)
+                .filter(category -> productsByCategory.containsKey(category.id()))
+                .sorted(Comparator.comparing(CatalogCategory::name, String.CASE_INSENSITIVE_ORDER))
+                .map(category -> new MenuCategoryResponse(
+                        category.id(),
+                        category.name(),
+                        category.description(),
+                        List.copyOf(productsByCategory.get(category.id()))
+                ))
+                .toList();
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new MenuResponse(catalog.getVersion(), categories));
+            byte[] gzip = gzip(json);
+            log.debug("Menu payload built for catalog version {}: {} categories, {} bytes ({} gzipped)",
+                    catalog.getVersion(), categories.size(), json.length, gzip.length);
+            return new MenuPayload(catalog.getVersion(), "\"menu-" + catalog.getVersion() + "\"", json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize menu for catalog version: " + catalog.getVersion(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
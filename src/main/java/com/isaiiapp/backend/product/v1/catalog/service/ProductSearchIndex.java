@@ -0,0 +1,207 @@
+package com.isaiiapp.backend.product.v1.catalog.service;
+
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Índice inmutable de búsqueda incremental sobre nombres y descripciones de productos.
+ * El texto se normaliza sin acentos ni mayúsculas ("Tiramisú" → "tiramisu"); un índice invertido
+ * de trigramas acota los candidatos y el ranking tolera errores de tipeo con distancia de edición
+ * contra prefijos de cada palabra.
+ */
+public final class ProductSearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final double NAME_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final double NAME_PREFIX_BONUS = 0.5;
+
+    private final List<CatalogProduct> products;
+    private final String[] foldedNames;
+    private final String[][] nameTokens;
+    private final String[][] descriptionTokens;
+    private final Map<String, int[]> postings;
+
+    public ProductSearchIndex(List<CatalogProduct> products) {
+        this.products = products;
+        this.foldedNames = new String[products.size()];
+        this.nameTokens = new String[products.size()][];
+        this.descriptionTokens = new String[products.size()][];
+
+        Map<String, List<Integer>> index = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            CatalogProduct product = products.get(i);
+            foldedNames[i] = fold(product.name());
+            nameTokens[i] = tokenize(foldedNames[i]);
+            descriptionTokens[i] = tokenize(fold(product.description()));
+
+            Set<String> grams = new LinkedHashSet<>();
+            for (String token : nameTokens[i]) {
+                addTrigrams(token, grams);
+            }
+            for (String token : descriptionTokens[i]) {
+                addTrigrams(token, grams);
+            }
+            for (String gram : grams) {
+                index.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> compact = new HashMap<>(index.size() * 2);
+        index.forEach((gram, ids) -> compact.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        this.postings = Map.copyOf(compact);
+    }
+
+    /**
+     * Normalizar texto para comparar: sin acentos, en minúsculas y con separadores simples
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutMarks = MARKS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Buscar productos que coinciden con todas las palabras de la consulta (la última puede estar incompleta)
+     */
+    public List<Match> search(String query, int limit, boolean activeOnly) {
+        String foldedQuery = fold(query);
+        String[] queryTokens = tokenize(foldedQuery);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // Candidatos: productos que comparten al menos un trigrama con alguna palabra de la consulta
+        boolean[] candidate = new boolean[products.size()];
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : queryTokens) {
+            addTrigrams(token, grams);
+        }
+        for (String gram : grams) {
+            int[] ids = postings.get(gram);
+            if (ids != null) {
+                for (int id : ids) {
+                    candidate[id] = true;
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < candidate.length; i++) {
+            if (!candidate[i] || (activeOnly && !products.get(i).active())) {
+                continue;
+            }
+            double score = score(i, foldedQuery, queryTokens);
+            if (score > 0) {
+                matches.add(new Match(products.get(i), score));
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(match -> match.product().name(), String.CASE_INSENSITIVE_ORDER));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    private double score(int productIndex, String foldedQuery, String[] queryTokens) {
+        double total = 0;
+        for (String queryToken : queryTokens) {
+            double best = Math.max(
+                    NAME_WEIGHT * bestTokenScore(queryToken, nameTokens[productIndex]),
+                    DESCRIPTION_WEIGHT * bestTokenScore(queryToken, descriptionTokens[productIndex]));
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        if (foldedNames[productIndex].startsWith(foldedQuery)) {
+            total += NAME_PREFIX_BONUS;
+        }
+        return total / queryTokens.length;
+    }
+
+    private static double bestTokenScore(String queryToken, String[] tokens) {
+        int maxTypos = maxTypos(queryToken.length());
+        double best = 0;
+        for (String token : tokens) {
+            if (token.startsWith(queryToken)) {
+                return 1.0;
+            }
+            if (maxTypos > 0) {
+                int distance = prefixEditDistance(queryToken, token, maxTypos);
+                if (distance <= maxTypos) {
+                    best = Math.max(best, 0.8 - 0.2 * distance);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int maxTypos(int length) {
+        if (length < 4) {
+            return 0;
+        }
+        return length < 8 ? 1 : 2;
+    }
+
+    /**
+     * Distancia de edición entre la consulta y el prefijo de la palabra que mejor le corresponde
+     * (permite que la palabra esté incompleta); corta en cuanto supera el máximo
+     */
+    private static int prefixEditDistance(String query, String token, int max) {
+        int[] previous = new int[token.length() + 1];
+        int[] current = new int[token.length() + 1];
+        for (int j = 0; j <= token.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= token.length(); j++) {
+                int cost = query.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Arrays.stream(previous).min().orElse(max + 1);
+    }
+
+    // Trigramas con relleno inicial: "caf" → "  c", " ca", "caf" (sirven para prefijos incompletos)
+    private static void addTrigrams(String token, Set<String> grams) {
+        String padded = "  " + token;
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+    }
+
+    private static String[] tokenize(String folded) {
+        return folded.isEmpty() ? new String[0] : folded.split(" ");
+    }
+
+    /**
+     * Producto encontrado con su puntaje (mayor es mejor)
+     */
+    public record Match(CatalogProduct product, double score) {
+    }
+}
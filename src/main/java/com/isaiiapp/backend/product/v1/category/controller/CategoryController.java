@@ -1,5 +1,7 @@
 package com.isaiiapp.backend.product.v1.category.controller;
 
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
 import com.isaiiapp.backend.product.v1.category.dto.request.CreateCategoryRequest;
 import com.isaiiapp.backend.product.v1.category.dto.request.UpdateCategoryRequest;
 import com.isaiiapp.backend.product.v1.category.dto.response.CategoryResponse;
@@ -14,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/v1/categories")
@@ -22,6 +25,7 @@ import java.util.Optional;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final MenuCatalogService menuCatalogService;
 
     @PostMapping
     @PreAuthorize("hasAuthority('CREATE_CATEGORY')")
@@ -33,16 +37,22 @@ public class CategoryController {
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
+        long version = menuCatalogService.getCatalog().getVersion();
         Optional<CategoryResponse> response = categoryService.getCategoryById(id);
-        return response.map(category -> ResponseEntity.ok(category))
+        return response.map(category -> ResponseEntity.ok()
+                        .header(MenuCatalog.VERSION_HEADER, String.valueOf(version))
+                        .body(category))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/name/{name}")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<CategoryResponse> getCategoryByName(@PathVariable String name) {
+        long version = menuCatalogService.getCatalog().getVersion();
         Optional<CategoryResponse> response = categoryService.getCategoryByName(name);
-        return response.map(category -> ResponseEntity.ok(category))
+        return response.map(category -> ResponseEntity.ok()
+                        .header(MenuCatalog.VERSION_HEADER, String.valueOf(version))
+                        .body(category))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -64,38 +74,33 @@ public class CategoryController {
     @GetMapping
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Page<CategoryResponse>> getAllCategories(Pageable pageable) {
-        Page<CategoryResponse> response = categoryService.getAllCategories(pageable);
-        return ResponseEntity.ok(response);
+        return versioned(() -> categoryService.getAllCategories(pageable));
     }
 
     @GetMapping("/active")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Page<CategoryResponse>> getActiveCategories(Pageable pageable) {
-        Page<CategoryResponse> response = categoryService.getActiveCategories(pageable);
-        return ResponseEntity.ok(response);
+        return versioned(() -> categoryService.getActiveCategories(pageable));
     }
 
     @GetMapping("/inactive")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Page<CategoryResponse>> getInactiveCategories(Pageable pageable) {
-        Page<CategoryResponse> response = categoryService.getInactiveCategories(pageable);
-        return ResponseEntity.ok(response);
+        return versioned(() -> categoryService.getInactiveCategories(pageable));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Page<CategoryResponse>> searchCategoriesByName(@RequestParam String name,
                                                                          Pageable pageable) {
-        Page<CategoryResponse> response = categoryService.searchCategoriesByName(name, pageable);
-        return ResponseEntity.ok(response);
+        return versioned(() -> categoryService.searchCategoriesByName(name, pageable));
     }
 
     @GetMapping("/search/description")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Page<CategoryResponse>> searchCategoriesByDescription(@RequestParam String description,
                                                                                 Pageable pageable) {
-        Page<CategoryResponse> response = categoryService.searchCategoriesByDescription(description, pageable);
-        return ResponseEntity.ok(response);
+        return versioned(() -> categoryService.searchCategoriesByDescription(description, pageable));
     }
 
     @PatchMapping("/{id}/toggle")
@@ -108,21 +113,26 @@ public class CategoryController {
     @GetMapping("/check-availability/{name}")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Boolean> isCategoryNameAvailable(@PathVariable String name) {
-        boolean available = categoryService.isCategoryNameAvailable(name);
-        return ResponseEntity.ok(available);
+        return versioned(() -> categoryService.isCategoryNameAvailable(name));
     }
 
     @GetMapping("/exists/{id}")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<Boolean> existsById(@PathVariable Long id) {
-        boolean exists = categoryService.existsById(id);
-        return ResponseEntity.ok(exists);
+        return versioned(() -> categoryService.existsById(id));
     }
 
     @GetMapping("/statistics")
     @PreAuthorize("hasAuthority('READ_CATEGORY')")
     public ResponseEntity<CategoryService.CategoryStatsResponse> getCategoryStats() {
-        CategoryService.CategoryStatsResponse stats = categoryService.getCategoryStats();
-        return ResponseEntity.ok(stats);
+        return versioned(categoryService::getCategoryStats);
+    }
+
+    // La versión se lee antes de consultar: nunca es mayor que la de los datos devueltos
+    private <T> ResponseEntity<T> versioned(Supplier<T> body) {
+        long version = menuCatalogService.getCatalog().getVersion();
+        return ResponseEntity.ok()
+                .header(MenuCatalog.VERSION_HEADER, String.valueOf(version))
+                .body(body.get());
     }
 }
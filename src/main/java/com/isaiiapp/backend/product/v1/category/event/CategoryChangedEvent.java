@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.product.v1.category.event;
+
+/**
+ * Evento publicado cuando se crea, modifica, activa/desactiva o elimina una categoría
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -1,5 +1,6 @@
 package com.isaiiapp.backend.product.v1.category.mapper;
 
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
 import com.isaiiapp.backend.product.v1.category.dto.request.CreateCategoryRequest;
 import com.isaiiapp.backend.product.v1.category.dto.response.CategoryResponse;
 import com.isaiiapp.backend.product.v1.category.model.Category;
@@ -30,4 +31,16 @@ public class CategoryMapper {
         response.setIsActive(category.getIsActive());
         return response;
     }
+
+    /**
+     * Convertir categoría del catálogo en memoria a CategoryResponse
+     */
+    public CategoryResponse toResponse(CatalogCategory category) {
+        CategoryResponse response = new CategoryResponse();
+        response.setId(category.id());
+        response.setName(category.name());
+        response.setDescription(category.description());
+        response.setIsActive(category.active());
+        return response;
+    }
 }
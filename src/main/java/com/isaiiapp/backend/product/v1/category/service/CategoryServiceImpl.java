@@ -2,19 +2,26 @@ package com.isaiiapp.backend.product.v1.category.service;
 
 import com.isaiiapp.backend.auth.v1.exception.DuplicateResourceException;
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
 import com.isaiiapp.backend.product.v1.category.dto.request.CreateCategoryRequest;
 import com.isaiiapp.backend.product.v1.category.dto.request.UpdateCategoryRequest;
 import com.isaiiapp.backend.product.v1.category.dto.response.CategoryResponse;
+import com.isaiiapp.backend.product.v1.category.event.CategoryChangedEvent;
 import com.isaiiapp.backend.product.v1.category.mapper.CategoryMapper;
 import com.isaiiapp.backend.product.v1.category.model.Category;
 import com.isaiiapp.backend.product.v1.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -25,6 +32,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final MenuCatalogService menuCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryResponse createCategory(CreateCategoryRequest request) {
@@ -37,22 +46,23 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category category = categoryMapper.toEntity(request);
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
 
         log.info("Category created successfully with ID: {}", savedCategory.getId());
         return categoryMapper.toResponse(savedCategory);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<CategoryResponse> getCategoryById(Long id) {
-        return categoryRepository.findById(id)
+        return menuCatalogService.getCatalog().findCategory(id)
                 .map(categoryMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<CategoryResponse> getCategoryByName(String name) {
-        return categoryRepository.findByName(name)
+        return menuCatalogService.getCatalog().findCategoryByName(name)
                 .map(categoryMapper::toResponse);
     }
 
@@ -80,6 +90,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         log.info("Category updated successfully with ID: {}", id);
         return categoryMapper.toResponse(updatedCategory);
     }
@@ -93,41 +104,44 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         log.info("Category deleted successfully with ID: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<CategoryResponse> getAllCategories(Pageable pageable) {
-        return categoryRepository.findAll(pageable)
+        return menuCatalogService.getCatalog().findCategories(category -> true, pageable)
                 .map(categoryMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<CategoryResponse> getActiveCategories(Pageable pageable) {
-        return categoryRepository.findAllActive(pageable)
+        return menuCatalogService.getCatalog().findCategories(CatalogCategory::active, pageable)
                 .map(categoryMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<CategoryResponse> getInactiveCategories(Pageable pageable) {
-        return categoryRepository.findAllInactive(pageable)
+        return menuCatalogService.getCatalog().findCategories(category -> !category.active(), pageable)
                 .map(categoryMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<CategoryResponse> searchCategoriesByName(String name, Pageable pageable) {
-        return categoryRepository.findByNameContaining(name, pageable)
+        return menuCatalogService.getCatalog()
+                .findCategories(MenuCatalog.containsIgnoreCase(CatalogCategory::name, name), pageable)
                 .map(categoryMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<CategoryResponse> searchCategoriesByDescription(String description, Pageable pageable) {
-        return categoryRepository.findByDescriptionContaining(description, pageable)
+        return menuCatalogService.getCatalog()
+                .findCategories(MenuCatalog.containsIgnoreCase(CatalogCategory::description, description), pageable)
                 .map(categoryMapper::toResponse);
     }
 
@@ -140,29 +154,33 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setIsActive(isActive);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         log.info("Category status toggled successfully for ID: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isCategoryNameAvailable(String name) {
-        return !categoryRepository.existsByName(name);
+        return menuCatalogService.getCatalog().findCategoryByName(name).isEmpty();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean existsById(Long id) {
-        return categoryRepository.existsById(id);
+        return menuCatalogService.getCatalog().findCategory(id).isPresent();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CategoryStatsResponse getCategoryStats() {
-        Long totalCategories = categoryRepository.count();
-        Long activeCategories = categoryRepository.countActiveCategories();
-        Long inactiveCategories = categoryRepository.countInactiveCategories();
-
-        return new CategoryStatsResponse(totalCategories, activeCategories, inactiveCategories);
+        List<CatalogCategory> categories = menuCatalogService.getCatalog().getCategories();
+        long activeCategories = categories.stream().filter(CatalogCategory::active).count();
+
+        return new CategoryStatsResponse(
+                (long) categories.size(),
+                activeCategories,
+                categories.size() - activeCategories
+        );
     }
 }
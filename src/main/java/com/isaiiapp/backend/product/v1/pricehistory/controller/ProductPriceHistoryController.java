@@ -0,0 +1,64 @@
+package com.isaiiapp.backend.product.v1.pricehistory.controller;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService.PriceHistoryResponse;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService.ProductPriceAtResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/product/product")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ProductPriceHistoryController {
+
+    private final ProductPriceHistoryService productPriceHistoryService;
+
+    /**
+     * Obtener el historial de precios de un producto con sus vigencias
+     * Solo administradores pueden ver reportes de precios
+     */
+    @GetMapping("/{id}/price-history")
+    public ResponseEntity<List<PriceHistoryResponse>> getPriceHistory(@PathVariable Long id) {
+        log.debug("REST request to get price history for product: {}", id);
+
+        return ResponseEntity.ok(productPriceHistoryService.getPriceHistory(id));
+    }
+
+    /**
+     * Obtener el precio de un producto en una fecha dada
+     * Accesible para todos los usuarios autenticados
+     */
+    @GetMapping("/{id}/price-at")
+    public ResponseEntity<Map<String, BigDecimal>> getPriceAt(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.debug("REST request to get price of product: {} at: {}", id, at);
+
+        BigDecimal price = productPriceHistoryService.findPriceAt(id, at)
+                .orElseThrow(() -> new ResourceNotFoundException("Product price", "productId", id));
+        return ResponseEntity.ok(Map.of("price", price));
+    }
+
+    /**
+     * Obtener los precios de todos los productos en una fecha dada
+     * Solo administradores pueden ver reportes de precios
+     */
+    @GetMapping("/prices-at")
+    public ResponseEntity<List<ProductPriceAtResponse>> getPricesAt(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.debug("REST request to get product prices at: {}", at);
+
+        return ResponseEntity.ok(productPriceHistoryService.getPricesAt(at));
+    }
+}
@@ -0,0 +1,55 @@
+package com.isaiiapp.backend.product.v1.pricehistory.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Precio de un producto vigente en [validFrom, validTo); validTo nulo = precio actual.
+ * Sin FK a product: el historial se conserva aunque el producto se elimine.
+ */
+@Entity
+@Table(schema = "product", name = "product_price_history",
+        indexes = {
+                @Index(columnList = "product_id, valid_from", name = "product_price_history_product_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ProductPriceHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_price_history_seq_gen")
+    @SequenceGenerator(name = "product_price_history_seq_gen", schema = "product", sequenceName = "product_price_history_id_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull(message = "Product should not be null")
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @NotNull(message = "Price should not be null")
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @NotNull(message = "Valid from should not be null")
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to")
+    private LocalDateTime validTo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.isaiiapp.backend.product.v1.pricehistory.repository;
+
+import com.isaiiapp.backend.product.v1.pricehistory.model.ProductPriceHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductPriceHistoryRepository extends JpaRepository<ProductPriceHistory, Long> {
+
+    @Query("SELECT h FROM ProductPriceHistory h WHERE h.productId = :productId ORDER BY h.validFrom")
+    List<ProductPriceHistory> findByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT h FROM ProductPriceHistory h WHERE h.productId IN :productIds AND h.validTo IS NULL")
+    List<ProductPriceHistory> findOpenByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // Productos sin ningún precio registrado (creados antes de existir el historial)
+    @Query("SELECT p.id, p.price, p.createdAt FROM Product p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM ProductPriceHistory h WHERE h.productId = p.id)")
+    List<Object[]> findProductsWithoutHistory();
+}
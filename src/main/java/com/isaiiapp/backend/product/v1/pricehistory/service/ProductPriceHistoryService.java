@@ -0,0 +1,68 @@
+package com.isaiiapp.backend.product.v1.pricehistory.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Historial de precios con vigencia; las consultas puntuales se resuelven en memoria en O(log n)
+ */
+public interface ProductPriceHistoryService {
+
+    /**
+     * Registrar el precio vigente desde ahora (cierra el anterior si cambió)
+     */
+    void recordPrice(Long productId, BigDecimal price);
+
+    /**
+     * Registrar precios de varios productos con una sola consulta (importaciones)
+     */
+    void recordPrices(Map<Long, BigDecimal> prices);
+
+    /**
+     * Cerrar el precio vigente de un producto eliminado
+     */
+    void closePrice(Long productId);
+
+    /**
+     * Precio de un producto en un instante dado
+     */
+    Optional<BigDecimal> findPriceAt(Long productId, LocalDateTime at);
+
+    /**
+     * Historial completo de precios de un producto
+     */
+    List<PriceHistoryResponse> getPriceHistory(Long productId);
+
+    /**
+     * Precios de todos los productos en un instante dado (lo que costaba el menú en esa fecha)
+     */
+    List<ProductPriceAtResponse> getPricesAt(LocalDateTime at);
+
+    /**
+     * Recargar el índice en memoria desde la base de datos
+     */
+    void reload();
+
+    /**
+     * DTO de un tramo del historial (validTo nulo = precio actual)
+     */
+    record PriceHistoryResponse(
+            Long productId,
+            BigDecimal price,
+            LocalDateTime validFrom,
+            LocalDateTime validTo
+    ) {}
+
+    /**
+     * DTO de precio de un producto en un instante dado
+     */
+    record ProductPriceAtResponse(
+            Long productId,
+            String productName,
+            BigDecimal price,
+            LocalDateTime validFrom
+    ) {}
+}
@@ -0,0 +1,202 @@
+package com.isaiiapp.backend.product.v1.pricehistory.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
+import com.isaiiapp.backend.product.v1.pricehistory.model.ProductPriceHistory;
+import com.isaiiapp.backend.product.v1.pricehistory.repository.ProductPriceHistoryRepository;
+import com.isaiiapp.backend.product.v1.product.event.ProductCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductPriceHistoryServiceImpl implements ProductPriceHistoryService {
+
+    private final ProductPriceHistoryRepository priceHistoryRepository;
+    private final MenuCatalogService menuCatalogService;
+
+    // Por producto: inicio de vigencia → tramo. Cada mapa es inmutable y se reemplaza completo al recargar
+    private final ConcurrentHashMap<Long, NavigableMap<LocalDateTime, PriceRange>> index = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordPrice(Long productId, BigDecimal price) {
+        recordPrices(Map.of(productId, price));
+    }
+
+    @Override
+    public void recordPrices(Map<Long, BigDecimal> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Long, ProductPriceHistory> open = priceHistoryRepository.findOpenByProductIds(prices.keySet()).stream()
+                .collect(Collectors.toMap(ProductPriceHistory::getProductId, Function.identity(), (a, b) -> b));
+
+        List<ProductPriceHistory> changes = new ArrayList<>(prices.size());
+        prices.forEach((productId, price) -> {
+            ProductPriceHistory current = open.get(productId);
+            if (current != null) {
+                if (current.getPrice().compareTo(price) == 0) {
+                    return;
+                }
+                current.setValidTo(now);
+            }
+            changes.add(new ProductPriceHistory(null, productId, price, now, null, null));
+        });
+
+        // Cerrar los tramos antes de insertar los nuevos: Hibernate ejecuta los inserts antes que los updates
+        // y el índice único de tramo vigente (product_price_history_open_idx) rechazaría dos abiertos
+        priceHistoryRepository.flush();
+        priceHistoryRepository.saveAll(changes);
+        log.debug("Recorded {} price changes", changes.size());
+    }
+
+    @Override
+    public void closePrice(Long productId) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        priceHistoryRepository.findOpenByProductIds(List.of(productId))
+                .forEach(current -> current.setValidTo(now));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<BigDecimal> findPriceAt(Long productId, LocalDateTime at) {
+        NavigableMap<LocalDateTime, PriceRange> ranges = index.get(productId);
+        if (ranges == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDateTime, PriceRange> entry = ranges.floorEntry(at);
+        if (entry == null || !entry.getValue().covers(at)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue().price());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<PriceHistoryResponse> getPriceHistory(Long productId) {
+        log.debug("Fetching price history for product ID: {}", productId);
+
+        NavigableMap<LocalDateTime, PriceRange> ranges = index.get(productId);
+        if (ranges == null) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return ranges.entrySet().stream()
+                .map(entry -> new PriceHistoryResponse(
+                        productId,
+                        entry.getValue().price(),
+                        entry.getKey(),
+                        entry.getValue().validTo()
+                ))
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductPriceAtResponse> getPricesAt(LocalDateTime at) {
+        log.debug("Fetching product prices at: {}", at);
+
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        List<ProductPriceAtResponse> prices = new ArrayList<>();
+        index.forEach((productId, ranges) -> {
+            Map.Entry<LocalDateTime, PriceRange> entry = ranges.floorEntry(at);
+            if (entry != null && entry.getValue().covers(at)) {
+                prices.add(new ProductPriceAtResponse(
+                        productId,
+                        catalog.findProduct(productId).map(CatalogProduct::name).orElse(null),
+                        entry.getValue().price(),
+                        entry.getKey()
+                ));
+            }
+        });
+        prices.sort((a, b) -> a.productId().compareTo(b.productId()));
+        return prices;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        Map<Long, TreeMap<LocalDateTime, PriceRange>> loaded = new HashMap<>();
+        for (ProductPriceHistory row : priceHistoryRepository.findAll()) {
+            loaded.computeIfAbsent(row.getProductId(), id -> new TreeMap<>())
+                    .put(row.getValidFrom(), new PriceRange(row.getPrice(), row.getValidTo()));
+        }
+
+        index.keySet().retainAll(loaded.keySet());
+        loaded.forEach((productId, ranges) -> index.put(productId, Collections.unmodifiableNavigableMap(ranges)));
+        log.debug("Price history index loaded for {} products", loaded.size());
+    }
+
+    /**
+     * Registrar el precio actual de los productos sin historial y cargar el índice
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<ProductPriceHistory> seeds = new ArrayList<>();
+        for (Object[] row : priceHistoryRepository.findProductsWithoutHistory()) {
+            seeds.add(new ProductPriceHistory(null, (Long) row[0], (BigDecimal) row[1], (LocalDateTime) row[2], null, null));
+        }
+        priceHistoryRepository.saveAll(seeds);
+
+        reload();
+        log.info("Price history index loaded for {} products ({} seeded from current prices)", index.size(), seeds.size());
+    }
+
+    // Solo después del commit, para no indexar precios que luego se revierten. Serializado con reload:
+    // cada lectura empieza después del reemplazo anterior, así un hilo con filas viejas no pisa uno más nuevo
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onCatalogChanged(ProductCatalogChangedEvent event) {
+        if (event.productId() == null) {
+            reload();
+            return;
+        }
+
+        List<ProductPriceHistory> rows = priceHistoryRepository.findByProductId(event.productId());
+        if (rows.isEmpty()) {
+            index.remove(event.productId());
+            return;
+        }
+        TreeMap<LocalDateTime, PriceRange> ranges = new TreeMap<>();
+        for (ProductPriceHistory row : rows) {
+            ranges.put(row.getValidFrom(), new PriceRange(row.getPrice(), row.getValidTo()));
+        }
+        index.put(event.productId(), Collections.unmodifiableNavigableMap(ranges));
+    }
+
+    /**
+     * Tramo de vigencia de un precio (validTo exclusivo; nulo = vigente)
+     */
+    private record PriceRange(BigDecimal price, LocalDateTime validTo) {
+
+        boolean covers(LocalDateTime at) {
+            return validTo == null || at.isBefore(validTo);
+        }
+    }
+}
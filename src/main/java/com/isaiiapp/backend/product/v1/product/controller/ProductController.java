@@ -1,10 +1,13 @@
 package com.isaiiapp.backend.product.v1.product.controller;
 
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
 import com.isaiiapp.backend.product.v1.product.dto.request.CreateProductRequest;
 import com.isaiiapp.backend.product.v1.product.dto.request.UpdateProductRequest;
 import com.isaiiapp.backend.product.v1.product.dto.response.ProductResponse;
 import com.isaiiapp.backend.product.v1.product.service.ProductService;
+import com.isaiiapp.backend.product.v1.productimport.service.ProductImportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,13 +18,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/v1/product/product")
@@ -31,6 +36,8 @@ import java.util.Optional;
 public class ProductController {
 
     private final ProductService productService;
+    private final MenuCatalogService menuCatalogService;
+    private final ProductImportService productImportService;
 
     /**
      * Crear nuevo producto
@@ -44,6 +51,20 @@ public class ProductController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Importar productos en streaming (CSV o NDJSON): crea o actualiza cada fila y devuelve un reporte por fila
+     * Solo administradores con permisos de crear y actualizar productos
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ProductImportService.ProductImportResponse> importProducts(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) throws IOException {
+        log.info("REST request to import products as {}", format);
+
+        ProductImportService.ImportFormat importFormat = ProductImportService.ImportFormat.fromValue(format);
+        return ResponseEntity.ok(productImportService.importProducts(body, importFormat));
+    }
+
     /**
      * Obtener producto por ID
      * Accesible para todos los usuarios autenticados
@@ -52,10 +73,8 @@ public class ProductController {
     public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
         log.debug("REST request to get product by ID: {}", id);
 
-        ProductResponse response = productService.getProductById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
-
-        return ResponseEntity.ok(response);
+        return versioned(() -> productService.getProductById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id)));
     }
 
     /**
@@ -102,9 +121,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getAllProducts(pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getAllProducts(pageable));
     }
 
     /**
@@ -124,9 +141,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getActiveProducts(pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getActiveProducts(pageable));
     }
 
     /**
@@ -146,9 +161,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getInactiveProducts(pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getInactiveProducts(pageable));
     }
 
     /**
@@ -169,9 +182,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getProductsByCategory(categoryId, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getProductsByCategory(categoryId, pageable));
     }
 
     /**
@@ -192,9 +203,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getActiveProductsByCategory(categoryId, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getActiveProductsByCategory(categoryId, pageable));
     }
 
     /**
@@ -215,9 +224,21 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.searchProductsByName(name, pageable);
+        return versioned(() -> productService.searchProductsByName(name, pageable));
+    }
 
-        return ResponseEntity.ok(products);
+    /**
+     * Búsqueda incremental para el tipeo en tablets: sin acentos y tolerante a errores
+     * Accesible para todos los usuarios autenticados
+     */
+    @GetMapping("/search/typeahead")
+    public ResponseEntity<List<ProductService.ProductTypeaheadResponse>> typeaheadSearch(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "true") boolean activeOnly) {
+        log.debug("REST request to typeahead search products: {}", q);
+
+        return versioned(() -> productService.typeaheadSearch(q, limit, activeOnly));
     }
 
     /**
@@ -238,9 +259,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.searchProductsByDescription(description, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.searchProductsByDescription(description, pageable));
     }
 
     /**
@@ -262,9 +281,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getProductsByPriceRange(minPrice, maxPrice, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getProductsByPriceRange(minPrice, maxPrice, pageable));
     }
 
     /**
@@ -286,9 +303,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getProductsCreatedBetween(startDate, endDate, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getProductsCreatedBetween(startDate, endDate, pageable));
     }
 
     /**
@@ -310,9 +325,7 @@ public class ProductController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ProductResponse> products = productService.getProductsUpdatedBetween(startDate, endDate, pageable);
-
-        return ResponseEntity.ok(products);
+        return versioned(() -> productService.getProductsUpdatedBetween(startDate, endDate, pageable));
     }
 
     /**
@@ -337,8 +350,7 @@ public class ProductController {
     public ResponseEntity<Map<String, Boolean>> checkProductExists(@PathVariable Long id) {
         log.debug("REST request to check if product exists by ID: {}", id);
 
-        boolean exists = productService.existsById(id);
-        return ResponseEntity.ok(Map.of("exists", exists));
+        return versioned(() -> Map.of("exists", productService.existsById(id)));
     }
 
     /**
@@ -349,8 +361,7 @@ public class ProductController {
     public ResponseEntity<ProductService.ProductStatsResponse> getProductStats() {
         log.debug("REST request to get product statistics");
 
-        ProductService.ProductStatsResponse stats = productService.getProductStats();
-        return ResponseEntity.ok(stats);
+        return versioned(productService::getProductStats);
     }
 
     /**
@@ -361,7 +372,14 @@ public class ProductController {
     public ResponseEntity<Map<String, Long>> countProductsByCategory(@PathVariable Long categoryId) {
         log.debug("REST request to count products by category ID: {}", categoryId);
 
-        Long count = productService.countProductsByCategory(categoryId);
-        return ResponseEntity.ok(Map.of("count", count));
+        return versioned(() -> Map.of("count", productService.countProductsByCategory(categoryId)));
+    }
+
+    // La versión se lee antes de consultar: nunca es mayor que la de los datos devueltos
+    private <T> ResponseEntity<T> versioned(Supplier<T> body) {
+        long version = menuCatalogService.getCatalog().getVersion();
+        return ResponseEntity.ok()
+                .header(MenuCatalog.VERSION_HEADER, String.valueOf(version))
+                .body(body.get());
     }
 }
@@ -0,0 +1,8 @@
+package com.isaiiapp.backend.product.v1.product.event;
+
+/**
+ * Evento publicado cuando cambia el precio, estado, categoría o existencia de un producto
+ * (productId nulo cuando cambian varios productos a la vez, p. ej. en una importación)
+ */
+public record ProductCatalogChangedEvent(Long productId) {
+}
@@ -1,5 +1,7 @@
 package com.isaiiapp.backend.product.v1.product.mapper;
 
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
 import com.isaiiapp.backend.product.v1.category.mapper.CategoryMapper;
 import com.isaiiapp.backend.product.v1.category.model.Category;
 import com.isaiiapp.backend.product.v1.product.dto.request.CreateProductRequest;
@@ -42,4 +44,20 @@ public class ProductMapper {
         response.setUpdatedAt(product.getUpdatedAt());
         return response;
     }
+
+    /**
+     * Convertir producto del catálogo en memoria a ProductResponse
+     */
+    public ProductResponse toResponse(CatalogProduct product, CatalogCategory category) {
+        ProductResponse response = new ProductResponse();
+        response.setId(product.id());
+        response.setCategory(category != null ? categoryMapper.toResponse(category) : null);
+        response.setName(product.name());
+        response.setPrice(product.price());
+        response.setIsActive(product.active());
+        response.setDescription(product.description());
+        response.setCreatedAt(product.createdAt());
+        response.setUpdatedAt(product.updatedAt());
+        return response;
+    }
 }
@@ -24,7 +24,8 @@ import java.time.temporal.ChronoUnit;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_gen")
+    @SequenceGenerator(name = "product_seq_gen", schema = "product", sequenceName = "product_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
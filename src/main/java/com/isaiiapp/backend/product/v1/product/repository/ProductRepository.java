@@ -1,64 +1,21 @@
 package com.isaiiapp.backend.product.v1.product.repository;
 
 import com.isaiiapp.backend.product.v1.product.model.Product;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query("SELECT p FROM Product p WHERE p.category.id = :categoryId")
-    Page<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    // Columnas para el catálogo en memoria sin cargar entidades ni sus categorías
+    @Query("SELECT p.id, p.category.id, p.name, p.price, p.isActive, p.description, p.createdAt, p.updatedAt " +
+            "FROM Product p")
+    List<Object[]> findCatalogRows();
 
-    @Query("SELECT p FROM Product p WHERE p.isActive = true")
-    Page<Product> findAllActive(Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.isActive = false")
-    Page<Product> findAllInactive(Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Product> findByNameContaining(@Param("name") String name, Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE LOWER(p.description) LIKE LOWER(CONCAT('%', :description, '%'))")
-    Page<Product> findByDescriptionContaining(@Param("description") String description, Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice")
-    Page<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice,
-                                   @Param("maxPrice") BigDecimal maxPrice,
-                                   Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.category.id = :categoryId AND p.isActive = true")
-    Page<Product> findActiveByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.createdAt BETWEEN :startDate AND :endDate")
-    Page<Product> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
-                                         @Param("endDate") LocalDateTime endDate,
-                                         Pageable pageable);
-
-    @Query("SELECT p FROM Product p WHERE p.updatedAt BETWEEN :startDate AND :endDate")
-    Page<Product> findByUpdatedAtBetween(@Param("startDate") LocalDateTime startDate,
-                                         @Param("endDate") LocalDateTime endDate,
-                                         Pageable pageable);
-
-    @Query("SELECT COUNT(p) FROM Product p WHERE p.isActive = true")
-    Long countActiveProducts();
-
-    @Query("SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId AND p.isActive = true")
-    Long countActiveByCategoryId(@Param("categoryId") Long categoryId);
-
-    @Query("SELECT AVG(p.price) FROM Product p WHERE p.isActive = true")
-    BigDecimal getAveragePrice();
-
-    @Query("SELECT MIN(p.price) FROM Product p WHERE p.isActive = true")
-    BigDecimal getMinPrice();
-
-    @Query("SELECT MAX(p.price) FROM Product p WHERE p.isActive = true")
-    BigDecimal getMaxPrice();
+    // Nombres existentes para resolver filas de importación sin id
+    @Query("SELECT p.id, p.name FROM Product p")
+    List<Object[]> findIdAndNameRows();
 }
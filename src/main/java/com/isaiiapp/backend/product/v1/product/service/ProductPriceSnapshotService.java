@@ -0,0 +1,37 @@
+package com.isaiiapp.backend.product.v1.product.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Snapshot inmutable en memoria de precios de productos, usado para fijar precios en el servidor
+ */
+public interface ProductPriceSnapshotService {
+
+    /**
+     * Obtener el precio vigente de un producto
+     */
+    Optional<ProductPrice> findPrice(Long productId);
+
+    /**
+     * Obtener el precio de un producto vigente en un instante dado (según el historial de precios)
+     */
+    Optional<ProductPrice> findPriceAt(Long productId, LocalDateTime at);
+
+    /**
+     * Reconstruir el snapshot desde la base de datos y reemplazarlo de forma atómica
+     */
+    void rebuild();
+
+    /**
+     * Precio vigente de un producto
+     */
+    record ProductPrice(
+            Long productId,
+            String name,
+            BigDecimal price,
+            boolean active,
+            Long categoryId
+    ) {}
+}
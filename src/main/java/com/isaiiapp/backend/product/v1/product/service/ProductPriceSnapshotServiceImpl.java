@@ -0,0 +1,48 @@
+package com.isaiiapp.backend.product.v1.product.service;
+
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Los precios se leen del catálogo del menú en memoria, que ya se reconstruye con cada cambio de producto;
+ * los precios a una fecha, del historial de precios
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductPriceSnapshotServiceImpl implements ProductPriceSnapshotService {
+
+    private final MenuCatalogService menuCatalogService;
+    private final ProductPriceHistoryService productPriceHistoryService;
+
+    @Override
+    public Optional<ProductPrice> findPrice(Long productId) {
+        return menuCatalogService.getCatalog().findProduct(productId)
+                .map(product -> new ProductPrice(
+                        product.id(),
+                        product.name(),
+                        product.price(),
+                        product.active(),
+                        product.categoryId()
+                ));
+    }
+
+    @Override
+    public Optional<ProductPrice> findPriceAt(Long productId, LocalDateTime at) {
+        // Nombre y estado actuales del catálogo; precio del historial (el del catálogo si aún no tiene)
+        return findPrice(productId)
+                .map(current -> productPriceHistoryService.findPriceAt(productId, at)
+                        .map(price -> new ProductPrice(current.productId(), current.name(), price,
+                                current.active(), current.categoryId()))
+                        .orElse(current));
+    }
+
+    @Override
+    public void rebuild() {
+        menuCatalogService.rebuild();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductService {
@@ -67,6 +68,11 @@ public interface ProductService {
      */
     Page<ProductResponse> searchProductsByDescription(String description, Pageable pageable);
 
+    /**
+     * Búsqueda incremental por nombre y descripción, sin acentos y tolerante a errores de tipeo
+     */
+    List<ProductTypeaheadResponse> typeaheadSearch(String query, int limit, boolean activeOnly);
+
     /**
      * Buscar productos por rango de precio con paginación
      */
@@ -113,4 +119,17 @@ public interface ProductService {
             BigDecimal minPrice,
             BigDecimal maxPrice
     ) {}
+
+    /**
+     * DTO de resultado de búsqueda incremental (mayor score es mejor coincidencia)
+     */
+    record ProductTypeaheadResponse(
+            Long id,
+            String name,
+            Long categoryId,
+            String categoryName,
+            BigDecimal price,
+            Boolean isActive,
+            Double score
+    ) {}
 }
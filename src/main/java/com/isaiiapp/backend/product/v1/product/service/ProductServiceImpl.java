@@ -1,24 +1,35 @@
 package com.isaiiapp.backend.product.v1.product.service;
 
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogCategory;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog.CatalogProduct;
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalogService;
 import com.isaiiapp.backend.product.v1.category.model.Category;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService;
 import com.isaiiapp.backend.product.v1.category.repository.CategoryRepository;
 import com.isaiiapp.backend.product.v1.product.dto.request.CreateProductRequest;
 import com.isaiiapp.backend.product.v1.product.dto.request.UpdateProductRequest;
 import com.isaiiapp.backend.product.v1.product.dto.response.ProductResponse;
+import com.isaiiapp.backend.product.v1.product.event.ProductCatalogChangedEvent;
 import com.isaiiapp.backend.product.v1.product.mapper.ProductMapper;
 import com.isaiiapp.backend.product.v1.product.model.Product;
 import com.isaiiapp.backend.product.v1.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +37,14 @@ import java.util.Optional;
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuCatalogService menuCatalogService;
+    private final ProductPriceHistoryService productPriceHistoryService;
 
     @Override
     public ProductResponse createProduct(CreateProductRequest request) {
@@ -40,18 +56,21 @@ public class ProductServiceImpl implements ProductService {
 
         Product product = productMapper.toEntity(request, category);
         Product savedProduct = productRepository.save(product);
+        productPriceHistoryService.recordPrice(savedProduct.getId(), savedProduct.getPrice());
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(savedProduct.getId()));
 
         log.info("Product created successfully with ID: {}", savedProduct.getId());
         return productMapper.toResponse(savedProduct);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<ProductResponse> getProductById(Long id) {
         log.debug("Fetching product by ID: {}", id);
 
-        return productRepository.findById(id)
-                .map(productMapper::toResponse);
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        return catalog.findProduct(id)
+                .map(product -> toResponse(catalog, product));
     }
 
     @Override
@@ -89,6 +108,10 @@ public class ProductServiceImpl implements ProductService {
         }
 
         Product updatedProduct = productRepository.save(existingProduct);
+        if (request.getPrice() != null) {
+            productPriceHistoryService.recordPrice(id, updatedProduct.getPrice());
+        }
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(id));
 
         log.info("Product updated successfully with ID: {}", updatedProduct.getId());
         return productMapper.toResponse(updatedProduct);
@@ -103,84 +126,98 @@ public class ProductServiceImpl implements ProductService {
         }
 
         productRepository.deleteById(id);
+        productPriceHistoryService.closePrice(id);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(id));
         log.info("Product deleted successfully with ID: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getAllProducts(Pageable pageable) {
         log.debug("Fetching all products with pagination: {}", pageable);
 
-        return productRepository.findAll(pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> true, pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getActiveProducts(Pageable pageable) {
         log.debug("Fetching active products with pagination: {}", pageable);
 
-        return productRepository.findAllActive(pageable)
-                .map(productMapper::toResponse);
+        return findProducts(CatalogProduct::active, pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getInactiveProducts(Pageable pageable) {
         log.debug("Fetching inactive products with pagination: {}", pageable);
 
-        return productRepository.findAllInactive(pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> !product.active(), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
         log.debug("Fetching products by category ID: {} with pagination: {}", categoryId, pageable);
 
         // Verificar que la categoría existe
-        if (!categoryRepository.existsById(categoryId)) {
-            throw new ResourceNotFoundException("Category", "id", categoryId);
-        }
+        requireCategory(categoryId);
 
-        return productRepository.findByCategoryId(categoryId, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> product.categoryId().equals(categoryId), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getActiveProductsByCategory(Long categoryId, Pageable pageable) {
         log.debug("Fetching active products by category ID: {} with pagination: {}", categoryId, pageable);
 
         // Verificar que la categoría existe
-        if (!categoryRepository.existsById(categoryId)) {
-            throw new ResourceNotFoundException("Category", "id", categoryId);
-        }
+        requireCategory(categoryId);
 
-        return productRepository.findActiveByCategoryId(categoryId, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> product.active() && product.categoryId().equals(categoryId), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> searchProductsByName(String name, Pageable pageable) {
         log.debug("Searching products by name: {} with pagination: {}", name, pageable);
 
-        return productRepository.findByNameContaining(name, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(MenuCatalog.containsIgnoreCase(CatalogProduct::name, name), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> searchProductsByDescription(String description, Pageable pageable) {
         log.debug("Searching products by description: {} with pagination: {}", description, pageable);
 
-        return productRepository.findByDescriptionContaining(description, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(MenuCatalog.containsIgnoreCase(CatalogProduct::description, description), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductTypeaheadResponse> typeaheadSearch(String query, int limit, boolean activeOnly) {
+        log.debug("Typeahead search for products: {} (limit: {}, activeOnly: {})", query, limit, activeOnly);
+
+        if (limit < 1 || limit > MAX_TYPEAHEAD_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TYPEAHEAD_LIMIT);
+        }
+
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        return catalog.getSearchIndex().search(query, limit, activeOnly).stream()
+                .map(match -> new ProductTypeaheadResponse(
+                        match.product().id(),
+                        match.product().name(),
+                        match.product().categoryId(),
+                        catalog.findCategory(match.product().categoryId()).map(CatalogCategory::name).orElse(null),
+                        match.product().price(),
+                        match.product().active(),
+                        match.score()
+                ))
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
         log.debug("Fetching products by price range: {} - {} with pagination: {}", minPrice, maxPrice, pageable);
 
@@ -188,12 +225,12 @@ public class ProductServiceImpl implements ProductService {
             throw new IllegalArgumentException("Min price cannot be greater than max price");
         }
 
-        return productRepository.findByPriceRange(minPrice, maxPrice, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> product.price().compareTo(minPrice) >= 0
+                && product.price().compareTo(maxPrice) <= 0, pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getProductsCreatedBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         log.debug("Fetching products created between: {} and {} with pagination: {}", startDate, endDate, pageable);
 
@@ -201,12 +238,12 @@ public class ProductServiceImpl implements ProductService {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        return productRepository.findByCreatedAtBetween(startDate, endDate, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> !product.createdAt().isBefore(startDate)
+                && !product.createdAt().isAfter(endDate), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ProductResponse> getProductsUpdatedBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         log.debug("Fetching products updated between: {} and {} with pagination: {}", startDate, endDate, pageable);
 
@@ -214,8 +251,8 @@ public class ProductServiceImpl implements ProductService {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        return productRepository.findByUpdatedAtBetween(startDate, endDate, pageable)
-                .map(productMapper::toResponse);
+        return findProducts(product -> !product.updatedAt().isBefore(startDate)
+                && !product.updatedAt().isAfter(endDate), pageable);
     }
 
     @Override
@@ -227,53 +264,72 @@ public class ProductServiceImpl implements ProductService {
 
         product.setIsActive(isActive);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(id));
 
         log.info("Product status toggled successfully for ID: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean existsById(Long id) {
         log.debug("Checking if product exists by ID: {}", id);
 
-        return productRepository.existsById(id);
+        return menuCatalogService.getCatalog().findProduct(id).isPresent();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductStatsResponse getProductStats() {
         log.debug("Fetching product statistics");
 
-        long totalProducts = productRepository.count();
-        Long activeProducts = productRepository.countActiveProducts();
-        long inactiveProducts = totalProducts - (activeProducts != null ? activeProducts : 0);
+        List<CatalogProduct> products = menuCatalogService.getCatalog().getProducts();
+        List<BigDecimal> activePrices = products.stream()
+                .filter(CatalogProduct::active)
+                .map(CatalogProduct::price)
+                .toList();
 
-        BigDecimal averagePrice = productRepository.getAveragePrice();
-        BigDecimal minPrice = productRepository.getMinPrice();
-        BigDecimal maxPrice = productRepository.getMaxPrice();
+        BigDecimal averagePrice = activePrices.isEmpty() ? BigDecimal.ZERO
+                : activePrices.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
+                        .divide(BigDecimal.valueOf(activePrices.size()), 2, RoundingMode.HALF_UP);
 
         return new ProductStatsResponse(
-                totalProducts,
-                activeProducts != null ? activeProducts : 0L,
-                inactiveProducts,
-                averagePrice != null ? averagePrice : BigDecimal.ZERO,
-                minPrice != null ? minPrice : BigDecimal.ZERO,
-                maxPrice != null ? maxPrice : BigDecimal.ZERO
+                (long) products.size(),
+                (long) activePrices.size(),
+                (long) (products.size() - activePrices.size()),
+                averagePrice,
+                activePrices.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO),
+                activePrices.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO)
         );
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long countProductsByCategory(Long categoryId) {
         log.debug("Counting products by category ID: {}", categoryId);
 
         // Verificar que la categoría existe
-        if (!categoryRepository.existsById(categoryId)) {
+        requireCategory(categoryId);
+
+        return menuCatalogService.getCatalog().getProducts().stream()
+                .filter(product -> product.active() && product.categoryId().equals(categoryId))
+                .count();
+    }
+
+    // Capturar el snapshot una sola vez: la página y sus categorías salen de la misma versión
+    private Page<ProductResponse> findProducts(Predicate<CatalogProduct> filter, Pageable pageable) {
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        return catalog.findProducts(filter, pageable)
+                .map(product -> toResponse(catalog, product));
+    }
+
+    private ProductResponse toResponse(MenuCatalog catalog, CatalogProduct product) {
+        return productMapper.toResponse(product, catalog.findCategory(product.categoryId()).orElse(null));
+    }
+
+    private void requireCategory(Long categoryId) {
+        if (menuCatalogService.getCatalog().findCategory(categoryId).isEmpty()) {
             throw new ResourceNotFoundException("Category", "id", categoryId);
         }
-
-        Long count = productRepository.countActiveByCategoryId(categoryId);
-        return count != null ? count : 0L;
     }
 
 }
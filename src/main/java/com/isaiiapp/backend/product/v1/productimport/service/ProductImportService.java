@@ -0,0 +1,70 @@
+package com.isaiiapp.backend.product.v1.productimport.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface ProductImportService {
+
+    /**
+     * Importar productos en streaming (CSV o NDJSON): crea o actualiza cada fila en lotes JDBC
+     * dentro de una sola transacción y publica un único cambio de catálogo al final.
+     * Columnas: id, categoryId, categoryName, name, description, price, isActive.
+     * Con id se actualiza ese producto; sin id se actualiza el producto con el mismo nombre o se crea uno nuevo.
+     * En actualizaciones las columnas vacías conservan el valor actual.
+     */
+    ProductImportResponse importProducts(InputStream in, ImportFormat format) throws IOException;
+
+    /**
+     * Formatos de importación soportados
+     */
+    enum ImportFormat {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extension;
+
+        ImportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public static ImportFormat fromValue(String value) {
+            for (ImportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported import format: " + value);
+        }
+    }
+
+    /**
+     * Resultado de una fila importada
+     */
+    enum RowAction {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    /**
+     * DTO de resultado por fila (line = número de línea en el archivo)
+     */
+    record ProductImportRowResult(
+            long line,
+            RowAction action,
+            Long productId,
+            String message
+    ) {}
+
+    /**
+     * DTO de resultado de la importación
+     */
+    record ProductImportResponse(
+            long totalRows,
+            long created,
+            long updated,
+            long failed,
+            List<ProductImportRowResult> rows
+    ) {}
+}
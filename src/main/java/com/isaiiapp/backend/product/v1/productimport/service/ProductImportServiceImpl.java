@@ -0,0 +1,505 @@
+package com.isaiiapp.backend.product.v1.productimport.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaiiapp.backend.product.v1.category.model.Category;
+import com.isaiiapp.backend.product.v1.category.repository.CategoryRepository;
+import com.isaiiapp.backend.product.v1.pricehistory.service.ProductPriceHistoryService;
+import com.isaiiapp.backend.product.v1.product.event.ProductCatalogChangedEvent;
+import com.isaiiapp.backend.product.v1.product.model.Product;
+import com.isaiiapp.backend.product.v1.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "categoryId", "categoryName", "name", "description", "price", "isActive");
+
+    // Marca de nombre repetido en la base: no se puede usar como clave de actualización
+    private static final long AMBIGUOUS = -1L;
+
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductPriceHistoryService productPriceHistoryService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public ProductImportResponse importProducts(InputStream in, ImportFormat format) throws IOException {
+        log.info("Importing products from {} stream", format);
+
+        // Categorías y nombres existentes se resuelven una sola vez para todo el archivo
+        List<Category> categories = categoryRepository.findAll();
+        Map<Long, Category> categoriesById = categories.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<String, Category> categoriesByName = categories.stream()
+                .collect(Collectors.toMap(category -> nameKey(category.getName()), Function.identity(), (a, b) -> a));
+
+        Map<String, Long> productIdsByName = new HashMap<>();
+        for (Object[] row : productRepository.findIdAndNameRows()) {
+            productIdsByName.merge(nameKey((String) row[1]), (Long) row[0], (a, b) -> AMBIGUOUS);
+        }
+
+        ImportContext context = new ImportContext(categoriesById, categoriesByName, productIdsByName);
+        RowReader reader = format == ImportFormat.CSV
+                ? new CsvRowReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+                : new NdjsonRowReader(objectMapper, objectMapper.getFactory().createParser(in));
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                processBatch(batch, context);
+                batch.clear();
+            }
+        }
+        processBatch(batch, context);
+
+        // Un solo cambio de catálogo para todo el archivo (se reconstruye después del commit)
+        if (context.created + context.updated > 0) {
+            eventPublisher.publishEvent(new ProductCatalogChangedEvent(null));
+        }
+
+        log.info("Products import finished: {} rows, {} created, {} updated, {} failed",
+                context.results.size(), context.created, context.updated, context.failed);
+        return new ProductImportResponse(context.results.size(), context.created, context.updated,
+                context.failed, context.results);
+    }
+
+    /**
+     * Aplicar un lote: una consulta para los productos a actualizar, inserts/updates en lote JDBC al hacer flush.
+     * Las filas sin id se resuelven por nombre al aplicarlas, después de los cambios de las filas anteriores.
+     */
+    private void processBatch(List<ImportRow> batch, ImportContext context) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<RowCommand> commands = new ArrayList<>(batch.size());
+        Set<Long> idsToLoad = new HashSet<>();
+        for (ImportRow row : batch) {
+            try {
+                RowCommand command = parse(row, context);
+                commands.add(command);
+                // Precarga por el estado actual del nombre; si una fila anterior lo cambia se carga aparte
+                Long targetId = command.targetId != null ? command.targetId
+                        : command.name != null ? context.productIdsByName.get(nameKey(command.name)) : null;
+                if (targetId != null && targetId != AMBIGUOUS) {
+                    idsToLoad.add(targetId);
+                }
+            } catch (IllegalArgumentException e) {
+                context.fail(row.line(), null, e.getMessage());
+            }
+        }
+
+        Map<Long, Product> existing = productRepository.findAllById(idsToLoad).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (RowCommand command : commands) {
+            try {
+                resolveTarget(command, context);
+                Product product;
+                if (command.targetId != null) {
+                    product = update(command, existing.computeIfAbsent(command.targetId,
+                            id -> productRepository.findById(id).orElse(null)), context);
+                } else {
+                    product = create(command, context);
+                    existing.put(product.getId(), product);
+                }
+                if (command.price != null) {
+                    prices.put(product.getId(), product.getPrice());
+                }
+            } catch (IllegalArgumentException e) {
+                context.fail(command.line, command.targetId, e.getMessage());
+            }
+        }
+
+        // Historial de precios del lote con una sola consulta de precios vigentes
+        productPriceHistoryService.recordPrices(prices);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Product update(RowCommand command, Product product, ImportContext context) {
+        if (product == null) {
+            throw new IllegalArgumentException("Product not found with id: " + command.targetId);
+        }
+
+        String previousName = product.getName();
+        if (command.category != null) {
+            product.setCategory(command.category);
+        }
+        if (command.name != null) {
+            product.setName(command.name);
+        }
+        if (command.description != null) {
+            product.setDescription(command.description);
+        }
+        if (command.price != null) {
+            product.setPrice(command.price);
+        }
+        if (command.isActive != null) {
+            product.setIsActive(command.isActive);
+        }
+
+        if (!nameKey(previousName).equals(nameKey(product.getName()))) {
+            context.productIdsByName.remove(nameKey(previousName));
+            context.productIdsByName.merge(nameKey(product.getName()), product.getId(), (a, b) -> AMBIGUOUS);
+        }
+        context.updated++;
+        context.results.add(new ProductImportRowResult(command.line, RowAction.UPDATED, product.getId(), null));
+        return product;
+    }
+
+    private Product create(RowCommand command, ImportContext context) {
+        if (command.category == null || command.name == null || command.description == null
+                || command.price == null) {
+            throw new IllegalArgumentException("New products require category, name, description and price");
+        }
+
+        Product product = new Product();
+        product.setCategory(command.category);
+        product.setName(command.name);
+        product.setDescription(command.description);
+        product.setPrice(command.price);
+        product.setIsActive(command.isActive != null ? command.isActive : Boolean.TRUE);
+        entityManager.persist(product);
+
+        // Filas posteriores con el mismo nombre actualizan el producto recién creado
+        context.productIdsByName.put(nameKey(product.getName()), product.getId());
+        context.created++;
+        context.results.add(new ProductImportRowResult(command.line, RowAction.CREATED, product.getId(), null));
+        return product;
+    }
+
+    /**
+     * Sin columna id, el nombre decide si la fila actualiza o crea: se consulta en este momento para ver
+     * los productos creados y renombrados por las filas anteriores del mismo lote
+     */
+    private void resolveTarget(RowCommand command, ImportContext context) {
+        if (command.targetId != null || command.name == null) {
+            return;
+        }
+        Long matched = context.productIdsByName.get(nameKey(command.name));
+        if (matched != null && matched == AMBIGUOUS) {
+            throw new IllegalArgumentException("More than one product named '" + command.name + "', use the id column");
+        }
+        command.targetId = matched;
+    }
+
+    private RowCommand parse(ImportRow row, ImportContext context) {
+        Map<String, String> values = row.values();
+        RowCommand command = new RowCommand(row.line());
+
+        command.name = text(values.get("name"), "Name", 50);
+        command.description = text(values.get("description"), "Description", 100);
+        command.price = price(values.get("price"));
+        command.isActive = bool(values.get("isActive"));
+
+        Long categoryId = number(values.get("categoryId"), "categoryId");
+        String categoryName = blankToNull(values.get("categoryName"));
+        if (categoryId != null) {
+            command.category = context.categoriesById.get(categoryId);
+            if (command.category == null) {
+                throw new IllegalArgumentException("Category not found with id: " + categoryId);
+            }
+        } else if (categoryName != null) {
+            command.category = context.categoriesByName.get(nameKey(categoryName));
+            if (command.category == null) {
+                throw new IllegalArgumentException("Category not found with name: " + categoryName);
+            }
+        }
+
+        command.targetId = number(values.get("id"), "id");
+        return command;
+    }
+
+    private static String text(String value, String field, int maxLength) {
+        String text = blankToNull(value);
+        if (text != null && text.length() > maxLength) {
+            throw new IllegalArgumentException(field + " should be between 1 and " + maxLength + " characters");
+        }
+        return text;
+    }
+
+    private static BigDecimal price(String value) {
+        String text = blankToNull(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            BigDecimal price = new BigDecimal(text);
+            if (price.signum() <= 0 || price.compareTo(MAX_PRICE) > 0) {
+                throw new IllegalArgumentException("Price must be greater than 0 and at most " + MAX_PRICE);
+            }
+            return price;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price: " + text);
+        }
+    }
+
+    private static Boolean bool(String value) {
+        String text = blankToNull(value);
+        if (text == null) {
+            return null;
+        }
+        if (text.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (text.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Invalid isActive value: " + text);
+    }
+
+    private static Long number(String value, String field) {
+        String text = blankToNull(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + text);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Estado compartido entre lotes de una importación
+     */
+    private static final class ImportContext {
+
+        private final Map<Long, Category> categoriesById;
+        private final Map<String, Category> categoriesByName;
+        private final Map<String, Long> productIdsByName;
+        private final List<ProductImportRowResult> results = new ArrayList<>();
+        private long created;
+        private long updated;
+        private long failed;
+
+        private ImportContext(Map<Long, Category> categoriesById, Map<String, Category> categoriesByName,
+                              Map<String, Long> productIdsByName) {
+            this.categoriesById = categoriesById;
+            this.categoriesByName = categoriesByName;
+            this.productIdsByName = productIdsByName;
+        }
+
+        private void fail(long line, Long productId, String message) {
+            failed++;
+            results.add(new ProductImportRowResult(line, RowAction.FAILED, productId, message));
+        }
+    }
+
+    /**
+     * Fila validada; los campos nulos no se modifican en actualizaciones
+     */
+    private static final class RowCommand {
+
+        private final long line;
+        private Long targetId;
+        private Category category;
+        private String name;
+        private String description;
+        private BigDecimal price;
+        private Boolean isActive;
+
+        private RowCommand(long line) {
+            this.line = line;
+        }
+    }
+
+    private record ImportRow(long line, Map<String, String> values) {
+    }
+
+    private interface RowReader {
+
+        /**
+         * Siguiente fila o null al terminar el archivo
+         */
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * Lector CSV incremental (RFC 4180) con encabezado; lee carácter a carácter sin cargar el archivo
+     */
+    private static final class CsvRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private final List<String> header;
+        private long line = 1;
+
+        private CsvRowReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> columns = readRecord();
+            if (columns == null) {
+                throw new IllegalArgumentException("CSV import requires a header row");
+            }
+
+            this.header = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                String name = column.replace("\uFEFF", "").trim();
+                header.add(COLUMNS.stream().filter(known -> known.equalsIgnoreCase(name)).findFirst().orElse(null));
+            }
+            if (!header.contains("name") && !header.contains("id")) {
+                throw new IllegalArgumentException("CSV header must include an id or name column");
+            }
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            while (true) {
+                long startLine = line;
+                List<String> fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < fields.size() && i < header.size(); i++) {
+                    if (header.get(i) != null) {
+                        values.put(header.get(i), fields.get(i));
+                    }
+                }
+                return new ImportRow(startLine, values);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!read) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    /**
+     * Lector NDJSON incremental: un objeto por línea
+     */
+    private static final class NdjsonRowReader implements RowReader {
+
+        private final JsonParser parser;
+        private final MappingIterator<JsonNode> iterator;
+
+        private NdjsonRowReader(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+            this.parser = parser;
+            this.iterator = objectMapper.readerFor(JsonNode.class).readValues(parser);
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            try {
+                if (!iterator.hasNextValue()) {
+                    return null;
+                }
+                JsonNode node = iterator.nextValue();
+                long line = parser.currentLocation().getLineNr();
+                if (!node.isObject()) {
+                    throw new IllegalArgumentException("Expected a JSON object at line " + line);
+                }
+
+                Map<String, String> values = new HashMap<>();
+                for (String column : COLUMNS) {
+                    JsonNode value = node.get(column);
+                    if (value != null && !value.isNull()) {
+                        values.put(column, value.asText());
+                    }
+                }
+                return new ImportRow(line, values);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid NDJSON near line " + parser.currentLocation().getLineNr(), e);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.isaiiapp.backend.security.v1.config;
 
+import com.isaiiapp.backend.product.v1.catalog.service.MenuCatalog;
 import com.isaiiapp.backend.security.v1.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +28,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
+import static org.springframework.security.authorization.AuthorityAuthorizationManager.hasAuthority;
+import static org.springframework.security.authorization.AuthorizationManagers.allOf;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -41,6 +46,9 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Los streams SSE se autorizan en la petición original; el filtro JWT no corre en el
+                        // despacho asíncrono (envíos, timeout) ni en el de error, que no deben volver a exigir token
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(
                                 "/v1/auth/login",
                                 "/v1/auth/refresh",
@@ -117,9 +125,10 @@ public class SecurityConfig {
                         .requestMatchers("GET", "/v1/employees/profile").hasAuthority("PERMISSION_PROFILE_VIEW")
 
                         .requestMatchers(HttpMethod.POST, "/v1/order-items").hasAuthority("PERMISSION_ORDER_CREATE")
+                        .requestMatchers(HttpMethod.POST, "/v1/order-items/batch").hasAuthority("PERMISSION_ORDER_CREATE")
                         .requestMatchers(HttpMethod.PUT, "/v1/order-items/**").hasAuthority("PERMISSION_ORDER_UPDATE")
                         .requestMatchers(HttpMethod.PATCH, "/v1/order-items/{id}/quantity").hasAuthority("PERMISSION_ORDER_UPDATE")
-                        .requestMatchers(HttpMethod.PATCH, "/v1/order-items/{id}/unit-price").hasAuthority("PERMISSION_ORDER_UPDATE")
+                        .requestMatchers(HttpMethod.PATCH, "/v1/order-items/{id}/unit-price").hasAuthority("PERMISSION_SYSTEM_ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/v1/order-items/{id}/instructions").hasAuthority("PERMISSION_ORDER_UPDATE")
                         .requestMatchers(HttpMethod.DELETE, "/v1/order-items/**").hasAuthority("PERMISSION_ORDER_DELETE")
                         .requestMatchers(HttpMethod.GET, "/v1/order-items/**").hasAuthority("PERMISSION_ORDER_READ")
@@ -128,6 +137,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v1/order-items/total-quantity/product/**").hasAuthority("PERMISSION_ORDER_READ")
                         .requestMatchers(HttpMethod.GET, "/v1/order-items/most-ordered-products").hasAuthority("PERMISSION_ORDER_STATS")
                         .requestMatchers(HttpMethod.GET, "/v1/order-items/todays-most-ordered-products").hasAuthority("PERMISSION_ORDER_STATS")
+                        .requestMatchers(HttpMethod.GET, "/v1/order-items/last-hour-most-ordered-products").hasAuthority("PERMISSION_ORDER_STATS")
                         .requestMatchers(HttpMethod.GET, "/v1/order-items/stats").hasAuthority("PERMISSION_ORDER_STATS")
 
                         .requestMatchers(HttpMethod.POST, "/v1/orders").hasAuthority("PERMISSION_ORDER_CREATE")
@@ -141,6 +151,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PATCH, "/v1/orders/*/mark-completed").hasAuthority("PERMISSION_ORDER_STATUS_MANAGE")
                         .requestMatchers(HttpMethod.PATCH, "/v1/orders/*/mark-paid").hasAuthority("PERMISSION_ORDER_UPDATE")
                         .requestMatchers(HttpMethod.PATCH, "/v1/orders/*/mark-canceled").hasAuthority("PERMISSION_ORDER_UPDATE")
+                        .requestMatchers(HttpMethod.GET, "/v1/orders/export").hasAuthority("PERMISSION_ORDER_STATS")
+                        .requestMatchers(HttpMethod.GET, "/v1/orders/preparation-time/**").hasAuthority("PERMISSION_ORDER_STATS")
                         .requestMatchers(HttpMethod.GET, "/v1/orders/**").hasAuthority("PERMISSION_ORDER_READ")
                         .requestMatchers(HttpMethod.GET, "/v1/orders/user/**").hasAuthority("PERMISSION_ORDER_READ")
                         .requestMatchers(HttpMethod.GET, "/v1/orders/employee/**").hasAuthority("PERMISSION_ORDER_READ")
@@ -152,6 +164,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v1/orders/average-preparation-time").hasAuthority("PERMISSION_ORDER_STATS")
                         .requestMatchers(HttpMethod.GET, "/v1/orders/inconsistent-totals").hasAuthority("PERMISSION_ORDER_STATS")
                         .requestMatchers(HttpMethod.POST, "/v1/orders/recalculate-all-totals").hasAuthority("PERMISSION_ORDER_STATS")
+                        .requestMatchers(HttpMethod.POST, "/v1/orders/summary/rebuild").hasAuthority("PERMISSION_ORDER_STATS")
+
+                        // Modulo Reports V1
+                        .requestMatchers(HttpMethod.GET, "/v1/reports/sales/**").hasAuthority("PERMISSION_ORDER_STATS")
+                        .requestMatchers(HttpMethod.POST, "/v1/reports/sales/rebuild").hasAuthority("PERMISSION_ORDER_STATS")
 
                         .requestMatchers(HttpMethod.POST, "/v1/order/status").hasAuthority("PERMISSION_ORDER_STATUS_MANAGE")
                         .requestMatchers(HttpMethod.PUT, "/v1/order/status/**").hasAuthority("PERMISSION_ORDER_STATUS_MANAGE")
@@ -169,14 +186,26 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PATCH,   "/v1/categories/**").hasAuthority("UPDATE_CATEGORY")
                         // Modulo Product V1
                         .requestMatchers(HttpMethod.POST,   "/v1/product/product").hasAuthority("CREATE_PRODUCT")
+                        .requestMatchers(HttpMethod.POST,   "/v1/product/product/import").access(allOf(hasAuthority("CREATE_PRODUCT"), hasAuthority("UPDATE_PRODUCT")))
                         .requestMatchers(HttpMethod.GET,    "/v1/product/product/stats").hasAuthority("STATS_PRODUCT")
                         .requestMatchers(HttpMethod.GET,    "/v1/product/product/created-between").hasAuthority("REPORT_PRODUCT")
                         .requestMatchers(HttpMethod.GET,    "/v1/product/product/updated-between").hasAuthority("REPORT_PRODUCT")
+                        .requestMatchers(HttpMethod.GET,    "/v1/product/product/*/price-history").hasAuthority("REPORT_PRODUCT")
+                        .requestMatchers(HttpMethod.GET,    "/v1/product/product/prices-at").hasAuthority("REPORT_PRODUCT")
                         .requestMatchers(HttpMethod.PATCH,  "/v1/product/product/*/toggle-status").hasAuthority("TOGGLE_PRODUCT")
                         .requestMatchers(HttpMethod.PUT,    "/v1/product/product/*").hasAuthority("UPDATE_PRODUCT")
                         .requestMatchers(HttpMethod.DELETE, "/v1/product/product/*").hasAuthority("DELETE_PRODUCT")
                         .requestMatchers(HttpMethod.GET,    "/v1/product/product/**").hasAuthority("READ_PRODUCT")
+                        .requestMatchers(HttpMethod.GET,    "/v1/menu", "/v1/menu/**").hasAuthority("READ_PRODUCT")
                         // Modulo Tables V1
+                        .requestMatchers(HttpMethod.GET, "/v1/tables/{id}/open-check").hasAuthority("PERMISSION_ORDER_READ")
+                        .requestMatchers(HttpMethod.GET, "/v1/tables/board", "/v1/tables/board/stream").hasAuthority("READ_TABLE")
+                        .requestMatchers(HttpMethod.POST, "/v1/tables/board/*/transition").hasAuthority("UPDATE_TABLE")
+                        .requestMatchers(HttpMethod.POST, "/v1/tables/allocate", "/v1/tables/allocate/*/confirm").hasAuthority("UPDATE_TABLE")
+                        .requestMatchers(HttpMethod.DELETE, "/v1/tables/allocate/*").hasAuthority("UPDATE_TABLE")
+                        .requestMatchers(HttpMethod.GET, "/v1/tables/reservations/**").hasAuthority("READ_TABLE")
+                        .requestMatchers(HttpMethod.POST, "/v1/tables/reservations").hasAuthority("UPDATE_TABLE")
+                        .requestMatchers(HttpMethod.PATCH, "/v1/tables/reservations/**").hasAuthority("UPDATE_TABLE")
                         .requestMatchers(HttpMethod.POST, "/v1/tables").hasAuthority("CREATE_TABLE")
                         .requestMatchers(HttpMethod.GET, "/v1/tables/{id}").hasAuthority("READ_TABLE")
                         .requestMatchers(HttpMethod.GET, "/v1/tables/number/**").hasAuthority("READ_TABLE")
@@ -195,6 +224,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v1/tables/check-availability/*").hasAuthority("READ_TABLE")
                         .requestMatchers(HttpMethod.GET, "/v1/tables/exists/*").hasAuthority("READ_TABLE")
                         .requestMatchers(HttpMethod.GET, "/v1/tables/statistics").hasAuthority("READ_TABLE")
+                        .requestMatchers(HttpMethod.GET, "/v1/tables/statistics/turnover").hasAuthority("READ_TABLE")
                         // Excepciones
                         .anyRequest().authenticated()
                 )
@@ -231,6 +261,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("http://localhost:5500", "http://127.0.0.1:5500")); // cambia esto según tu dominio real
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of(MenuCatalog.VERSION_HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
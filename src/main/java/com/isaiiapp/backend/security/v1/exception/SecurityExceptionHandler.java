@@ -1,6 +1,7 @@
 package com.isaiiapp.backend.security.v1.exception;
 
 import com.isaiiapp.backend.auth.v1.exception.AccountLockedException;
+import com.isaiiapp.backend.auth.v1.exception.ResourceConflictException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +49,12 @@ public class SecurityExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Authentication failed", "AUTHENTICATION_FAILED");
     }
 
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleResourceConflict(ResourceConflictException ex) {
+        log.warn("Conflict: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), "RESOURCE_CONFLICT");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneric(Exception ex) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
@@ -2,8 +2,7 @@ package com.isaiiapp.backend.security.v1.service;
 
 import com.isaiiapp.backend.auth.v1.auth.model.Auth;
 import com.isaiiapp.backend.auth.v1.auth.repository.AuthRepository;
-import com.isaiiapp.backend.auth.v1.permission.model.Permission;
-import com.isaiiapp.backend.auth.v1.permission.repository.PermissionRepository;
+import com.isaiiapp.backend.auth.v1.rbac.service.RbacService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,7 +23,7 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService  implements UserDetailsService {
 
     private final AuthRepository authRepository;
-    private final PermissionRepository permissionRepository;
+    private final RbacService rbacService;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,11 +46,10 @@ public class CustomUserDetailsService  implements UserDetailsService {
             throw new UsernameNotFoundException("User is inactive for username: " + username);
         }
 
-        // Cargar permisos como authorities
-        List<GrantedAuthority> authorities = permissionRepository.findPermissionsByUserIdList(auth.getUser().getId())
+        // Cargar permisos como authorities desde el grafo RBAC en memoria (sin consulta por request)
+        List<GrantedAuthority> authorities = rbacService.getGraph().getPermissionNames(auth.getUser().getId())
                 .stream()
-                .map(permission -> new SimpleGrantedAuthority(permission.getName()))
-                .distinct()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
         log.debug("User loaded successfully: {} with {} authorities", username, authorities.size());
@@ -0,0 +1,20 @@
+package com.isaiiapp.backend.stats.v1.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Caché de snapshots de estadísticas por dominio, con TTL corto y una sola recarga concurrente
+ */
+public interface StatsSnapshotService {
+
+    /**
+     * Obtener el snapshot vigente de un dominio, recalculándolo con el loader si expiró.
+     * Si varias peticiones llegan a la vez, solo una ejecuta el loader y las demás esperan su resultado
+     */
+    <T> T getSnapshot(String domain, Supplier<T> loader);
+
+    /**
+     * Descartar el snapshot de un dominio para que la siguiente lectura lo recalcule
+     */
+    void invalidate(String domain);
+}
@@ -0,0 +1,77 @@
+package com.isaiiapp.backend.stats.v1.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class StatsSnapshotServiceImpl implements StatsSnapshotService {
+
+    private final ConcurrentHashMap<String, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${app.stats.ttl-ms:5000}")
+    private long ttlMillis;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getSnapshot(String domain, Supplier<T> loader) {
+        while (true) {
+            CachedSnapshot current = snapshots.get(domain);
+            if (current != null && !current.isExpired(ttlMillis)) {
+                return (T) await(current.value());
+            }
+
+            // Solo el hilo que instala el nuevo snapshot ejecuta el loader (single-flight)
+            CachedSnapshot loading = new CachedSnapshot(new CompletableFuture<>(), System.nanoTime());
+            boolean installed = current == null
+                    ? snapshots.putIfAbsent(domain, loading) == null
+                    : snapshots.replace(domain, current, loading);
+            if (!installed) {
+                continue;
+            }
+
+            try {
+                T value = loader.get();
+                loading.value().complete(value);
+                log.debug("Stats snapshot refreshed for domain: {}", domain);
+                return value;
+            } catch (RuntimeException e) {
+                loading.value().completeExceptionally(e);
+                snapshots.remove(domain, loading);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(String domain) {
+        snapshots.remove(domain);
+    }
+
+    private Object await(CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedSnapshot(CompletableFuture<Object> value, long loadedAtNanos) {
+
+        // Una recarga en curso nunca expira: los lectores esperan su resultado
+        boolean isExpired(long ttlMillis) {
+            return value.isDone()
+                    && System.nanoTime() - loadedAtNanos > TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        }
+    }
+}
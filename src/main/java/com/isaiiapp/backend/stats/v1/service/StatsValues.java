@@ -0,0 +1,34 @@
+package com.isaiiapp.backend.stats.v1.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversión de las columnas de una fila de agregados (COUNT, AVG, MIN, MAX) a los tipos de las respuestas
+ */
+public final class StatsValues {
+
+    private StatsValues() {
+    }
+
+    public static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    public static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    public static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    public static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return BigDecimal.valueOf(((Number) value).doubleValue());
+    }
+}
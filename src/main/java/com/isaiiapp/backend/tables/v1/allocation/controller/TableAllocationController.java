@@ -0,0 +1,51 @@
+package com.isaiiapp.backend.tables.v1.allocation.controller;
+
+import com.isaiiapp.backend.tables.v1.allocation.service.TableAllocationService;
+import com.isaiiapp.backend.tables.v1.allocation.service.TableAllocationService.AllocationResponse;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/tables/allocate")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class TableAllocationController {
+
+    private final TableAllocationService tableAllocationService;
+
+    /**
+     * Asignar y retener la mejor mesa (o mesas adyacentes) para un grupo
+     */
+    @PostMapping
+    public ResponseEntity<AllocationResponse> allocate(@RequestParam int partySize) {
+        log.debug("REST request to allocate tables for party of {}", partySize);
+        AllocationResponse response = tableAllocationService.allocate(partySize);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Confirmar la retención y sentar al grupo
+     */
+    @PostMapping("/{holdId}/confirm")
+    public ResponseEntity<List<TableStateResponse>> confirm(@PathVariable String holdId) {
+        log.debug("REST request to confirm table hold: {}", holdId);
+        return ResponseEntity.ok(tableAllocationService.confirm(holdId));
+    }
+
+    /**
+     * Liberar la retención
+     */
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<Void> release(@PathVariable String holdId) {
+        log.debug("REST request to release table hold: {}", holdId);
+        tableAllocationService.release(holdId);
+        return ResponseEntity.noContent().build();
+    }
+}
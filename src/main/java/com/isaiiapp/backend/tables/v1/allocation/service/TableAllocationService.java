@@ -0,0 +1,35 @@
+package com.isaiiapp.backend.tables.v1.allocation.service;
+
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TableAllocationService {
+
+    /**
+     * Asignar la mesa libre que mejor se ajusta al grupo, combinando mesas adyacentes si ninguna alcanza sola
+     * La asignación queda retenida por un tiempo corto hasta confirmarla o liberarla
+     */
+    AllocationResponse allocate(int partySize);
+
+    /**
+     * Confirmar una retención: las mesas pasan a sentadas
+     */
+    List<TableStateResponse> confirm(String holdId);
+
+    /**
+     * Liberar una retención sin sentar al grupo
+     */
+    void release(String holdId);
+
+    // DTOs
+    record AllocationResponse(
+            String holdId,
+            int partySize,
+            List<Long> tableIds,
+            List<String> tableNumbers,
+            int totalCapacity,
+            LocalDateTime expiresAt
+    ) {}
+}
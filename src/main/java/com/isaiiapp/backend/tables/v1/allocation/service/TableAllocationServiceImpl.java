@@ -0,0 +1,317 @@
+package com.isaiiapp.backend.tables.v1.allocation.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceConflictException;
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableBoardResponse;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationService;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@Slf4j
+@Transactional
+public class TableAllocationServiceImpl implements TableAllocationService {
+
+    private final TableBoardService tableBoardService;
+    private final ReservationService reservationService;
+    private final long holdMs;
+    private final int walkInMinutes;
+    private final int maxCombinedTables;
+    // Pares de números de mesa que se pueden juntar ("1:2,2:3")
+    private final Map<String, Set<String>> adjacency;
+
+    // Retenciones vigentes por mesa; putIfAbsent es la reserva atómica entre anfitriones
+    private final ConcurrentHashMap<Long, Hold> holdsByTable = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Hold> holds = new ConcurrentHashMap<>();
+
+    // Índice de capacidad reconstruido solo cuando cambia la versión del tablero
+    private final AtomicReference<CapacityIndex> index = new AtomicReference<>(new CapacityIndex(-1L, new TreeMap<>(), Map.of()));
+
+    public TableAllocationServiceImpl(
+            TableBoardService tableBoardService,
+            ReservationService reservationService,
+            @Value("${app.table-allocation.hold-ms:60000}") long holdMs,
+            @Value("${app.table-allocation.walk-in-minutes:90}") int walkInMinutes,
+            @Value("${app.table-allocation.max-combined-tables:3}") int maxCombinedTables,
+            @Value("${app.table-allocation.adjacency:}") String adjacency) {
+        this.tableBoardService = tableBoardService;
+        this.reservationService = reservationService;
+        this.holdMs = holdMs;
+        this.walkInMinutes = walkInMinutes;
+        this.maxCombinedTables = maxCombinedTables;
+        this.adjacency = parseAdjacency(adjacency);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AllocationResponse allocate(int partySize) {
+        if (partySize < 1) {
+            throw new IllegalArgumentException("Party size must be at least 1");
+        }
+
+        CapacityIndex current = currentIndex();
+
+        // Mejor ajuste con una sola mesa: la menor capacidad que alcanza
+        for (Map.Entry<Integer, List<Long>> entry : current.byCapacity().tailMap(partySize, true).entrySet()) {
+            for (Long tableId : entry.getValue()) {
+                Hold hold = tryHold(List.of(current.tables().get(tableId)), partySize);
+                if (hold != null) {
+                    return toResponse(hold);
+                }
+            }
+        }
+
+        // Sin mesa suficiente: combinaciones de mesas adyacentes, de menor a mayor desperdicio
+        for (List<TableStateResponse> combination : combinations(current, partySize)) {
+            Hold hold = tryHold(combination, partySize);
+            if (hold != null) {
+                return toResponse(hold);
+            }
+        }
+
+        throw new ResourceConflictException("No free tables available for a party of " + partySize);
+    }
+
+    @Override
+    public List<TableStateResponse> confirm(String holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || hold.isExpired()) {
+            throw new ResourceNotFoundException("Table hold", "id", holdId);
+        }
+
+        // Dentro de la transacción: si una mesa falla, el tablero revierte las anteriores
+        List<TableStateResponse> seated = new ArrayList<>();
+        for (Long tableId : hold.tableIds()) {
+            seated.add(tableBoardService.transition(tableId, TableStatus.FREE, TableStatus.SEATED));
+        }
+        release(hold);
+
+        log.info("Table hold {} confirmed: tables {} seated for party of {}",
+                holdId, hold.tableNumbers(), hold.partySize());
+        return seated;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void release(String holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new ResourceNotFoundException("Table hold", "id", holdId);
+        }
+        release(hold);
+        log.info("Table hold {} released", holdId);
+    }
+
+    @Scheduled(fixedRateString = "${app.table-allocation.hold-ms:60000}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void purgeExpiredHolds() {
+        for (Hold hold : holds.values()) {
+            if (hold.isExpired()) {
+                release(hold);
+                log.debug("Table hold {} expired", hold.id());
+            }
+        }
+    }
+
+    private Hold tryHold(List<TableStateResponse> candidates, int partySize) {
+        List<TableStateResponse> tables = candidates.stream()
+                .sorted(Comparator.comparing(TableStateResponse::id))
+                .toList();
+        List<Long> tableIds = tables.stream().map(TableStateResponse::id).toList();
+
+        // Un grupo sin reservación no puede ocupar una mesa reservada durante su estancia estimada
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusMinutes(walkInMinutes);
+        if (!tableIds.stream().allMatch(tableId -> reservationService.isTableFree(tableId, now, until))) {
+            return null;
+        }
+
+        Hold hold = new Hold(
+                UUID.randomUUID().toString(),
+                tableIds,
+                tables.stream().map(TableStateResponse::tableNumber).toList(),
+                partySize,
+                tables.stream().mapToInt(TableStateResponse::capacity).sum(),
+                LocalDateTime.now().plusNanos(holdMs * 1_000_000)
+        );
+
+        // Todas o ninguna: si otra retención ganó una mesa, se deshacen las ya tomadas
+        List<Long> acquired = new ArrayList<>();
+        for (Long tableId : tableIds) {
+            if (!acquire(tableId, hold)) {
+                acquired.forEach(id -> holdsByTable.remove(id, hold));
+                return null;
+            }
+            acquired.add(tableId);
+            // El índice puede ir un paso atrás del tablero; se confirma el estado ya con la mesa retenida
+            if (tableBoardService.getTableState(tableId).status() != TableStatus.FREE) {
+                acquired.forEach(id -> holdsByTable.remove(id, hold));
+                return null;
+            }
+        }
+        holds.put(hold.id(), hold);
+        log.info("Tables {} held for party of {} with hold {}", hold.tableNumbers(), partySize, hold.id());
+        return hold;
+    }
+
+    private boolean acquire(Long tableId, Hold hold) {
+        while (true) {
+            Hold existing = holdsByTable.putIfAbsent(tableId, hold);
+            if (existing == null) {
+                return true;
+            }
+            if (!existing.isExpired()) {
+                return false;
+            }
+            // Retención vencida: se reemplaza de forma atómica
+            if (holdsByTable.replace(tableId, existing, hold)) {
+                holds.remove(existing.id(), existing);
+                return true;
+            }
+        }
+    }
+
+    private void release(Hold hold) {
+        holds.remove(hold.id(), hold);
+        hold.tableIds().forEach(tableId -> holdsByTable.remove(tableId, hold));
+    }
+
+    private CapacityIndex currentIndex() {
+        TableBoardResponse board = tableBoardService.getBoard();
+        CapacityIndex current = index.get();
+        if (current.version() == board.version()) {
+            return current;
+        }
+
+        NavigableMap<Integer, List<Long>> byCapacity = new TreeMap<>();
+        Map<Long, TableStateResponse> tables = new HashMap<>();
+        for (TableStateResponse table : board.tables()) {
+            if (table.isActive() && table.status() == TableStatus.FREE && table.capacity() > 0) {
+                byCapacity.computeIfAbsent(table.capacity(), capacity -> new ArrayList<>()).add(table.id());
+                tables.put(table.id(), table);
+            }
+        }
+        CapacityIndex rebuilt = new CapacityIndex(board.version(), byCapacity, tables);
+        index.set(rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Grupos conexos de mesas libres en el grafo de adyacencia que alcanzan el tamaño del grupo,
+     * ordenados por capacidad total y luego por cantidad de mesas
+     */
+    private List<List<TableStateResponse>> combinations(CapacityIndex current, int partySize) {
+        if (adjacency.isEmpty() || maxCombinedTables < 2) {
+            return List.of();
+        }
+
+        Map<String, TableStateResponse> byNumber = new HashMap<>();
+        current.tables().values().forEach(table -> byNumber.put(table.tableNumber(), table));
+
+        Map<Set<Long>, List<TableStateResponse>> found = new HashMap<>();
+        for (TableStateResponse start : byNumber.values()) {
+            List<TableStateResponse> group = new ArrayList<>();
+            group.add(start);
+            expand(group, start.capacity(), partySize, byNumber, found);
+        }
+
+        List<List<TableStateResponse>> result = new ArrayList<>(found.values());
+        result.sort(Comparator.<List<TableStateResponse>>comparingInt(
+                        group -> group.stream().mapToInt(TableStateResponse::capacity).sum())
+                .thenComparingInt(List::size));
+        return result;
+    }
+
+    private void expand(List<TableStateResponse> group, int capacity, int partySize,
+                        Map<String, TableStateResponse> byNumber, Map<Set<Long>, List<TableStateResponse>> found) {
+        if (capacity >= partySize) {
+            if (group.size() > 1) {
+                Set<Long> key = new HashSet<>();
+                group.forEach(table -> key.add(table.id()));
+                found.putIfAbsent(key, List.copyOf(group));
+            }
+            return;
+        }
+        if (group.size() >= maxCombinedTables) {
+            return;
+        }
+
+        // Crecer el grupo con cualquier vecino libre de alguna de sus mesas
+        for (TableStateResponse member : List.copyOf(group)) {
+            for (String neighbourNumber : adjacency.getOrDefault(member.tableNumber(), Set.of())) {
+                TableStateResponse neighbour = byNumber.get(neighbourNumber);
+                if (neighbour == null || group.contains(neighbour)) {
+                    continue;
+                }
+                group.add(neighbour);
+                expand(group, capacity + neighbour.capacity(), partySize, byNumber, found);
+                group.remove(group.size() - 1);
+            }
+        }
+    }
+
+    private static Map<String, Set<String>> parseAdjacency(String value) {
+        Map<String, Set<String>> graph = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return Map.of();
+        }
+        for (String pair : value.split(",")) {
+            String[] ends = pair.trim().split(":");
+            if (ends.length != 2 || ends[0].isBlank() || ends[1].isBlank()) {
+                throw new IllegalArgumentException("Invalid table adjacency pair: " + pair);
+            }
+            String a = ends[0].trim();
+            String b = ends[1].trim();
+            graph.computeIfAbsent(a, key -> new HashSet<>()).add(b);
+            graph.computeIfAbsent(b, key -> new HashSet<>()).add(a);
+        }
+        Map<String, Set<String>> immutable = new HashMap<>();
+        graph.forEach((table, neighbours) -> immutable.put(table, Set.copyOf(neighbours)));
+        return Map.copyOf(immutable);
+    }
+
+    private AllocationResponse toResponse(Hold hold) {
+        return new AllocationResponse(hold.id(), hold.partySize(), hold.tableIds(), hold.tableNumbers(),
+                hold.totalCapacity(), hold.expiresAt());
+    }
+
+    private record Hold(
+            String id,
+            List<Long> tableIds,
+            List<String> tableNumbers,
+            int partySize,
+            int totalCapacity,
+            LocalDateTime expiresAt
+    ) {
+        boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+    }
+
+    private record CapacityIndex(
+            long version,
+            NavigableMap<Integer, List<Long>> byCapacity,
+            Map<Long, TableStateResponse> tables
+    ) {}
+}
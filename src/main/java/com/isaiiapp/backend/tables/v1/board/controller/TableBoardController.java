@@ -0,0 +1,57 @@
+package com.isaiiapp.backend.tables.v1.board.controller;
+
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableBoardResponse;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/tables/board")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class TableBoardController {
+
+    private final TableBoardService tableBoardService;
+
+    /**
+     * Obtener el tablero de ocupación completo
+     */
+    @GetMapping
+    public ResponseEntity<TableBoardResponse> getBoard() {
+        log.debug("REST request to get table board");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(tableBoardService.getBoard());
+    }
+
+    /**
+     * Canal SSE: envía el tablero al conectar y luego un evento por cada cambio de mesa
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.debug("REST request to subscribe to table board stream");
+        return tableBoardService.subscribe();
+    }
+
+    /**
+     * Avanzar una mesa en el ciclo de ocupación
+     * Con expected, la transición solo se aplica si la mesa sigue en ese estado
+     */
+    @PostMapping("/{id}/transition")
+    public ResponseEntity<TableStateResponse> transition(@PathVariable Long id,
+                                                         @RequestParam String to,
+                                                         @RequestParam(required = false) String expected) {
+        log.debug("REST request to transition table ID: {} to {}", id, to);
+        TableStatus expectedStatus = expected != null ? TableStatus.fromValue(expected) : null;
+        TableStateResponse response = tableBoardService.transition(id, expectedStatus, TableStatus.fromValue(to));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,9 @@
+package com.isaiiapp.backend.tables.v1.board.event;
+
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+
+/**
+ * Evento publicado cuando el tablero cambia el estado de ocupación de una mesa
+ */
+public record TableStatusChangedEvent(Long tableId, TableStatus previous, TableStatus status, long version) {
+}
@@ -0,0 +1,65 @@
+package com.isaiiapp.backend.tables.v1.board.service;
+
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+public interface TableBoardService {
+
+    /**
+     * Obtener el estado de ocupación de todas las mesas
+     */
+    TableBoardResponse getBoard();
+
+    /**
+     * Obtener el estado de ocupación de una mesa
+     */
+    TableStateResponse getTableState(Long tableId);
+
+    /**
+     * Buscar mesas del tablero con paginación
+     */
+    Page<TableStateResponse> findTables(Predicate<TableStateResponse> filter, Pageable pageable);
+
+    /**
+     * Avanzar el estado de una mesa según el ciclo de ocupación
+     * Si se indica el estado esperado y la mesa ya no está en él, la transición se rechaza
+     */
+    TableStateResponse transition(Long tableId, TableStatus expected, TableStatus target);
+
+    /**
+     * Fijar el estado de una mesa sin validar el ciclo (corrección administrativa)
+     */
+    TableStateResponse setStatus(Long tableId, TableStatus status);
+
+    /**
+     * Suscribirse al canal SSE de cambios del tablero
+     */
+    SseEmitter subscribe();
+
+    /**
+     * Recargar las mesas desde la base de datos conservando los estados en memoria
+     */
+    void reload();
+
+    // DTOs
+    record TableStateResponse(
+            Long id,
+            String tableNumber,
+            Integer capacity,
+            Boolean isActive,
+            TableStatus status,
+            LocalDateTime statusSince,
+            long version
+    ) {}
+
+    record TableBoardResponse(
+            long version,
+            List<TableStateResponse> tables
+    ) {}
+}
@@ -0,0 +1,316 @@
+package com.isaiiapp.backend.tables.v1.board.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceConflictException;
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.tables.v1.board.event.TableStatusChangedEvent;
+import com.isaiiapp.backend.tables.v1.tables.event.TablesChangedEvent;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import com.isaiiapp.backend.tables.v1.tables.model.Tables;
+import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+@Service
+@Slf4j
+@Transactional
+public class TableBoardServiceImpl implements TableBoardService {
+
+    public static final String BOARD_EVENT = "board";
+    public static final String TABLE_EVENT = "table";
+
+    private static final Map<String, Comparator<TableStateResponse>> SORTS = Map.of(
+            "id", Comparator.comparing(TableStateResponse::id),
+            "tableNumber", Comparator.comparing(TableStateResponse::tableNumber),
+            "capacity", Comparator.comparing(TableStateResponse::capacity),
+            "isActive", Comparator.comparing(TableStateResponse::isActive),
+            "status", Comparator.comparing(TableStateResponse::status)
+    );
+
+    private final TablesRepository tablesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long streamTimeoutMs;
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // Distribución de mesas: se reemplaza completa al recargar; las celdas de estado se conservan
+    private volatile Layout layout = new Layout(new Slot[0], Map.of());
+
+    public TableBoardServiceImpl(
+            TablesRepository tablesRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.table-board.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this.tablesRepository = tablesRepository;
+        this.eventPublisher = eventPublisher;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TableBoardResponse getBoard() {
+        // La versión se lee antes que las celdas: un delta posterior nunca queda oculto
+        long boardVersion = version.get();
+        Slot[] slots = layout.slots();
+        List<TableStateResponse> tables = new ArrayList<>(slots.length);
+        for (Slot slot : slots) {
+            tables.add(toResponse(slot, slot.state().get()));
+        }
+        return new TableBoardResponse(boardVersion, tables);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TableStateResponse getTableState(Long tableId) {
+        Slot slot = requireSlot(tableId);
+        return toResponse(slot, slot.state().get());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<TableStateResponse> findTables(Predicate<TableStateResponse> filter, Pageable pageable) {
+        List<TableStateResponse> matches = getBoard().tables().stream().filter(filter).toList();
+
+        Comparator<TableStateResponse> comparator = null;
+        for (Sort.Order order : pageable.getSort()) {
+            Comparator<TableStateResponse> next = SORTS.get(order.getProperty());
+            if (next == null) {
+                throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator != null) {
+            matches = matches.stream().sorted(comparator).toList();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    @Override
+    public TableStateResponse transition(Long tableId, TableStatus expected, TableStatus target) {
+        Slot slot = requireSlot(tableId);
+        if (!slot.active()) {
+            throw new ResourceConflictException("Table is not active: " + slot.tableNumber());
+        }
+
+        // Compare-and-set sobre la celda: entre anfitriones concurrentes solo uno gana cada transición
+        while (true) {
+            TableState current = slot.state().get();
+            if (expected != null && current.status() != expected) {
+                throw new ResourceConflictException(String.format("Table %s is %s, expected %s",
+                        slot.tableNumber(), current.status(), expected));
+            }
+            if (!current.status().canTransitionTo(target)) {
+                throw new IllegalArgumentException(String.format("Invalid table status transition: %s -> %s",
+                        current.status(), target));
+            }
+            TableState next = new TableState(target, LocalDateTime.now(), version.incrementAndGet());
+            if (slot.state().compareAndSet(current, next)) {
+                writeThrough(slot, current, next);
+                return toResponse(slot, next);
+            }
+        }
+    }
+
+    @Override
+    public TableStateResponse setStatus(Long tableId, TableStatus status) {
+        Slot slot = requireSlot(tableId);
+        TableState next = new TableState(status, LocalDateTime.now(), version.incrementAndGet());
+        TableState current = slot.state().getAndSet(next);
+        writeThrough(slot, current, next);
+        return toResponse(slot, next);
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> {
+            emitters.remove(emitter);
+            emitter.complete();
+        });
+        emitter.onError(error -> emitters.remove(emitter));
+
+        // Registrar antes de enviar el tablero: un delta concurrente puede llegar primero,
+        // pero el cliente descarta estados con versión menor a la que ya tiene por mesa
+        emitters.add(emitter);
+        if (!send(emitter, BOARD_EVENT, String.valueOf(version.get()), getBoard())) {
+            emitters.remove(emitter);
+        }
+        log.debug("Table board stream subscribed, {} active subscribers", emitters.size());
+        return emitter;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        Map<Long, Slot> previous = layout.byId();
+        List<Tables> tables = tablesRepository.findAll(Sort.by("id"));
+
+        Slot[] slots = new Slot[tables.size()];
+        Map<Long, Slot> byId = new HashMap<>(tables.size() * 2);
+        for (int i = 0; i < tables.size(); i++) {
+            Tables table = tables.get(i);
+            Slot existing = previous.get(table.getId());
+            // Mientras la aplicación corre, la celda en memoria es la fuente de verdad del estado
+            AtomicReference<TableState> state = existing != null
+                    ? existing.state()
+                    : new AtomicReference<>(new TableState(table.getStatus(), LocalDateTime.now(), 0L));
+            Slot slot = new Slot(table.getId(), table.getTableNumber(), table.getCapacity(),
+                    Boolean.TRUE.equals(table.getIsActive()), state);
+            slots[i] = slot;
+            byId.put(slot.id(), slot);
+        }
+        layout = new Layout(slots, Map.copyOf(byId));
+        version.incrementAndGet();
+
+        log.debug("Table board reloaded with {} tables", slots.length);
+        broadcast(BOARD_EVENT, String.valueOf(version.get()), getBoard());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+        log.info("Table board loaded with {} tables", layout.slots().length);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTablesChanged(TablesChangedEvent event) {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TableStatusChangedEvent event) {
+        Slot slot = layout.byId().get(event.tableId());
+        if (slot == null) {
+            return;
+        }
+        TableState state = slot.state().get();
+        // Si ya hubo un cambio posterior, ese cambio publicará su propio delta
+        if (state.version() == event.version()) {
+            TableStateResponse response = toResponse(slot, state);
+            broadcast(TABLE_EVENT, String.valueOf(state.version()), response);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onStatusChangeRolledBack(TableStatusChangedEvent event) {
+        Slot slot = layout.byId().get(event.tableId());
+        if (slot == null) {
+            return;
+        }
+        // Deshacer solo si nadie avanzó la mesa después de este cambio
+        TableState state = slot.state().get();
+        if (state.version() == event.version()) {
+            slot.state().compareAndSet(state,
+                    new TableState(event.previous(), LocalDateTime.now(), version.incrementAndGet()));
+            log.warn("Table status change rolled back for table ID: {} ({} -> {})",
+                    event.tableId(), event.status(), event.previous());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.table-board.heartbeat-ms:15000}")
+    public void heartbeat() {
+        // Mantiene viva la conexión a través de proxies y detecta clientes desconectados
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void writeThrough(Slot slot, TableState current, TableState next) {
+        try {
+            tablesRepository.updateStatus(slot.id(), next.status());
+        } catch (RuntimeException e) {
+            // Sin el evento no habrá deshacer al revertir la transacción: restaurar la celda aquí,
+            // salvo que otro cambio ya la haya avanzado
+            slot.state().compareAndSet(next, current);
+            log.warn("Table {} status change {} -> {} failed to persist, board cell restored",
+                    slot.tableNumber(), current.status(), next.status());
+            throw e;
+        }
+        eventPublisher.publishEvent(new TableStatusChangedEvent(
+                slot.id(), current.status(), next.status(), next.version()));
+        log.info("Table {} status changed: {} -> {}", slot.tableNumber(), current.status(), next.status());
+    }
+
+    private Slot requireSlot(Long tableId) {
+        Slot slot = layout.byId().get(tableId);
+        if (slot == null) {
+            throw new ResourceNotFoundException("Table", "id", tableId);
+        }
+        return slot;
+    }
+
+    private void broadcast(String name, String id, Object data) {
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, name, id, data)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, String id, Object data) {
+        try {
+            emitter.send(SseEmitter.event().id(id).name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping table board subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private TableStateResponse toResponse(Slot slot, TableState state) {
+        return new TableStateResponse(slot.id(), slot.tableNumber(), slot.capacity(), slot.active(),
+                state.status(), state.since(), state.version());
+    }
+
+    /**
+     * Estado inmutable de una mesa; la celda se reemplaza completa con compare-and-set
+     */
+    private record TableState(TableStatus status, LocalDateTime since, long version) {}
+
+    private record Slot(Long id, String tableNumber, Integer capacity, boolean active,
+                        AtomicReference<TableState> state) {}
+
+    private record Layout(Slot[] slots, Map<Long, Slot> byId) {}
+}
@@ -0,0 +1,86 @@
+package com.isaiiapp.backend.tables.v1.reservation.controller;
+
+import com.isaiiapp.backend.tables.v1.reservation.dto.request.CreateReservationRequest;
+import com.isaiiapp.backend.tables.v1.reservation.dto.response.ReservationResponse;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationService;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationService.DayViewResponse;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationService.TableAvailabilityResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/tables/reservations")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> createReservation(@Valid @RequestBody CreateReservationRequest request) {
+        log.debug("REST request to create reservation: {}", request.getCustomerName());
+        ReservationResponse response = reservationService.createReservation(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ReservationResponse> getReservationById(@PathVariable Long id) {
+        log.debug("REST request to get reservation: {}", id);
+        return reservationService.getReservationById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<ReservationResponse> cancelReservation(@PathVariable Long id) {
+        log.debug("REST request to cancel reservation: {}", id);
+        return ResponseEntity.ok(reservationService.cancelReservation(id));
+    }
+
+    @PatchMapping("/{id}/no-show")
+    public ResponseEntity<ReservationResponse> markNoShow(@PathVariable Long id) {
+        log.debug("REST request to mark reservation as no-show: {}", id);
+        return ResponseEntity.ok(reservationService.markNoShow(id));
+    }
+
+    @PatchMapping("/{id}/seat")
+    public ResponseEntity<ReservationResponse> seatReservation(@PathVariable Long id) {
+        log.debug("REST request to seat reservation: {}", id);
+        return ResponseEntity.ok(reservationService.seatReservation(id));
+    }
+
+    /**
+     * Mesas con horarios libres para un grupo dentro de una ventana de tiempo
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<TableAvailabilityResponse>> searchAvailability(
+            @RequestParam int partySize,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer durationMinutes) {
+        log.debug("REST request to search reservation availability for party of {} between {} and {}",
+                partySize, from, to);
+        return ResponseEntity.ok(reservationService.searchAvailability(partySize, from, to, durationMinutes));
+    }
+
+    /**
+     * Reservaciones de un día de negocio agrupadas por mesa
+     */
+    @GetMapping("/day")
+    public ResponseEntity<DayViewResponse> getDayView(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean includeReleased) {
+        log.debug("REST request to get reservation day view for {}", date);
+        return ResponseEntity.ok(reservationService.getDayView(date, includeReleased));
+    }
+}
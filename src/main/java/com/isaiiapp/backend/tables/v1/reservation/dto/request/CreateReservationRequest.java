@@ -0,0 +1,44 @@
+package com.isaiiapp.backend.tables.v1.reservation.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CreateReservationRequest {
+
+    // Opcional: sin mesa se asigna la de mejor ajuste libre en el horario
+    private Long tableId;
+
+    @NotBlank(message = "Customer name should not be blank")
+    @Size(max = 100, message = "Customer name should not exceed 100 characters")
+    private String customerName;
+
+    @Size(max = 20, message = "Customer phone should not exceed 20 characters")
+    private String customerPhone;
+
+    @NotNull(message = "Party size should not be null")
+    @Min(value = 1, message = "Party size must be at least 1")
+    private Integer partySize;
+
+    @NotNull(message = "Starts at should not be null")
+    @Future(message = "Starts at must be in the future")
+    private LocalDateTime startsAt;
+
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    @Max(value = 480, message = "Duration should not exceed 480 minutes")
+    private Integer durationMinutes;
+
+    @Size(max = 255, message = "Notes should not exceed 255 characters")
+    private String notes;
+}
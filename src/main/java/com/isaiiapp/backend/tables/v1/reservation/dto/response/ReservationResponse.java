@@ -0,0 +1,25 @@
+package com.isaiiapp.backend.tables.v1.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ReservationResponse {
+
+    private Long id;
+    private Long tableId;
+    private String tableNumber;
+    private String customerName;
+    private String customerPhone;
+    private Integer partySize;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private String status;
+    private String notes;
+    private LocalDateTime createdAt;
+}
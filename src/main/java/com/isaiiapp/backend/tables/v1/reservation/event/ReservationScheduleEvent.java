@@ -0,0 +1,9 @@
+package com.isaiiapp.backend.tables.v1.reservation.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado cuando una reservación entra o sale de la agenda de su mesa
+ */
+public record ReservationScheduleEvent(Long reservationId, Long tableId, LocalDateTime startsAt, boolean booked) {
+}
@@ -0,0 +1,44 @@
+package com.isaiiapp.backend.tables.v1.reservation.mapper;
+
+import com.isaiiapp.backend.tables.v1.reservation.dto.request.CreateReservationRequest;
+import com.isaiiapp.backend.tables.v1.reservation.dto.response.ReservationResponse;
+import com.isaiiapp.backend.tables.v1.reservation.model.Reservation;
+import com.isaiiapp.backend.tables.v1.reservation.model.ReservationStatus;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReservationMapper {
+
+    /**
+     * Convertir CreateReservationRequest a Reservation entity (sin mesa ni horario final)
+     */
+    public Reservation toEntity(CreateReservationRequest request) {
+        Reservation reservation = new Reservation();
+        reservation.setCustomerName(request.getCustomerName());
+        reservation.setCustomerPhone(request.getCustomerPhone());
+        reservation.setPartySize(request.getPartySize());
+        reservation.setStartsAt(request.getStartsAt());
+        reservation.setNotes(request.getNotes());
+        reservation.setStatus(ReservationStatus.BOOKED);
+        return reservation;
+    }
+
+    /**
+     * Convertir Reservation entity a ReservationResponse
+     */
+    public ReservationResponse toResponse(Reservation reservation) {
+        ReservationResponse response = new ReservationResponse();
+        response.setId(reservation.getId());
+        response.setTableId(reservation.getTable().getId());
+        response.setTableNumber(reservation.getTable().getTableNumber());
+        response.setCustomerName(reservation.getCustomerName());
+        response.setCustomerPhone(reservation.getCustomerPhone());
+        response.setPartySize(reservation.getPartySize());
+        response.setStartsAt(reservation.getStartsAt());
+        response.setEndsAt(reservation.getEndsAt());
+        response.setStatus(reservation.getStatus().name());
+        response.setNotes(reservation.getNotes());
+        response.setCreatedAt(reservation.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,79 @@
+package com.isaiiapp.backend.tables.v1.reservation.model;
+
+import com.isaiiapp.backend.tables.v1.tables.model.Tables;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reservación de una mesa en [startsAt, endsAt)
+ */
+@Entity
+@Table(schema = "tables", name = "reservations",
+        indexes = {
+                @Index(columnList = "table_id, starts_at", name = "fk_reservations_tables_idx"),
+                @Index(columnList = "starts_at", name = "reservations_starts_at_idx")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq_gen")
+    @SequenceGenerator(name = "reservations_seq_gen", schema = "tables", sequenceName = "reservations_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @NotNull(message = "Table should not be null")
+    @JoinColumn(name = "table_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_reservations_tables"))
+    private Tables table;
+
+    @NotNull(message = "Customer name should not be null")
+    @Size(max = 100, message = "Customer name should not exceed 100 characters")
+    @Column(name = "customer_name", nullable = false, length = 100)
+    private String customerName;
+
+    @Size(max = 20, message = "Customer phone should not exceed 20 characters")
+    @Column(name = "customer_phone", length = 20)
+    private String customerPhone;
+
+    @NotNull(message = "Party size should not be null")
+    @Min(value = 1, message = "Party size must be at least 1")
+    @Column(name = "party_size", nullable = false)
+    private Integer partySize;
+
+    @NotNull(message = "Starts at should not be null")
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @NotNull(message = "Ends at should not be null")
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @NotNull(message = "Status should not be null")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReservationStatus status;
+
+    @Size(max = 255, message = "Notes should not exceed 255 characters")
+    @Column(length = 255)
+    private String notes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
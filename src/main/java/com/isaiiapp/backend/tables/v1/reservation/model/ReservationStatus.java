@@ -0,0 +1,20 @@
+package com.isaiiapp.backend.tables.v1.reservation.model;
+
+/**
+ * Estado de una reservación
+ */
+public enum ReservationStatus {
+    /** Reservada, pendiente de llegada */
+    BOOKED,
+    /** El grupo llegó y ocupa la mesa */
+    SEATED,
+    CANCELLED,
+    NO_SHOW;
+
+    /**
+     * La reservación sigue bloqueando la mesa en su horario
+     */
+    public boolean holdsTable() {
+        return this == BOOKED || this == SEATED;
+    }
+}
@@ -0,0 +1,30 @@
+package com.isaiiapp.backend.tables.v1.reservation.repository;
+
+import com.isaiiapp.backend.tables.v1.reservation.model.Reservation;
+import com.isaiiapp.backend.tables.v1.reservation.model.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    // Filas mínimas para la agenda en memoria: id, mesa, inicio, fin
+    @Query("SELECT r.id, r.table.id, r.startsAt, r.endsAt FROM Reservation r " +
+            "WHERE r.status IN :statuses AND r.endsAt > :after")
+    List<Object[]> findScheduleRows(@Param("statuses") Collection<ReservationStatus> statuses,
+                                    @Param("after") LocalDateTime after);
+
+    // Vista del día en una sola consulta, con la mesa ya cargada
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.table t " +
+            "WHERE r.startsAt < :to AND r.endsAt > :from AND r.status IN :statuses " +
+            "ORDER BY t.tableNumber, r.startsAt")
+    List<Reservation> findDayView(@Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("statuses") Collection<ReservationStatus> statuses);
+}
@@ -0,0 +1,133 @@
+package com.isaiiapp.backend.tables.v1.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agenda en memoria de reservaciones por mesa.
+ * Los intervalos de una mesa nunca se solapan, así que un árbol ordenado por inicio basta como árbol
+ * de intervalos: el único candidato a choque es el último que empieza antes del fin buscado (O(log n)).
+ */
+public final class ReservationSchedule {
+
+    private final Duration buffer;
+    private final Map<Long, TreeMap<LocalDateTime, Booking>> byTable = new ConcurrentHashMap<>();
+
+    public ReservationSchedule(Duration buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Agregar la reservación si no choca con otra de la misma mesa (incluyendo el margen entre turnos)
+     */
+    public boolean tryAdd(Long tableId, Booking booking) {
+        TreeMap<LocalDateTime, Booking> bookings = byTable.computeIfAbsent(tableId, id -> new TreeMap<>());
+        synchronized (bookings) {
+            if (conflicts(bookings, booking.start(), booking.end())) {
+                return false;
+            }
+            bookings.put(booking.start(), booking);
+            return true;
+        }
+    }
+
+    public void remove(Long tableId, Long reservationId, LocalDateTime start) {
+        TreeMap<LocalDateTime, Booking> bookings = byTable.get(tableId);
+        if (bookings == null) {
+            return;
+        }
+        synchronized (bookings) {
+            Booking booking = bookings.get(start);
+            if (booking != null && booking.reservationId().equals(reservationId)) {
+                bookings.remove(start);
+            }
+        }
+    }
+
+    /**
+     * Verificar que la mesa no tenga reservaciones en [from, to)
+     */
+    public boolean isFree(Long tableId, LocalDateTime from, LocalDateTime to) {
+        TreeMap<LocalDateTime, Booking> bookings = byTable.get(tableId);
+        if (bookings == null) {
+            return true;
+        }
+        synchronized (bookings) {
+            return !conflicts(bookings, from, to);
+        }
+    }
+
+    /**
+     * Huecos de al menos la duración indicada dentro de [from, to)
+     */
+    public List<Window> freeWindows(Long tableId, LocalDateTime from, LocalDateTime to, Duration duration) {
+        List<Booking> overlapping = between(tableId, from, to);
+
+        List<Window> windows = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (Booking booking : overlapping) {
+            LocalDateTime gapEnd = booking.start().minus(buffer);
+            if (!gapEnd.isBefore(cursor.plus(duration))) {
+                windows.add(new Window(cursor, gapEnd));
+            }
+            LocalDateTime next = booking.end().plus(buffer);
+            if (next.isAfter(cursor)) {
+                cursor = next;
+            }
+        }
+        if (!to.isBefore(cursor.plus(duration))) {
+            windows.add(new Window(cursor, to));
+        }
+        return windows;
+    }
+
+    /**
+     * Reservaciones de la mesa que se cruzan con [from, to), incluyendo el margen
+     */
+    public List<Booking> between(Long tableId, LocalDateTime from, LocalDateTime to) {
+        TreeMap<LocalDateTime, Booking> bookings = byTable.get(tableId);
+        if (bookings == null) {
+            return List.of();
+        }
+        synchronized (bookings) {
+            LocalDateTime start = bookings.lowerKey(from);
+            List<Booking> result = new ArrayList<>();
+            for (Booking booking : bookings.subMap(start != null ? start : from, true, to.plus(buffer), false).values()) {
+                if (booking.end().plus(buffer).isAfter(from)) {
+                    result.add(booking);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Descartar reservaciones terminadas antes del instante indicado
+     */
+    public void purgeBefore(LocalDateTime instant) {
+        for (TreeMap<LocalDateTime, Booking> bookings : byTable.values()) {
+            synchronized (bookings) {
+                bookings.values().removeIf(booking -> booking.end().isBefore(instant));
+            }
+        }
+    }
+
+    public void clear() {
+        byTable.clear();
+    }
+
+    private boolean conflicts(TreeMap<LocalDateTime, Booking> bookings, LocalDateTime start, LocalDateTime end) {
+        // Los fines crecen con los inicios: basta revisar la última que empieza antes del fin con margen
+        Map.Entry<LocalDateTime, Booking> candidate = bookings.lowerEntry(end.plus(buffer));
+        return candidate != null && candidate.getValue().end().plus(buffer).isAfter(start);
+    }
+
+    public record Booking(Long reservationId, LocalDateTime start, LocalDateTime end) {}
+
+    public record Window(LocalDateTime start, LocalDateTime end) {}
+}
@@ -0,0 +1,76 @@
+package com.isaiiapp.backend.tables.v1.reservation.service;
+
+import com.isaiiapp.backend.tables.v1.reservation.dto.request.CreateReservationRequest;
+import com.isaiiapp.backend.tables.v1.reservation.dto.response.ReservationResponse;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationSchedule.Window;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationService {
+
+    /**
+     * Crear reservación; sin mesa indicada se asigna la de mejor ajuste libre en el horario
+     */
+    ReservationResponse createReservation(CreateReservationRequest request);
+
+    /**
+     * Obtener reservación por ID
+     */
+    Optional<ReservationResponse> getReservationById(Long id);
+
+    /**
+     * Cancelar reservación
+     */
+    ReservationResponse cancelReservation(Long id);
+
+    /**
+     * Marcar que el grupo no se presentó
+     */
+    ReservationResponse markNoShow(Long id);
+
+    /**
+     * Sentar al grupo de la reservación: la mesa pasa a sentada en el tablero
+     */
+    ReservationResponse seatReservation(Long id);
+
+    /**
+     * Buscar mesas con horarios libres para un grupo dentro de una ventana de tiempo
+     */
+    List<TableAvailabilityResponse> searchAvailability(int partySize, LocalDateTime from, LocalDateTime to,
+                                                       Integer durationMinutes);
+
+    /**
+     * Obtener las reservaciones de un día de negocio agrupadas por mesa
+     */
+    DayViewResponse getDayView(LocalDate businessDay, boolean includeReleased);
+
+    /**
+     * Verificar que la mesa no tenga reservaciones en [from, to)
+     */
+    boolean isTableFree(Long tableId, LocalDateTime from, LocalDateTime to);
+
+    // DTOs
+    record TableAvailabilityResponse(
+            Long tableId,
+            String tableNumber,
+            Integer capacity,
+            List<Window> freeWindows
+    ) {}
+
+    record TableDayView(
+            Long tableId,
+            String tableNumber,
+            Integer capacity,
+            List<ReservationResponse> reservations
+    ) {}
+
+    record DayViewResponse(
+            LocalDate businessDay,
+            LocalDateTime from,
+            LocalDateTime to,
+            List<TableDayView> tables
+    ) {}
+}
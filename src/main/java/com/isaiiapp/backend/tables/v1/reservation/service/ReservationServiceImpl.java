@@ -0,0 +1,290 @@
+package com.isaiiapp.backend.tables.v1.reservation.service;
+
+import com.isaiiapp.backend.auth.v1.exception.ResourceConflictException;
+import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.order.v1.rollup.service.BusinessDayClock;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+import com.isaiiapp.backend.tables.v1.reservation.dto.request.CreateReservationRequest;
+import com.isaiiapp.backend.tables.v1.reservation.dto.response.ReservationResponse;
+import com.isaiiapp.backend.tables.v1.reservation.event.ReservationScheduleEvent;
+import com.isaiiapp.backend.tables.v1.reservation.mapper.ReservationMapper;
+import com.isaiiapp.backend.tables.v1.reservation.model.Reservation;
+import com.isaiiapp.backend.tables.v1.reservation.model.ReservationStatus;
+import com.isaiiapp.backend.tables.v1.reservation.repository.ReservationRepository;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationSchedule.Booking;
+import com.isaiiapp.backend.tables.v1.reservation.service.ReservationSchedule.Window;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import com.isaiiapp.backend.tables.v1.tables.model.Tables;
+import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Slf4j
+@Transactional
+public class ReservationServiceImpl implements ReservationService {
+
+    private static final Set<ReservationStatus> ACTIVE_STATUSES = EnumSet.of(ReservationStatus.BOOKED, ReservationStatus.SEATED);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationMapper reservationMapper;
+    private final TablesRepository tablesRepository;
+    private final TableBoardService tableBoardService;
+    private final BusinessDayClock businessDayClock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultDurationMinutes;
+    private final int maxSearchDays;
+    private final ReservationSchedule schedule;
+
+    public ReservationServiceImpl(
+            ReservationRepository reservationRepository,
+            ReservationMapper reservationMapper,
+            TablesRepository tablesRepository,
+            TableBoardService tableBoardService,
+            BusinessDayClock businessDayClock,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.reservations.default-duration-minutes:90}") int defaultDurationMinutes,
+            @Value("${app.reservations.buffer-minutes:15}") int bufferMinutes,
+            @Value("${app.reservations.max-search-days:7}") int maxSearchDays) {
+        this.reservationRepository = reservationRepository;
+        this.reservationMapper = reservationMapper;
+        this.tablesRepository = tablesRepository;
+        this.tableBoardService = tableBoardService;
+        this.businessDayClock = businessDayClock;
+        this.eventPublisher = eventPublisher;
+        this.defaultDurationMinutes = defaultDurationMinutes;
+        this.maxSearchDays = maxSearchDays;
+        this.schedule = new ReservationSchedule(Duration.ofMinutes(bufferMinutes));
+    }
+
+    @Override
+    public ReservationResponse createReservation(CreateReservationRequest request) {
+        log.info("Creating reservation for {} at {} (party of {})",
+                request.getCustomerName(), request.getStartsAt(), request.getPartySize());
+
+        int duration = request.getDurationMinutes() != null ? request.getDurationMinutes() : defaultDurationMinutes;
+        Reservation reservation = reservationMapper.toEntity(request);
+        reservation.setEndsAt(request.getStartsAt().plusMinutes(duration));
+
+        List<Tables> candidates = candidateTables(request.getTableId(), request.getPartySize());
+        if (candidates.isEmpty()) {
+            throw new ResourceConflictException("No active table fits a party of " + request.getPartySize());
+        }
+
+        // El id se asigna al persistir (secuencia); el INSERT sale con la mesa que finalmente quede
+        reservation.setTable(candidates.get(0));
+        Reservation saved = reservationRepository.save(reservation);
+
+        for (Tables table : candidates) {
+            Booking booking = new Booking(saved.getId(), saved.getStartsAt(), saved.getEndsAt());
+            if (schedule.tryAdd(table.getId(), booking)) {
+                saved.setTable(table);
+                eventPublisher.publishEvent(new ReservationScheduleEvent(
+                        saved.getId(), table.getId(), saved.getStartsAt(), true));
+                log.info("Reservation created successfully with ID: {} on table {}", saved.getId(), table.getTableNumber());
+                return reservationMapper.toResponse(saved);
+            }
+        }
+
+        throw new ResourceConflictException(request.getTableId() != null
+                ? "Table is already reserved at " + request.getStartsAt()
+                : "No table available for a party of " + request.getPartySize() + " at " + request.getStartsAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReservationResponse> getReservationById(Long id) {
+        return reservationRepository.findById(id)
+                .map(reservationMapper::toResponse);
+    }
+
+    @Override
+    public ReservationResponse cancelReservation(Long id) {
+        log.info("Cancelling reservation with ID: {}", id);
+        return release(id, ReservationStatus.CANCELLED, ACTIVE_STATUSES);
+    }
+
+    @Override
+    public ReservationResponse markNoShow(Long id) {
+        log.info("Marking reservation with ID: {} as no-show", id);
+        return release(id, ReservationStatus.NO_SHOW, EnumSet.of(ReservationStatus.BOOKED));
+    }
+
+    @Override
+    public ReservationResponse seatReservation(Long id) {
+        log.info("Seating reservation with ID: {}", id);
+
+        Reservation reservation = findReservation(id);
+        if (reservation.getStatus() != ReservationStatus.BOOKED) {
+            throw new ResourceConflictException("Reservation cannot be seated from status: " + reservation.getStatus());
+        }
+
+        // La reservación sigue bloqueando la mesa hasta su hora de fin
+        tableBoardService.transition(reservation.getTable().getId(), TableStatus.FREE, TableStatus.SEATED);
+        reservation.setStatus(ReservationStatus.SEATED);
+
+        log.info("Reservation seated successfully with ID: {}", id);
+        return reservationMapper.toResponse(reservation);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TableAvailabilityResponse> searchAvailability(int partySize, LocalDateTime from, LocalDateTime to,
+                                                              Integer durationMinutes) {
+        if (partySize < 1) {
+            throw new IllegalArgumentException("Party size must be at least 1");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Search window start must be before its end");
+        }
+        if (Duration.between(from, to).toDays() > maxSearchDays) {
+            throw new IllegalArgumentException("Search window should not exceed " + maxSearchDays + " days");
+        }
+        Duration duration = Duration.ofMinutes(durationMinutes != null ? durationMinutes : defaultDurationMinutes);
+
+        // Mejor ajuste primero: menor capacidad que alcanza
+        List<TableAvailabilityResponse> result = new ArrayList<>();
+        for (TableStateResponse table : fittingTables(partySize)) {
+            List<Window> windows = schedule.freeWindows(table.id(), from, to, duration);
+            if (!windows.isEmpty()) {
+                result.add(new TableAvailabilityResponse(table.id(), table.tableNumber(), table.capacity(), windows));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DayViewResponse getDayView(LocalDate businessDay, boolean includeReleased) {
+        LocalDateTime from = businessDay.atStartOfDay().plusHours(businessDayClock.getStartHour());
+        LocalDateTime to = from.plusDays(1);
+        Set<ReservationStatus> statuses = includeReleased ? EnumSet.allOf(ReservationStatus.class) : ACTIVE_STATUSES;
+
+        Map<Long, List<ReservationResponse>> byTable = new LinkedHashMap<>();
+        for (Reservation reservation : reservationRepository.findDayView(from, to, statuses)) {
+            byTable.computeIfAbsent(reservation.getTable().getId(), tableId -> new ArrayList<>())
+                    .add(reservationMapper.toResponse(reservation));
+        }
+
+        // Todas las mesas activas aparecen, aunque no tengan reservaciones
+        List<TableDayView> tables = new ArrayList<>();
+        for (TableStateResponse table : tableBoardService.getBoard().tables()) {
+            List<ReservationResponse> reservations = byTable.getOrDefault(table.id(), List.of());
+            if (table.isActive() || !reservations.isEmpty()) {
+                tables.add(new TableDayView(table.id(), table.tableNumber(), table.capacity(), reservations));
+            }
+        }
+        tables.sort(Comparator.comparing(TableDayView::tableNumber));
+        return new DayViewResponse(businessDay, from, to, tables);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isTableFree(Long tableId, LocalDateTime from, LocalDateTime to) {
+        return schedule.isFree(tableId, from, to);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        schedule.clear();
+        int loaded = 0;
+        for (Object[] row : reservationRepository.findScheduleRows(ACTIVE_STATUSES, LocalDateTime.now())) {
+            Booking booking = new Booking((Long) row[0], (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            if (schedule.tryAdd((Long) row[1], booking)) {
+                loaded++;
+            } else {
+                log.warn("Reservation ID: {} overlaps another booking on table ID: {}", row[0], row[1]);
+            }
+        }
+        log.info("Reservation schedule loaded with {} upcoming reservations", loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleReleased(ReservationScheduleEvent event) {
+        // Solo tras confirmar la liberación: si la transacción falla, la mesa sigue reservada
+        if (!event.booked()) {
+            schedule.remove(event.tableId(), event.reservationId(), event.startsAt());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onScheduleRolledBack(ReservationScheduleEvent event) {
+        // La reservación nunca se guardó: se quita de la agenda en memoria
+        if (event.booked()) {
+            schedule.remove(event.tableId(), event.reservationId(), event.startsAt());
+        }
+    }
+
+    @Scheduled(cron = "${app.reservations.purge-cron:0 0 * * * *}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void purgeFinished() {
+        schedule.purgeBefore(LocalDateTime.now());
+    }
+
+    private ReservationResponse release(Long id, ReservationStatus status, Set<ReservationStatus> allowedFrom) {
+        Reservation reservation = findReservation(id);
+        if (!allowedFrom.contains(reservation.getStatus())) {
+            throw new ResourceConflictException(String.format("Reservation cannot change from %s to %s",
+                    reservation.getStatus(), status));
+        }
+
+        reservation.setStatus(status);
+        eventPublisher.publishEvent(new ReservationScheduleEvent(
+                reservation.getId(), reservation.getTable().getId(), reservation.getStartsAt(), false));
+
+        log.info("Reservation with ID: {} changed to {}", id, status);
+        return reservationMapper.toResponse(reservation);
+    }
+
+    private Reservation findReservation(Long id) {
+        return reservationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Reservation", "id", id));
+    }
+
+    private List<Tables> candidateTables(Long tableId, int partySize) {
+        if (tableId != null) {
+            Tables table = tablesRepository.findById(tableId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Table", "id", tableId));
+            if (!Boolean.TRUE.equals(table.getIsActive())) {
+                throw new IllegalArgumentException("Table is not active: " + table.getTableNumber());
+            }
+            if (table.getCapacity() < partySize) {
+                throw new IllegalArgumentException(String.format("Table %s seats %d, party is %d",
+                        table.getTableNumber(), table.getCapacity(), partySize));
+            }
+            return List.of(table);
+        }
+        return fittingTables(partySize).stream()
+                .map(table -> tablesRepository.getReferenceById(table.id()))
+                .toList();
+    }
+
+    private List<TableStateResponse> fittingTables(int partySize) {
+        return tableBoardService.getBoard().tables().stream()
+                .filter(table -> table.isActive() && table.capacity() >= partySize)
+                .sorted(Comparator.comparing(TableStateResponse::capacity).thenComparing(TableStateResponse::id))
+                .toList();
+    }
+}
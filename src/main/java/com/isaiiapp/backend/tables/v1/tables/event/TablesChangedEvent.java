@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.tables.v1.tables.event;
+
+/**
+ * Evento publicado cuando se crea, modifica, activa/desactiva o elimina una mesa
+ */
+public record TablesChangedEvent(Long tableId) {
+}
@@ -0,0 +1,7 @@
+package com.isaiiapp.backend.tables.v1.tables.event;
+
+/**
+ * Evento publicado cuando cambia el número de una mesa (para modelos de lectura desnormalizados)
+ */
+public record TablesRenumberedEvent(Long tableId) {
+}
@@ -1,7 +1,9 @@
 package com.isaiiapp.backend.tables.v1.tables.mapper;
 
 import com.isaiiapp.backend.tables.v1.tables.dto.request.CreateTablesRequest;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
 import com.isaiiapp.backend.tables.v1.tables.dto.response.TablesResponse;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
 import com.isaiiapp.backend.tables.v1.tables.model.Tables;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +18,7 @@ public class TablesMapper {
         table.setTableNumber(request.getTableNumber());
         table.setCapacity(request.getCapacity());
         table.setIsActive(request.getIsActive());
-        table.setStatus(request.getStatus());
+        table.setStatus(TableStatus.fromValue(request.getStatus()));
         return table;
     }
 
@@ -29,7 +31,20 @@ public class TablesMapper {
         response.setTableNumber(table.getTableNumber());
         response.setCapacity(table.getCapacity());
         response.setIsActive(table.getIsActive());
-        response.setStatus(table.getStatus());
+        response.setStatus(table.getStatus().name());
+        return response;
+    }
+
+    /**
+     * Convertir estado del tablero de ocupación a TablesResponse
+     */
+    public TablesResponse toResponse(TableStateResponse state) {
+        TablesResponse response = new TablesResponse();
+        response.setId(state.id());
+        response.setTableNumber(state.tableNumber());
+        response.setCapacity(state.capacity());
+        response.setIsActive(state.isActive());
+        response.setStatus(state.status().name());
         return response;
     }
 }
@@ -0,0 +1,61 @@
+package com.isaiiapp.backend.tables.v1.tables.model;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Ciclo de ocupación de una mesa: libre → sentada → ordenando → pagando → limpieza → libre
+ */
+public enum TableStatus {
+    FREE,
+    SEATED,
+    ORDERING,
+    PAYING,
+    CLEANING;
+
+    /**
+     * Transiciones permitidas desde este estado
+     */
+    public Set<TableStatus> next() {
+        return switch (this) {
+            case FREE -> Set.of(SEATED);
+            // El grupo puede irse sin ordenar
+            case SEATED -> Set.of(ORDERING, CLEANING);
+            case ORDERING -> Set.of(PAYING);
+            case PAYING -> Set.of(CLEANING);
+            case CLEANING -> Set.of(FREE);
+        };
+    }
+
+    public boolean canTransitionTo(TableStatus target) {
+        return next().contains(target);
+    }
+
+    /**
+     * Mesa con un grupo sentado
+     */
+    public boolean isOccupied() {
+        return this == SEATED || this == ORDERING || this == PAYING;
+    }
+
+    /**
+     * Normalizar el texto recibido, aceptando el vocabulario anterior ("free", "AVAILABLE", "OCCUPIED")
+     */
+    public static TableStatus fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Table status should not be blank");
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return switch (normalized) {
+            case "AVAILABLE" -> FREE;
+            case "OCCUPIED" -> SEATED;
+            default -> {
+                try {
+                    yield TableStatus.valueOf(normalized);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid table status: " + value);
+                }
+            }
+        };
+    }
+}
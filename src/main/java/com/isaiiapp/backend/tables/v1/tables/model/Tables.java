@@ -18,7 +18,8 @@ import lombok.NoArgsConstructor;
 public class Tables {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tables_seq_gen")
+    @SequenceGenerator(name = "tables_seq_gen", schema = "tables", sequenceName = "tables_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Table number should not be null")
@@ -35,7 +36,7 @@ public class Tables {
     private Boolean isActive;
 
     @NotNull(message = "Status should not be null")
-    @Size(max = 10, message = "Status should not exceed 10 characters")
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 10)
-    private String status;
+    private TableStatus status;
 }
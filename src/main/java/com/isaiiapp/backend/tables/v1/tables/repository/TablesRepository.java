@@ -1,9 +1,11 @@
 package com.isaiiapp.backend.tables.v1.tables.repository;
 
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
 import com.isaiiapp.backend.tables.v1.tables.model.Tables;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,9 +25,6 @@ public interface TablesRepository extends JpaRepository<Tables, Long>{
     @Query("SELECT t FROM Tables t WHERE t.isActive = false")
     Page<Tables> findAllInactive(Pageable pageable);
 
-    @Query("SELECT t FROM Tables t WHERE t.status = :status")
-    Page<Tables> findByStatus(@Param("status") String status, Pageable pageable);
-
     @Query("SELECT t FROM Tables t WHERE t.capacity >= :minCapacity")
     Page<Tables> findByMinCapacity(@Param("minCapacity") Integer minCapacity, Pageable pageable);
 
@@ -37,19 +36,8 @@ public interface TablesRepository extends JpaRepository<Tables, Long>{
     @Query("SELECT t FROM Tables t WHERE LOWER(t.tableNumber) LIKE LOWER(CONCAT('%', :tableNumber, '%'))")
     Page<Tables> findByTableNumberContaining(@Param("tableNumber") String tableNumber, Pageable pageable);
 
-    @Query("SELECT t FROM Tables t WHERE t.isActive = true AND t.status = 'AVAILABLE'")
-    Page<Tables> findAvailableTables(Pageable pageable);
-
-    @Query("SELECT t FROM Tables t WHERE t.isActive = true AND t.status = 'OCCUPIED'")
-    Page<Tables> findOccupiedTables(Pageable pageable);
-
-    @Query("SELECT COUNT(t) FROM Tables t WHERE t.isActive = true")
-    Long countActiveTables();
-
-    @Query("SELECT COUNT(t) FROM Tables t WHERE t.status = :status")
-    Long countByStatus(@Param("status") String status);
-
-    @Query("SELECT AVG(t.capacity) FROM Tables t WHERE t.isActive = true")
-    Double getAverageCapacity();
-
+    // Escritura directa del estado desde el tablero de ocupación, sin cargar la entidad
+    @Modifying
+    @Query("UPDATE Tables t SET t.status = :status WHERE t.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") TableStatus status);
 }
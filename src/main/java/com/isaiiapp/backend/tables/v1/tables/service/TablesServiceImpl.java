@@ -2,19 +2,27 @@ package com.isaiiapp.backend.tables.v1.tables.service;
 
 import com.isaiiapp.backend.auth.v1.exception.DuplicateResourceException;
 import com.isaiiapp.backend.auth.v1.exception.ResourceNotFoundException;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
 import com.isaiiapp.backend.tables.v1.tables.dto.request.CreateTablesRequest;
 import com.isaiiapp.backend.tables.v1.tables.dto.request.UpdateTablesRequest;
 import com.isaiiapp.backend.tables.v1.tables.dto.response.TablesResponse;
+import com.isaiiapp.backend.tables.v1.tables.event.TablesChangedEvent;
+import com.isaiiapp.backend.tables.v1.tables.event.TablesRenumberedEvent;
 import com.isaiiapp.backend.tables.v1.tables.mapper.TablesMapper;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
 import com.isaiiapp.backend.tables.v1.tables.model.Tables;
 import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -25,6 +33,8 @@ public class TablesServiceImpl implements TablesService{
 
     private final TablesRepository tablesRepository;
     private final TablesMapper tablesMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TableBoardService tableBoardService;
 
     @Override
     public TablesResponse createTable(CreateTablesRequest request) {
@@ -37,6 +47,7 @@ public class TablesServiceImpl implements TablesService{
 
         Tables table = tablesMapper.toEntity(request);
         Tables savedTable = tablesRepository.save(table);
+        eventPublisher.publishEvent(new TablesChangedEvent(savedTable.getId()));
 
         log.info("Table created successfully with ID: {}", savedTable.getId());
         return tablesMapper.toResponse(savedTable);
@@ -69,6 +80,7 @@ public class TablesServiceImpl implements TablesService{
                 throw new DuplicateResourceException("Table", "tableNumber", request.getTableNumber());
             }
             table.setTableNumber(request.getTableNumber());
+            eventPublisher.publishEvent(new TablesRenumberedEvent(id));
         }
 
         if (request.getCapacity() != null) {
@@ -79,11 +91,15 @@ public class TablesServiceImpl implements TablesService{
             table.setIsActive(request.getIsActive());
         }
 
+        Tables updatedTable = tablesRepository.save(table);
+
         if (request.getStatus() != null) {
-            table.setStatus(request.getStatus());
+            TableStatus status = TableStatus.fromValue(request.getStatus());
+            updatedTable.setStatus(status);
+            tableBoardService.setStatus(id, status);
         }
+        eventPublisher.publishEvent(new TablesChangedEvent(id));
 
-        Tables updatedTable = tablesRepository.save(table);
         log.info("Table updated successfully with ID: {}", id);
         return tablesMapper.toResponse(updatedTable);
     }
@@ -97,6 +113,7 @@ public class TablesServiceImpl implements TablesService{
         }
 
         tablesRepository.deleteById(id);
+        eventPublisher.publishEvent(new TablesChangedEvent(id));
         log.info("Table deleted successfully with ID: {}", id);
     }
 
@@ -115,23 +132,24 @@ public class TablesServiceImpl implements TablesService{
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<TablesResponse> getTablesByStatus(String status, Pageable pageable) {
-        return tablesRepository.findByStatus(status, pageable)
+        TableStatus tableStatus = TableStatus.fromValue(status);
+        return tableBoardService.findTables(table -> table.status() == tableStatus, pageable)
                 .map(tablesMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<TablesResponse> getAvailableTables(Pageable pageable) {
-        return tablesRepository.findAvailableTables(pageable)
+        return tableBoardService.findTables(table -> table.isActive() && table.status() == TableStatus.FREE, pageable)
                 .map(tablesMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<TablesResponse> getOccupiedTables(Pageable pageable) {
-        return tablesRepository.findOccupiedTables(pageable)
+        return tableBoardService.findTables(table -> table.isActive() && table.status().isOccupied(), pageable)
                 .map(tablesMapper::toResponse);
     }
 
@@ -160,11 +178,7 @@ public class TablesServiceImpl implements TablesService{
     public void changeTableStatus(Long id, String status) {
         log.info("Changing table status for ID: {} to {}", id, status);
 
-        Tables table = tablesRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Table", "id", id));
-
-        table.setStatus(status);
-        tablesRepository.save(table);
+        tableBoardService.setStatus(id, TableStatus.fromValue(status));
 
         log.info("Table status changed successfully for ID: {}", id);
     }
@@ -178,6 +192,7 @@ public class TablesServiceImpl implements TablesService{
 
         table.setIsActive(isActive);
         tablesRepository.save(table);
+        eventPublisher.publishEvent(new TablesChangedEvent(id));
 
         log.info("Table status toggled successfully for ID: {}", id);
     }
@@ -195,14 +210,32 @@ public class TablesServiceImpl implements TablesService{
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TableStatsResponse getTableStats() {
-        Long totalTables = tablesRepository.count();
-        Long activeTables = tablesRepository.countActiveTables();
-        Long availableTables = tablesRepository.countByStatus("AVAILABLE");
-        Long occupiedTables = tablesRepository.countByStatus("OCCUPIED");
-        Double averageCapacity = tablesRepository.getAverageCapacity();
-
-        return new TableStatsResponse(totalTables, activeTables, availableTables, occupiedTables, averageCapacity);
+        // Calculado sobre el tablero en memoria: no hay consulta que cachear
+        List<TableStateResponse> tables = tableBoardService.getBoard().tables();
+        long active = 0;
+        long available = 0;
+        long occupied = 0;
+        long activeCapacity = 0;
+        for (TableStateResponse table : tables) {
+            if (!table.isActive()) {
+                continue;
+            }
+            active++;
+            activeCapacity += table.capacity();
+            if (table.status() == TableStatus.FREE) {
+                available++;
+            } else if (table.status().isOccupied()) {
+                occupied++;
+            }
+        }
+        return new TableStatsResponse(
+                (long) tables.size(),
+                active,
+                available,
+                occupied,
+                active > 0 ? (double) activeCapacity / active : null
+        );
     }
 }
@@ -0,0 +1,33 @@
+package com.isaiiapp.backend.tables.v1.turnover.controller;
+
+import com.isaiiapp.backend.tables.v1.turnover.service.TableTurnoverService;
+import com.isaiiapp.backend.tables.v1.turnover.service.TableTurnoverService.TurnoverStatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/v1/tables/statistics/turnover")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class TableTurnoverController {
+
+    private final TableTurnoverService tableTurnoverService;
+
+    /**
+     * Obtener permanencia promedio (primera orden confirmada → última pagada) por mesa y por hora
+     * Sin fecha se usa el día de negocio actual
+     */
+    @GetMapping
+    public ResponseEntity<TurnoverStatsResponse> getTurnover(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long tableId) {
+        log.debug("REST request to get table turnover for business day: {}", date);
+        return ResponseEntity.ok(tableTurnoverService.getTurnover(date, tableId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.isaiiapp.backend.tables.v1.turnover.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Agregado de permanencia por (día de negocio, mesa, hora en que se sentó el grupo)
+ * Permanencia = confirmación de la primera orden → pago de la última orden de la misma ocupación
+ */
+@Entity
+@Table(schema = "tables", name = "table_turnover_daily",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "table_turnover_daily_key_uk",
+                        columnNames = {"business_day", "table_id", "hour"})
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TableTurnoverDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Business day should not be null")
+    @Column(name = "business_day", nullable = false)
+    private LocalDate businessDay;
+
+    // Sin FK a tables: el histórico se conserva aunque la mesa se elimine
+    @NotNull(message = "Table should not be null")
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    @NotNull(message = "Hour should not be null")
+    @Column(nullable = false)
+    private Integer hour;
+
+    @NotNull(message = "Seatings should not be null")
+    @Column(nullable = false)
+    private Long seatings;
+
+    @NotNull(message = "Total dwell seconds should not be null")
+    @Column(name = "total_dwell_seconds", nullable = false)
+    private Long totalDwellSeconds;
+
+    @NotNull(message = "Max dwell seconds should not be null")
+    @Column(name = "max_dwell_seconds", nullable = false)
+    private Long maxDwellSeconds;
+}
@@ -0,0 +1,34 @@
+package com.isaiiapp.backend.tables.v1.turnover.repository;
+
+import com.isaiiapp.backend.tables.v1.turnover.model.TableTurnoverDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TableTurnoverDailyRepository extends JpaRepository<TableTurnoverDaily, Long> {
+
+    // Suma una ocupación cerrada a su bucket
+    @Modifying
+    @Query(value = "INSERT INTO tables.table_turnover_daily AS t " +
+            "(business_day, table_id, hour, seatings, total_dwell_seconds, max_dwell_seconds) " +
+            "VALUES (:businessDay, :tableId, :hour, 1, :dwellSeconds, :dwellSeconds) " +
+            "ON CONFLICT (business_day, table_id, hour) DO UPDATE SET " +
+            "seatings = t.seatings + 1, " +
+            "total_dwell_seconds = t.total_dwell_seconds + EXCLUDED.total_dwell_seconds, " +
+            "max_dwell_seconds = GREATEST(t.max_dwell_seconds, EXCLUDED.max_dwell_seconds)", nativeQuery = true)
+    int addSeating(@Param("businessDay") LocalDate businessDay,
+                   @Param("tableId") Long tableId,
+                   @Param("hour") int hour,
+                   @Param("dwellSeconds") long dwellSeconds);
+
+    @Query("SELECT t.businessDay, t.tableId, t.hour, t.seatings, t.totalDwellSeconds, t.maxDwellSeconds " +
+            "FROM TableTurnoverDaily t WHERE t.businessDay BETWEEN :fromDay AND :toDay")
+    List<Object[]> findRowsBetween(@Param("fromDay") LocalDate fromDay,
+                                   @Param("toDay") LocalDate toDay);
+}
@@ -0,0 +1,73 @@
+package com.isaiiapp.backend.tables.v1.turnover.service;
+
+import com.isaiiapp.backend.order.v1.orders.model.Order;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEvent;
+import com.isaiiapp.backend.order.v1.outbox.model.OrderEventType;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventHandler;
+import com.isaiiapp.backend.order.v1.outbox.service.OrderEventPayloads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Alimenta las ocupaciones de mesa con las transiciones de órdenes en mesa (no para llevar)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TableTurnoverEventHandler implements OrderEventHandler {
+
+    private final TableTurnoverService tableTurnoverService;
+    private final OrderRepository orderRepository;
+    private final OrderEventPayloads orderEventPayloads;
+
+    @Override
+    public Set<OrderEventType> supportedTypes() {
+        return Set.of(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_UPDATED, OrderEventType.ORDER_PAID,
+                OrderEventType.ORDER_CANCELED, OrderEventType.ORDER_DELETED);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        switch (event.getEventType()) {
+            case ORDER_CANCELED, ORDER_DELETED -> tableTurnoverService.recordOrderDropped(event.getOrderId());
+            case ORDER_CREATED -> findDineIn(event).ifPresent(order -> tableTurnoverService.recordOrderOpened(
+                    order.getId(), order.getTable().getId(), order.getConfirmedAt()));
+            case ORDER_UPDATED -> orderRepository.findById(event.getOrderId())
+                    .filter(order -> order.getPaidAt() == null)
+                    .ifPresent(this::recordOrderUpdated);
+            case ORDER_PAID -> {
+                if (orderEventPayloads.isFirstTransition(event)) {
+                    orderRepository.findById(event.getOrderId()).ifPresent(order ->
+                            tableTurnoverService.recordOrderPaid(order.getId(), order.getPaidAt()));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Una orden abierta puede cambiar de mesa o pasar a ser para llevar; la ocupación la sigue
+     */
+    private void recordOrderUpdated(Order order) {
+        if (Boolean.TRUE.equals(order.getIsTakeaway()) || order.getCanceledAt() != null) {
+            tableTurnoverService.recordOrderDropped(order.getId());
+        } else {
+            tableTurnoverService.recordOrderMoved(order.getId(), order.getTable().getId(), order.getConfirmedAt());
+        }
+    }
+
+    private Optional<Order> findDineIn(OrderEvent event) {
+        Optional<Order> order = orderRepository.findById(event.getOrderId())
+                .filter(found -> !Boolean.TRUE.equals(found.getIsTakeaway()) && found.getCanceledAt() == null);
+        if (order.isEmpty()) {
+            log.debug("Order ID: {} is not an open dine-in order, skipping turnover sample", event.getOrderId());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,58 @@
+package com.isaiiapp.backend.tables.v1.turnover.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TableTurnoverService {
+
+    /**
+     * Registrar una orden confirmada en mesa: abre la ocupación si la mesa no tenía una
+     */
+    void recordOrderOpened(Long orderId, Long tableId, LocalDateTime confirmedAt);
+
+    /**
+     * Registrar el pago de una orden: si era la última abierta, la ocupación se cierra
+     */
+    void recordOrderPaid(Long orderId, LocalDateTime paidAt);
+
+    /**
+     * Registrar que una orden abierta en mesa pasó a otra mesa (o que dejó de ser para llevar)
+     */
+    void recordOrderMoved(Long orderId, Long tableId, LocalDateTime confirmedAt);
+
+    /**
+     * Registrar una orden cancelada o eliminada sin pagar
+     */
+    void recordOrderDropped(Long orderId);
+
+    /**
+     * Obtener permanencia promedio por mesa y por hora de un día de negocio
+     */
+    TurnoverStatsResponse getTurnover(LocalDate businessDay, Long tableId);
+
+    // DTOs
+    record TurnoverStatsResponse(
+            LocalDate businessDay,
+            Long seatings,
+            Double averageDwellMinutes,
+            Double maxDwellMinutes,
+            Integer openSeatings,
+            List<TableTurnoverResponse> byTable,
+            List<HourTurnoverResponse> byHour
+    ) {}
+
+    record TableTurnoverResponse(
+            Long tableId,
+            String tableNumber,
+            Long seatings,
+            Double averageDwellMinutes,
+            Double maxDwellMinutes
+    ) {}
+
+    record HourTurnoverResponse(
+            Integer hourOfDay,
+            Long seatings,
+            Double averageDwellMinutes
+    ) {}
+}
@@ -0,0 +1,291 @@
+package com.isaiiapp.backend.tables.v1.turnover.service;
+
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.rollup.service.BusinessDayClock;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService;
+import com.isaiiapp.backend.tables.v1.board.service.TableBoardService.TableStateResponse;
+import com.isaiiapp.backend.tables.v1.turnover.repository.TableTurnoverDailyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+@Transactional
+public class TableTurnoverServiceImpl implements TableTurnoverService {
+
+    private final TableTurnoverDailyRepository turnoverRepository;
+    private final OrderRepository orderRepository;
+    private final TableBoardService tableBoardService;
+    private final BusinessDayClock businessDayClock;
+    private final int memoryDays;
+
+    // Ocupaciones abiertas por mesa
+    private final ConcurrentHashMap<Long, Seating> seatings = new ConcurrentHashMap<>();
+    // Agregados de los días recientes por (mesa, hora); los días anteriores se leen de la base
+    private final ConcurrentHashMap<LocalDate, ConcurrentHashMap<SliceKey, Accumulator>> days = new ConcurrentHashMap<>();
+
+    public TableTurnoverServiceImpl(
+            TableTurnoverDailyRepository turnoverRepository,
+            OrderRepository orderRepository,
+            TableBoardService tableBoardService,
+            BusinessDayClock businessDayClock,
+            @Value("${app.table-turnover.memory-days:2}") int memoryDays) {
+        this.turnoverRepository = turnoverRepository;
+        this.orderRepository = orderRepository;
+        this.tableBoardService = tableBoardService;
+        this.businessDayClock = businessDayClock;
+        this.memoryDays = memoryDays;
+    }
+
+    @Override
+    public void recordOrderOpened(Long orderId, Long tableId, LocalDateTime confirmedAt) {
+        seatings.compute(tableId, (id, seating) -> seating == null
+                ? new Seating(confirmedAt, Set.of(orderId), null)
+                : seating.withOrder(orderId));
+    }
+
+    @Override
+    public void recordOrderPaid(Long orderId, LocalDateTime paidAt) {
+        // La mesa se busca por la orden: pudo cambiar de mesa después de abrirse
+        Long tableId = findTableOf(orderId);
+        if (tableId != null) {
+            removeOrder(tableId, orderId, paidAt);
+        }
+    }
+
+    @Override
+    public void recordOrderMoved(Long orderId, Long tableId, LocalDateTime confirmedAt) {
+        Long previousTableId = findTableOf(orderId);
+        if (tableId.equals(previousTableId)) {
+            return;
+        }
+        if (previousTableId != null) {
+            removeOrder(previousTableId, orderId, null);
+        }
+        recordOrderOpened(orderId, tableId, confirmedAt);
+    }
+
+    @Override
+    public void recordOrderDropped(Long orderId) {
+        Long tableId = findTableOf(orderId);
+        if (tableId != null) {
+            removeOrder(tableId, orderId, null);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TurnoverStatsResponse getTurnover(LocalDate businessDay, Long tableId) {
+        LocalDate day = businessDay != null ? businessDay : businessDayClock.today();
+        log.debug("Fetching table turnover for business day: {}", day);
+
+        Map<SliceKey, long[]> slices = new HashMap<>();
+        Map<SliceKey, Accumulator> inMemory = days.get(day);
+        if (inMemory != null) {
+            inMemory.forEach((key, accumulator) -> slices.put(key, accumulator.snapshot()));
+        } else {
+            for (Object[] row : turnoverRepository.findRowsBetween(day, day)) {
+                slices.put(new SliceKey((Long) row[1], (Integer) row[2]),
+                        new long[]{(Long) row[3], (Long) row[4], (Long) row[5]});
+            }
+        }
+
+        Map<Long, long[]> byTable = new TreeMap<>();
+        Map<Integer, long[]> byHour = new TreeMap<>();
+        long[] total = new long[3];
+        slices.forEach((key, values) -> {
+            if (tableId != null && !tableId.equals(key.tableId())) {
+                return;
+            }
+            add(byTable.computeIfAbsent(key.tableId(), id -> new long[3]), values);
+            add(byHour.computeIfAbsent(key.hour(), hour -> new long[3]), values);
+            add(total, values);
+        });
+
+        Map<Long, String> tableNumbers = new HashMap<>();
+        for (TableStateResponse table : tableBoardService.getBoard().tables()) {
+            tableNumbers.put(table.id(), table.tableNumber());
+        }
+
+        List<TableTurnoverResponse> tables = new ArrayList<>(byTable.size());
+        byTable.forEach((id, values) -> tables.add(new TableTurnoverResponse(
+                id, tableNumbers.get(id), values[0], averageMinutes(values), values[2] / 60.0)));
+        tables.sort(Comparator.comparing(TableTurnoverResponse::tableNumber, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<HourTurnoverResponse> hours = new ArrayList<>(byHour.size());
+        byHour.forEach((hour, values) -> hours.add(new HourTurnoverResponse(hour, values[0], averageMinutes(values))));
+
+        int open = tableId != null ? (seatings.containsKey(tableId) ? 1 : 0) : seatings.size();
+        return new TurnoverStatsResponse(day, total[0], averageMinutes(total),
+                total[0] > 0 ? total[2] / 60.0 : null, open, tables, hours);
+    }
+
+    /**
+     * Reconstruir ocupaciones abiertas y agregados recientes al arrancar, sin recorrer el historial de órdenes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        seatings.clear();
+        for (Object[] row : orderRepository.findOpenDineInRows()) {
+            Long orderId = (Long) row[0];
+            Long tableId = (Long) row[1];
+            LocalDateTime confirmedAt = (LocalDateTime) row[2];
+            seatings.merge(tableId, new Seating(confirmedAt, Set.of(orderId), null), (current, added) ->
+                    new Seating(current.startedAt().isBefore(confirmedAt) ? current.startedAt() : confirmedAt,
+                            current.withOrder(orderId).openOrderIds(), null));
+        }
+
+        days.clear();
+        LocalDate today = businessDayClock.today();
+        for (Object[] row : turnoverRepository.findRowsBetween(today.minusDays(memoryDays - 1L), today)) {
+            days.computeIfAbsent((LocalDate) row[0], day -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(new SliceKey((Long) row[1], (Integer) row[2]), key -> new Accumulator())
+                    .add((Long) row[3], (Long) row[4], (Long) row[5]);
+        }
+        log.info("Table turnover warmed up with {} open seatings", seatings.size());
+    }
+
+    private Long findTableOf(Long orderId) {
+        for (Map.Entry<Long, Seating> entry : seatings.entrySet()) {
+            if (entry.getValue().openOrderIds().contains(orderId)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Quitar la orden de la ocupación de forma atómica por mesa (los eventos de órdenes distintas
+     * se despachan en paralelo); si era la última y hubo pagos, la ocupación se cierra
+     */
+    private void removeOrder(Long tableId, Long orderId, LocalDateTime paidAt) {
+        Seating[] closed = new Seating[1];
+        seatings.computeIfPresent(tableId, (id, seating) -> {
+            if (!seating.openOrderIds().contains(orderId)) {
+                return seating;
+            }
+            Seating remaining = seating.withoutOrder(orderId, paidAt);
+            if (!remaining.openOrderIds().isEmpty()) {
+                return remaining;
+            }
+            closed[0] = seating;
+            return null;
+        });
+
+        Seating seating = closed[0];
+        if (seating == null) {
+            return;
+        }
+        LocalDateTime closedAt = seating.withoutOrder(orderId, paidAt).lastPaidAt();
+        if (closedAt != null) {
+            close(tableId, seating, closedAt);
+        }
+        // Sin ningún pago no hubo ocupación que medir
+    }
+
+    private void close(Long tableId, Seating seating, LocalDateTime closedAt) {
+        LocalDate businessDay = businessDayClock.businessDayOf(seating.startedAt());
+        int hour = seating.startedAt().getHour();
+        long dwellSeconds = Math.max(0, Duration.between(seating.startedAt(), closedAt).getSeconds());
+
+        turnoverRepository.addSeating(businessDay, tableId, hour, dwellSeconds);
+
+        // Agregados en memoria solo tras confirmar; si el evento falla, la ocupación se restaura
+        // para que el reintento la vuelva a cerrar sin contarla dos veces
+        Runnable apply = () -> {
+            LocalDate oldest = businessDayClock.today().minusDays(memoryDays - 1L);
+            if (!businessDay.isBefore(oldest)) {
+                days.computeIfAbsent(businessDay, day -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(new SliceKey(tableId, hour), key -> new Accumulator())
+                        .add(1, dwellSeconds, dwellSeconds);
+            }
+            days.keySet().removeIf(day -> day.isBefore(oldest));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        seatings.putIfAbsent(tableId, seating);
+                    }
+                }
+            });
+        }
+        log.debug("Seating closed on table ID: {} after {} seconds", tableId, dwellSeconds);
+    }
+
+    private static void add(long[] target, long[] values) {
+        target[0] += values[0];
+        target[1] += values[1];
+        target[2] = Math.max(target[2], values[2]);
+    }
+
+    private static Double averageMinutes(long[] values) {
+        return values[0] > 0 ? values[1] / (double) values[0] / 60.0 : null;
+    }
+
+    /**
+     * Ocupación abierta: inicio, órdenes sin pagar y último pago registrado
+     */
+    private record Seating(LocalDateTime startedAt, Set<Long> openOrderIds, LocalDateTime lastPaidAt) {
+
+        Seating withOrder(Long orderId) {
+            Set<Long> orders = new HashSet<>(openOrderIds);
+            orders.add(orderId);
+            return new Seating(startedAt, Set.copyOf(orders), lastPaidAt);
+        }
+
+        Seating withoutOrder(Long orderId, LocalDateTime paidAt) {
+            Set<Long> orders = new HashSet<>(openOrderIds);
+            orders.remove(orderId);
+            LocalDateTime lastPaid = paidAt != null && (lastPaidAt == null || paidAt.isAfter(lastPaidAt)) ? paidAt : lastPaidAt;
+            return new Seating(startedAt, Set.copyOf(orders), lastPaid);
+        }
+    }
+
+    private record SliceKey(Long tableId, int hour) {}
+
+    private static final class Accumulator {
+
+        private long seatings;
+        private long totalSeconds;
+        private long maxSeconds;
+
+        private synchronized void add(long count, long total, long max) {
+            seatings += count;
+            totalSeconds += total;
+            maxSeconds = Math.max(maxSeconds, max);
+        }
+
+        private synchronized long[] snapshot() {
+            return new long[]{seatings, totalSeconds, maxSeconds};
+        }
+    }
+}
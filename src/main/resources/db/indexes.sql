@@ -0,0 +1,43 @@
+-- =====================================================
+-- ÍNDICES Y FUNCIONES ADICIONALES (se ejecuta después de que Hibernate crea las tablas)
+-- =====================================================
+
+-- 1. Búsqueda de texto: trigramas + comparación sin acentos
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() no es IMMUTABLE; este envoltorio fija el diccionario para poder indexarlo
+CREATE OR REPLACE FUNCTION public.f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+CREATE INDEX IF NOT EXISTS orders_notes_trgm_idx
+    ON orders.orders USING gin (public.f_unaccent(lower(notes)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS order_item_special_instructions_trgm_idx
+    ON orders.order_item USING gin (public.f_unaccent(lower(special_instructions)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS product_name_trgm_idx
+    ON product.product USING gin (public.f_unaccent(lower(name)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS order_summary_waiter_name_trgm_idx
+    ON orders.order_summary USING gin (public.f_unaccent(lower(waiter_name)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS order_summary_notes_trgm_idx
+    ON orders.order_summary USING gin (public.f_unaccent(lower(notes)) gin_trgm_ops);
+
+-- 2. Cuenta abierta por mesa: solo las órdenes sin pagar ni cancelar
+CREATE INDEX IF NOT EXISTS orders_open_by_table_idx
+    ON orders.orders (table_id, created_at DESC)
+    WHERE paid_at IS NULL AND canceled_at IS NULL;
+
+-- 3. Outbox de órdenes: solo los eventos pendientes de despachar
+CREATE INDEX IF NOT EXISTS order_outbox_pending_idx
+    ON orders.order_outbox (id)
+    WHERE processed_at IS NULL AND failed_at IS NULL;
+
+-- Eventos en espera de reintento por orden (bloquean los posteriores de la misma orden)
+CREATE INDEX IF NOT EXISTS order_outbox_backoff_idx
+    ON orders.order_outbox (order_id, id)
+    WHERE processed_at IS NULL AND failed_at IS NULL AND available_at IS NOT NULL;
+
+-- 4. Historial de precios: a lo sumo un tramo vigente por producto
+CREATE UNIQUE INDEX IF NOT EXISTS product_price_history_open_idx
+    ON product.product_price_history (product_id)
+    WHERE valid_to IS NULL;
@@ -0,0 +1,215 @@
+package com.isaiiapp.backend.benchmark;
+
+import com.isaiiapp.backend.auth.v1.session.model.Session;
+import com.isaiiapp.backend.auth.v1.session.repository.SessionRepository;
+import com.isaiiapp.backend.auth.v1.users.model.Users;
+import com.isaiiapp.backend.auth.v1.users.repository.UsersRepository;
+import com.isaiiapp.backend.order.v1.orderitems.model.OrderItem;
+import com.isaiiapp.backend.order.v1.orderitems.repository.OrderItemRepository;
+import com.isaiiapp.backend.order.v1.orders.model.Order;
+import com.isaiiapp.backend.order.v1.orders.repository.OrderRepository;
+import com.isaiiapp.backend.order.v1.status.model.Status;
+import com.isaiiapp.backend.order.v1.status.repository.StatusRepository;
+import com.isaiiapp.backend.product.v1.category.model.Category;
+import com.isaiiapp.backend.product.v1.category.repository.CategoryRepository;
+import com.isaiiapp.backend.product.v1.product.model.Product;
+import com.isaiiapp.backend.product.v1.product.repository.ProductRepository;
+import com.isaiiapp.backend.tables.v1.tables.model.TableStatus;
+import com.isaiiapp.backend.tables.v1.tables.model.Tables;
+import com.isaiiapp.backend.tables.v1.tables.repository.TablesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de inserciones masivas de ítems de orden y sesiones (filas/segundo)
+ * "Antes" es una aproximación de IDENTITY: misma secuencia con bloques pero lote JDBC de 1,
+ * un viaje a la base de datos por fila (no incluye el SELECT del id que IDENTITY añade);
+ * "después" usa las secuencias con bloques y el tamaño de lote configurado.
+ * Requiere la base de datos del perfil docker: RUN_BENCHMARKS=true ./gradlew test --tests '*BulkInsertBenchmarkTest'
+ */
+@SpringBootTest
+@ActiveProfiles("docker")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+public class BulkInsertBenchmarkTest {
+
+    // Lombok no está en el classpath de pruebas; equivale a @Slf4j
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private TablesRepository tablesRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int configuredBatchSize;
+
+    private Users user;
+    private Tables table;
+    private Status status;
+    private Category category;
+    private Product product;
+    private Order order;
+
+    @BeforeEach
+    void setupFixtures() {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+
+        user = usersRepository.save(new Users(null, "B" + suffix, "Bench", "Mark", true));
+        table = tablesRepository.save(new Tables(null, "B" + suffix, 4, true, TableStatus.FREE));
+
+        status = new Status();
+        status.setName("BENCH_" + suffix);
+        status.setDescription("Benchmark");
+        status.setCode("BENCH_" + suffix);
+        status = statusRepository.save(status);
+
+        category = new Category();
+        category.setName("Bench " + suffix);
+        category.setDescription("Benchmark");
+        category.setIsActive(true);
+        category = categoryRepository.save(category);
+
+        product = new Product();
+        product.setCategory(category);
+        product.setName("Bench product " + suffix);
+        product.setDescription("Benchmark");
+        product.setPrice(new BigDecimal("2.50"));
+        product.setIsActive(true);
+        product = productRepository.save(product);
+
+        order = new Order();
+        order.setUser(user);
+        order.setTable(table);
+        order.setStatus(status);
+        order.setIsTakeaway(false);
+        order.setTotalAmount(BigDecimal.ZERO);
+        order = orderRepository.save(order);
+    }
+
+    @AfterEach
+    void cleanFixtures() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            entityManager.createQuery("DELETE FROM OrderItem oi WHERE oi.order.id = :orderId")
+                    .setParameter("orderId", order.getId())
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Session s WHERE s.user.id = :userId")
+                    .setParameter("userId", user.getId())
+                    .executeUpdate();
+        });
+        orderRepository.delete(order);
+        productRepository.delete(product);
+        categoryRepository.delete(category);
+        statusRepository.delete(status);
+        tablesRepository.delete(table);
+        usersRepository.delete(user);
+    }
+
+    @Test
+    void bulkOrderItemInserts() {
+        Supplier<List<OrderItem>> items = () -> {
+            List<OrderItem> batch = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1 + i % 3);
+                item.setUnitPrice(product.getPrice());
+                batch.add(item);
+            }
+            return batch;
+        };
+
+        measure("order_item", () -> orderItemRepository.saveAll(items.get()).size());
+    }
+
+    @Test
+    void bulkSessionInserts() {
+        Supplier<List<Session>> sessions = () -> {
+            List<Session> batch = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                Session session = new Session();
+                session.setUser(user);
+                session.setAccessToken(UUID.randomUUID().toString());
+                session.setRefreshToken(UUID.randomUUID().toString());
+                session.setIsActive(false);
+                batch.add(session);
+            }
+            return batch;
+        };
+
+        measure("session", () -> sessionRepository.saveAll(sessions.get()).size());
+    }
+
+    private void measure(String label, Supplier<Integer> insert) {
+        // Calentamiento: JIT, pool de conexiones y primer bloque de la secuencia
+        run(configuredBatchSize, insert);
+
+        double before = run(1, insert);
+        double after = run(configuredBatchSize, insert);
+
+        log.info("[benchmark] {}: {} rows | before (batch=1, IDENTITY proxy): {} rows/s | after (batch={}): {} rows/s | x{}",
+                label, ROWS, Math.round(before), configuredBatchSize, Math.round(after),
+                String.format("%.1f", after / before));
+
+        assertThat(before).isPositive();
+        assertThat(after).isPositive();
+    }
+
+    private double run(int batchSize, Supplier<Integer> insert) {
+        long start = System.nanoTime();
+        Integer inserted = transactionTemplate.execute(tx -> {
+            entityManager.unwrap(org.hibernate.Session.class).setJdbcBatchSize(batchSize);
+            int rows = insert.get();
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+        long elapsed = System.nanoTime() - start;
+        return inserted * 1_000_000_000.0 / elapsed;
+    }
+}